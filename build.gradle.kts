@@ -9,15 +9,33 @@ plugins {
 group = "me.jslim.point"
 version = "1.0.0"
 
+// 가상 스레드(spring.threads.virtual.enabled), JFR jdk.VirtualThreadPinned 이벤트는 Java 21 필요
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
+}
+
 repositories {
     mavenCentral()
 }
+
+// JMH 벤치마크 (src/jmh/java)
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
 dependencies {
     // spring
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("com.github.f4b6a3:uuid-creator:6.1.0")
+    // 스키마 버전 관리 (src/main/resources/db/migration)
+    implementation("org.flywaydb:flyway-core")
     // lombok
     annotationProcessor("org.projectlombok:lombok")
     compileOnly("org.projectlombok:lombok")
@@ -30,10 +48,17 @@ dependencies {
     testImplementation(platform("org.junit:junit-bom:5.10.0"))
     testImplementation("org.junit.jupiter:junit-jupiter")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    // 벤치마크
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 tasks.test {
-    useJUnitPlatform()
+    // 천만건 단위 부하 테스트(@Tag("stress"))는 stressTest 로 따로 실행
+    useJUnitPlatform {
+        excludeTags("stress")
+    }
     testLogging {
         events(
             TestLogEvent.PASSED,
@@ -46,4 +71,33 @@ tasks.test {
         showStackTraces = false
         showStandardStreams = false
     }
-}
\ No newline at end of file
+}
+
+/**
+ * 부하 테스트 (@Tag("stress"))
+ * ./gradlew stressTest
+ */
+tasks.register<Test>("stressTest") {
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("stress")
+    }
+}
+
+/**
+ * ./gradlew jmh
+ * ./gradlew jmh -Pbench.include=PointCommandBenchmark.use -Pbench.threads=1,8
+ */
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    classpath = jmh.runtimeClasspath
+    javaLauncher.set(javaToolchains.launcherFor(java.toolchain))
+    mainClass.set("me.jslim.point.benchmark.BenchmarkRunner")
+    args(
+        providers.gradleProperty("bench.include").getOrElse(".*Benchmark.*"),
+        providers.gradleProperty("bench.threads").getOrElse("1,4,16"),
+        layout.buildDirectory.dir("reports/jmh").get().asFile.absolutePath
+    )
+}
@@ -0,0 +1,89 @@
+package me.jslim.point.benchmark;
+
+import me.jslim.point.domain.entity.PointEarn;
+import me.jslim.point.domain.repository.PointEarnRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * use() 의 사용할 적립 조회 비용 (적립 1만건 지갑, 차감은 하지 않고 조회만 측정)
+ * - runningSum: 누적합(window function)으로 필요한 적립만 1번 조회 (findEarnsToCover)
+ * - pagedLoop: 기존 방식, 50건씩 keyset 페이지를 금액이 찰 때까지 반복 조회 (findAvailableEarns)
+ * - spanEarns: 사용금액을 채우는 데 필요한 적립 건수
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AllocationBenchmark {
+    static final int EARNS = 10_000;
+    static final int PAGE_SIZE = 50;
+
+    @Param({"1", "50", "5000"})
+    int spanEarns;
+
+    BenchmarkContext context;
+    PointEarnRepository earnRepo;
+    TransactionTemplate transactionTemplate;
+    String walletKey;
+    LocalDate today;
+    long amount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("perf");
+        earnRepo = context.bean(PointEarnRepository.class);
+        transactionTemplate = new TransactionTemplate(context.bean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+        today = LocalDate.now();
+        walletKey = BenchmarkData.seedWallet(context.jdbc(), "alloc-user", EARNS, today);
+        context.jdbc().execute("ANALYZE");
+
+        // 마지막 적립은 1원만 필요하도록
+        amount = (spanEarns - 1) * BenchmarkData.EARN_AMOUNT + 1;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<PointEarn> runningSum() {
+        return transactionTemplate.execute(status -> earnRepo.findEarnsToCover(walletKey, today, amount));
+    }
+
+    @Benchmark
+    public List<PointEarn> pagedLoop() {
+        return transactionTemplate.execute(status -> {
+            List<PointEarn> covered = new ArrayList<>();
+            long remaining = amount;
+            Boolean lastManual = null;
+            LocalDate lastExpire = null;
+            String lastEarnKey = null;
+            while (remaining > 0) {
+                List<PointEarn> earns = earnRepo.findAvailableEarns(walletKey, today, lastManual, lastExpire, lastEarnKey, PAGE_SIZE);
+                for (PointEarn earn : earns) {
+                    covered.add(earn);
+                    remaining -= earn.getEranBalanceAmount();
+                    if (remaining <= 0) break;
+                }
+                if (earns.size() < PAGE_SIZE) break;
+
+                PointEarn last = earns.getLast();
+                lastManual = last.isManual();
+                lastExpire = last.getExpireDate();
+                lastEarnKey = last.getEarnKey();
+            }
+            return covered;
+        });
+    }
+}
@@ -0,0 +1,83 @@
+package me.jslim.point.benchmark;
+
+import me.jslim.point.PointApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 Spring 컨텍스트
+ * - 벤치마크마다 독립된 in-memory H2 를 사용 (스키마는 애플리케이션과 같은 Flyway 스크립트로 생성)
+ * - web 서버는 띄우지 않음
+ */
+public final class BenchmarkContext implements AutoCloseable {
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkContext(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    /**
+     * SQL 로그를 끄고 시작
+     * @param profile    활성화할 profile
+     * @param properties 추가 설정 (key=value), spring.datasource.url 을 지정하면 인메모리 DB 대신 사용
+     */
+    public static BenchmarkContext start(String profile, String... properties) {
+        List<String> args = new ArrayList<>();
+        args.add("--spring.jpa.show-sql=false");
+        args.add("--logging.level.root=warn");
+        args.add("--logging.level.org.hibernate.SQL=warn");
+        args.add("--logging.level.org.hibernate.orm.jdbc.bind=warn");
+        args.add("--logging.level.org.hibernate.type.descriptor.jdbc=warn");
+        return run(profile, args, properties);
+    }
+
+    /**
+     * profile 의 로그 설정을 그대로 두고 시작 (profile 간 비교용)
+     * - 로그는 콘솔 대신 파일로 기록하여 JMH 출력에 섞이지 않게 함 (기록 비용은 그대로 측정)
+     */
+    public static BenchmarkContext startAsConfigured(String profile, String... properties) {
+        List<String> args = new ArrayList<>();
+        args.add("--logging.file.name=build/tmp/jmh/" + profile + "-" + UUID.randomUUID() + ".log");
+        args.add("--logging.pattern.console=");
+        return run(profile, args, properties);
+    }
+
+    private static BenchmarkContext run(String profile, List<String> args, String... properties) {
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"));
+
+        args.add("--spring.profiles.active=" + profile);
+        if (Arrays.stream(properties).noneMatch(property -> property.startsWith("spring.datasource.url="))) {
+            args.add("--spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        }
+        args.add("--spring.h2.console.enabled=false");
+        for (String property : properties) {
+            args.add("--" + property);
+        }
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(PointApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+        return new BenchmarkContext(context);
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public JdbcTemplate jdbc() {
+        return context.getBean(JdbcTemplate.class);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,128 @@
+package me.jslim.point.benchmark;
+
+import me.jslim.point.domain.type.EarnStatus;
+import me.jslim.point.domain.type.EarnType;
+import me.jslim.point.domain.type.PointType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+/**
+ * 벤치마크 데이터 적재
+ * - 엔티티를 거치지 않고 SYSTEM_RANGE 로 한번에 INSERT
+ */
+public final class BenchmarkData {
+    /** 적립 1건당 잔액 (측정 중 잔액이 소진되지 않도록 크게 설정) */
+    public static final long EARN_AMOUNT = 10_000_000L;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * 지갑 1개와 적립 earnCount 건을 적재
+     * @return 지갑 키
+     */
+    public static String seedWallet(JdbcTemplate jdbc, String userId, int earnCount, LocalDate today) {
+        String walletKey = "W-" + userId;
+
+        jdbc.update("""
+            INSERT INTO POINT_WALLET (WALLET_KEY, USER_ID, BALANCE_AMOUNT, MAXIMUM_AMOUNT, CREATED_AT, UPDATED_AT)
+            VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+        """, walletKey, userId, EARN_AMOUNT * earnCount, Long.MAX_VALUE / 4);
+
+        seedEarns(jdbc, walletKey, earnCount, today);
+        return walletKey;
+    }
+
+    /**
+     * 지갑에 사용가능 적립 earnCount 건 적재
+     * 만료일은 today + 30 ~ 329일 사이로 분산
+     */
+    public static void seedEarns(JdbcTemplate jdbc, String walletKey, int earnCount, LocalDate today) {
+        jdbc.update("""
+            INSERT INTO POINT_EARN (EARN_KEY, WALLET_KEY, POINT_KEY, EARN_TYPE, EARN_STATUS, EARN_AMOUNT,
+                                    EARN_BALANCE_AMOUNT, IS_MANUAL, EARN_DATE, EXPIRE_DATE, CREATED_AT, UPDATED_AT)
+            SELECT CONCAT(?, 'E', LPAD(CAST(X AS VARCHAR), 10, '0'))
+                 , ?
+                 , CONCAT(?, 'P', LPAD(CAST(X AS VARCHAR), 10, '0'))
+                 , ?
+                 , ?
+                 , ?
+                 , ?
+                 , FALSE
+                 , ?
+                 , DATEADD(DAY, 30 + MOD(X, 300), CAST(? AS DATE))
+                 , CURRENT_TIMESTAMP
+                 , CURRENT_TIMESTAMP
+              FROM SYSTEM_RANGE(1, ?)
+        """, walletKey, walletKey, walletKey, EarnType.EARN_GENERAL.code(), EarnStatus.AVAILABLE.code(),
+                EARN_AMOUNT, EARN_AMOUNT, today, today, earnCount);
+    }
+
+    /**
+     * 지갑 walletCount 개와 지갑당 적립 earnsPerWallet 건을 한번에 적재
+     * - 사용자 ID 는 prefix + 0 ~ walletCount-1
+     */
+    public static void seedWallets(JdbcTemplate jdbc, String prefix, int walletCount, int earnsPerWallet, LocalDate today) {
+        jdbc.update("""
+            INSERT INTO POINT_WALLET (WALLET_KEY, USER_ID, BALANCE_AMOUNT, MAXIMUM_AMOUNT, CREATED_AT, UPDATED_AT)
+            SELECT CONCAT('W-', ?, X), CONCAT(?, X), ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+              FROM SYSTEM_RANGE(0, ?)
+        """, prefix, prefix, EARN_AMOUNT * earnsPerWallet, Long.MAX_VALUE / 4, walletCount - 1);
+
+        jdbc.update("""
+            INSERT INTO POINT_EARN (EARN_KEY, WALLET_KEY, POINT_KEY, EARN_TYPE, EARN_STATUS, EARN_AMOUNT,
+                                    EARN_BALANCE_AMOUNT, IS_MANUAL, EARN_DATE, EXPIRE_DATE, CREATED_AT, UPDATED_AT)
+            SELECT CONCAT('E-', ?, LPAD(CAST(X AS VARCHAR), 12, '0'))
+                 , CONCAT('W-', ?, MOD(X, ?))
+                 , CONCAT('P-', ?, LPAD(CAST(X AS VARCHAR), 12, '0'))
+                 , ?
+                 , ?
+                 , ?
+                 , ?
+                 , FALSE
+                 , ?
+                 , DATEADD(DAY, 30 + MOD(X, 300), CAST(? AS DATE))
+                 , CURRENT_TIMESTAMP
+                 , CURRENT_TIMESTAMP
+              FROM SYSTEM_RANGE(0, ?)
+        """, prefix, prefix, walletCount, prefix, EarnType.EARN_GENERAL.code(), EarnStatus.AVAILABLE.code(),
+                EARN_AMOUNT, EARN_AMOUNT, today, today,
+                (long) walletCount * earnsPerWallet - 1);
+    }
+
+    /**
+     * 지갑 1개와 사용 내역 useCount 건 (포인트 1건당 사용상세 1건) 적재
+     * - 포인트 키는 지갑 키 + 'P' + 순번(10자리) 으로 순번 순서와 정렬 순서가 같음
+     * @return 지갑 키
+     */
+    public static String seedUseHistory(JdbcTemplate jdbc, String userId, int useCount) {
+        String walletKey = "W-" + userId;
+
+        jdbc.update("""
+            INSERT INTO POINT_WALLET (WALLET_KEY, USER_ID, BALANCE_AMOUNT, MAXIMUM_AMOUNT, CREATED_AT, UPDATED_AT)
+            VALUES (?, ?, 0, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+        """, walletKey, userId, Long.MAX_VALUE / 4);
+
+        jdbc.update("""
+            INSERT INTO POINT (POINT_KEY, WALLET_KEY, POINT_TYPE, POINT_AMOUNT, CREATED_AT, UPDATED_AT)
+            SELECT CONCAT(?, 'P', LPAD(CAST(X AS VARCHAR), 10, '0')), ?, ?, -1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+              FROM SYSTEM_RANGE(1, ?)
+        """, walletKey, walletKey, PointType.USE.code(), useCount);
+
+        jdbc.update("""
+            INSERT INTO POINT_USE (USE_KEY, POINT_KEY, EARN_KEY, AMOUNT, ORDER_NUMBER, CREATED_AT, UPDATED_AT)
+            SELECT CONCAT(?, 'U', LPAD(CAST(X AS VARCHAR), 10, '0'))
+                 , CONCAT(?, 'P', LPAD(CAST(X AS VARCHAR), 10, '0'))
+                 , CONCAT(?, 'E', LPAD(CAST(X AS VARCHAR), 10, '0'))
+                 , 1, 'BENCH', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+              FROM SYSTEM_RANGE(1, ?)
+        """, walletKey, walletKey, walletKey, useCount);
+        return walletKey;
+    }
+
+    /** seedUseHistory 로 적재한 seq 번째 포인트 키 **/
+    public static String historyPointKey(String walletKey, long seq) {
+        return walletKey + "P" + String.format("%010d", seq);
+    }
+}
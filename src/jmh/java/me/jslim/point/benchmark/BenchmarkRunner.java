@@ -0,0 +1,39 @@
+package me.jslim.point.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * 벤치마크 실행
+ * - 스레드 수별로 반복 실행하고, 실행마다 GC 프로파일러(gc.alloc.rate.norm = 오퍼레이션당 할당 바이트)를 붙임
+ * - args: [include 정규식] [스레드 수 목록 ex) 1,4,16] [결과 디렉토리]
+ */
+public final class BenchmarkRunner {
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ".*Benchmark.*";
+        String threads = args.length > 1 ? args[1] : "1";
+        String reportDir = args.length > 2 ? args[2] : "build/reports/jmh";
+        new File(reportDir).mkdirs();
+
+        for (String thread : threads.split(",")) {
+            int threadCount = Integer.parseInt(thread.trim());
+            Options options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threadCount)
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(reportDir + "/result-t" + threadCount + ".json")
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package me.jslim.point.benchmark;
+
+import me.jslim.point.application.dto.BulkEarnResult;
+import me.jslim.point.application.service.BulkEarnService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캠페인 대량 적립 소요시간 (perf profile)
+ * - 사용자 credits 명에게 1건씩 적립 (지갑 신규 생성 포함), CSV 업로드
+ * - 매 iteration 마다 테이블을 비우고 다시 적립 (SingleShotTime)
+ * - workers 에 따른 확장성 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class BulkEarnBenchmark {
+    @Param({"1000000"})
+    int credits;
+
+    @Param({"1", "4", "8"})
+    int workers;
+
+    @Param({"500"})
+    int batchSize;
+
+    BenchmarkContext context;
+    BulkEarnService service;
+    String csv;
+    LocalDate today;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("perf",
+                "point.bulk-earn.workers=" + workers,
+                "point.bulk-earn.partitions=" + workers * 4,
+                "point.bulk-earn.batch-size=" + batchSize);
+        service = context.bean(BulkEarnService.class);
+        today = LocalDate.now();
+
+        StringBuilder builder = new StringBuilder(credits * 24);
+        builder.append("userId,pointAmount\n");
+        for (int i = 0; i < credits; i++) {
+            builder.append("campaign-user").append(i).append(",100\n");
+        }
+        csv = builder.toString();
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        context.jdbc().batchUpdate("""
+            SET REFERENTIAL_INTEGRITY FALSE;
+            TRUNCATE TABLE POINT;
+            TRUNCATE TABLE POINT_EARN;
+            TRUNCATE TABLE POINT_WALLET;
+            SET REFERENTIAL_INTEGRITY TRUE;
+        """.split(";"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BulkEarnResult bulkEarn() {
+        return service.earn(new BufferedReader(new StringReader(csv)), BulkEarnService.Format.CSV, today);
+    }
+}
@@ -0,0 +1,73 @@
+package me.jslim.point.benchmark;
+
+import me.jslim.point.application.dto.ExpireResult;
+import me.jslim.point.application.service.PointExpireService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 만료 대상 적립 만료처리 소요시간
+ * - 지갑 N개 x 지갑당 적립 100건, 기준일을 모든 만료일 이후로 두어 전건 만료
+ * - 매 iteration 마다 다시 적재 (SingleShotTime)
+ * - workers 에 따른 확장성 비교 (1천만건은 wallets=100000)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ExpireBenchmark {
+    static final int EARNS_PER_WALLET = 100;
+
+    @Param({"10000", "100000"})
+    int wallets;
+
+    @Param({"1", "2", "4", "8"})
+    int workers;
+
+    @Param({"1000"})
+    int chunkSize;
+
+    BenchmarkContext context;
+    PointExpireService service;
+    LocalDate today;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("local",
+                "point.expire.chunk-size=" + chunkSize,
+                "point.expire.workers=" + workers,
+                "point.expire.shards=" + workers * 4);
+        service = context.bean(PointExpireService.class);
+        today = LocalDate.now();
+    }
+
+    @Setup(Level.Iteration)
+    public void seed() {
+        context.jdbc().batchUpdate("""
+            SET REFERENTIAL_INTEGRITY FALSE;
+            TRUNCATE TABLE POINT;
+            TRUNCATE TABLE POINT_EARN;
+            TRUNCATE TABLE POINT_EARN_CANCEL;
+            TRUNCATE TABLE POINT_WALLET;
+            TRUNCATE TABLE POINT_EXPIRE_CHECKPOINT;
+            SET REFERENTIAL_INTEGRITY TRUE;
+        """.split(";"));
+        BenchmarkData.seedWallets(context.jdbc(), "exp-user", wallets, EARNS_PER_WALLET, today);
+        context.jdbc().execute("ANALYZE");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ExpireResult expire() {
+        // 적재된 만료일은 today + 30 ~ 329일
+        return service.findActiveExpiring(today.plusDays(400));
+    }
+}
@@ -0,0 +1,67 @@
+package me.jslim.point.benchmark;
+
+import me.jslim.point.application.dto.HistoryQuery;
+import me.jslim.point.application.dto.HistoryResult;
+import me.jslim.point.application.service.PointQueryService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내역이 많은 지갑의 페이지 위치별 조회 지연시간
+ * - 지갑 1개 x 사용 내역 25만건 (페이지 크기 20 기준 12,500 페이지)
+ * - keyset: history() (cursor 다음 21건을 인덱스로 읽고, 사용상세는 IN 1번)
+ * - offset: 같은 정렬을 LIMIT/OFFSET 으로 조회 (비교용, 상세 미포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class HistoryBenchmark {
+    static final int USES = 250_000;
+    static final int PAGE_SIZE = 20;
+
+    @Param({"1", "10000"})
+    int page;
+
+    BenchmarkContext context;
+    PointQueryService service;
+    String walletKey;
+    String cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("perf");
+        service = context.bean(PointQueryService.class);
+        walletKey = BenchmarkData.seedUseHistory(context.jdbc(), "history-user", USES);
+        context.jdbc().execute("ANALYZE");
+
+        // 최신순 page 번째 페이지의 cursor = 이전 페이지 마지막 포인트 키
+        cursor = page == 1 ? null : BenchmarkData.historyPointKey(walletKey, USES - (long) (page - 1) * PAGE_SIZE + 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public HistoryResult keyset() {
+        return service.history(new HistoryQuery("history-user", null, null, null, cursor, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> offset() {
+        return context.jdbc().queryForList("""
+            SELECT *
+              FROM POINT
+             WHERE WALLET_KEY = ?
+             ORDER BY POINT_KEY DESC
+             LIMIT ? OFFSET ?
+        """, walletKey, PAGE_SIZE, (long) (page - 1) * PAGE_SIZE);
+    }
+}
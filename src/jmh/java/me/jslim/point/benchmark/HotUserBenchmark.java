@@ -0,0 +1,132 @@
+package me.jslim.point.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import me.jslim.point.application.dto.UseCancelCmd;
+import me.jslim.point.application.dto.UseCancelResult;
+import me.jslim.point.application.dto.UseCmd;
+import me.jslim.point.application.dto.UseResult;
+import me.jslim.point.application.service.PointCommandService;
+import org.openjdk.jmh.annotations.*;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 한 사용자에게 요청이 몰릴 때, 다른 사용자의 처리량과 커넥션 풀 사용량 측정
+ * - hot  : 8개 스레드가 같은 사용자에게 사용/사용취소 요청
+ * - cold : 4개 스레드가 각자 다른 사용자에게 사용/사용취소 요청
+ * - 커넥션 풀은 4개로 제한, 반복(iteration)마다 풀의 최대 active / 대기 스레드 수를 출력
+ * - 락 대기중에 커넥션을 점유한다면 hot 스레드가 풀을 모두 차지하여 cold 처리량이 떨어짐
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HotUserBenchmark {
+    static final String HOT_USER = "hot-user";
+
+    BenchmarkContext context;
+    PointCommandService service;
+    HikariPoolMXBean pool;
+    PoolSampler sampler;
+    LocalDate today;
+    final AtomicInteger userSeq = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("local", "spring.datasource.hikari.maximum-pool-size=4");
+        service = context.bean(PointCommandService.class);
+        pool = ((HikariDataSource) context.bean(DataSource.class)).getHikariPoolMXBean();
+        today = LocalDate.now();
+        BenchmarkData.seedWallet(context.jdbc(), HOT_USER, 100, today);
+    }
+
+    @Setup(Level.Iteration)
+    public void startSampler() {
+        sampler = new PoolSampler(pool);
+        sampler.start();
+    }
+
+    @TearDown(Level.Iteration)
+    public void stopSampler() throws InterruptedException {
+        sampler.interrupt();
+        sampler.join();
+        System.out.printf("%n[pool] maxActive=%d maxAwaiting=%d avgAwaiting=%.2f%n",
+                sampler.maxActive, sampler.maxAwaiting, sampler.avgAwaiting());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class ColdUser {
+        String userId;
+
+        @Setup(Level.Trial)
+        public void seed(HotUserBenchmark bench) {
+            userId = "cold-user-" + bench.userSeq.incrementAndGet();
+            BenchmarkData.seedWallet(bench.context.jdbc(), userId, 100, bench.today);
+        }
+    }
+
+    @Benchmark
+    @Group("hotUser")
+    @GroupThreads(8)
+    public UseCancelResult hot() {
+        return useThenCancel(HOT_USER);
+    }
+
+    @Benchmark
+    @Group("hotUser")
+    @GroupThreads(4)
+    public UseCancelResult cold(ColdUser user) {
+        return useThenCancel(user.userId);
+    }
+
+    private UseCancelResult useThenCancel(String userId) {
+        UseResult use = service.use(new UseCmd(userId, 1L, "BENCH"), today);
+        return service.cancelUse(new UseCancelCmd(userId, use.pointKey(), 1L));
+    }
+
+    /** 커넥션 풀 상태를 1ms 간격으로 수집 (값은 join 이후에 읽음) */
+    static class PoolSampler extends Thread {
+        private final HikariPoolMXBean pool;
+        int maxActive;
+        int maxAwaiting;
+        private long awaitingSum;
+        private long samples;
+
+        PoolSampler(HikariPoolMXBean pool) {
+            this.pool = pool;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (!isInterrupted()) {
+                int active = pool.getActiveConnections();
+                int awaiting = pool.getThreadsAwaitingConnection();
+                maxActive = Math.max(maxActive, active);
+                maxAwaiting = Math.max(maxAwaiting, awaiting);
+                awaitingSum += awaiting;
+                samples++;
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+
+        double avgAwaiting() {
+            return samples == 0 ? 0 : (double) awaitingSum / samples;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package me.jslim.point.benchmark;
+
+import me.jslim.point.application.dto.UseCancelCmd;
+import me.jslim.point.application.dto.UseCancelResult;
+import me.jslim.point.application.dto.UseCmd;
+import me.jslim.point.application.dto.UseResult;
+import me.jslim.point.application.service.PointCommandService;
+import me.jslim.point.application.support.EarnAllocationIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 적립이 많은 지갑(1만건)의 사용 + 사용취소 지연시간, 지갑별 적립 index 사용 여부 비교
+ * - maxWallets=0   : index 없음, 사용할 적립을 누적합 쿼리로 조회 (findEarnsToCover)
+ * - maxWallets=1000: index 로 사용할 적립을 메모리에서 정하고 해당 적립만 PK 로 조회
+ * - spanEarns: 사용금액을 채우는 데 필요한 적립 건수 (사용취소로 다시 채우므로 지갑 상태는 매번 같음)
+ * - 반복(iteration)마다 index 계산 / DB 계산 횟수를 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class HotWalletBenchmark {
+    static final int EARNS = 10_000;
+    static final String USER_ID = "hot-wallet";
+
+    @Param({"0", "1000"})
+    int maxWallets;
+
+    @Param({"1", "50"})
+    int spanEarns;
+
+    BenchmarkContext context;
+    PointCommandService service;
+    EarnAllocationIndex allocationIndex;
+    LocalDate today;
+    long amount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("perf", "point.allocation-index.max-wallets=" + maxWallets);
+        service = context.bean(PointCommandService.class);
+        allocationIndex = context.bean(EarnAllocationIndex.class);
+        today = LocalDate.now();
+        BenchmarkData.seedWallet(context.jdbc(), USER_ID, EARNS, today);
+        context.jdbc().execute("ANALYZE");
+
+        // 마지막 적립은 1원만 필요하도록
+        amount = (spanEarns - 1) * BenchmarkData.EARN_AMOUNT + 1;
+    }
+
+    @TearDown(Level.Iteration)
+    public void printStats() {
+        System.out.printf("%n[allocation-index] %s%n", allocationIndex.stats());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UseCancelResult useThenCancel() {
+        UseResult use = service.use(new UseCmd(USER_ID, amount, "BENCH"), today);
+        return service.cancelUse(new UseCancelCmd(USER_ID, use.pointKey(), amount), today);
+    }
+}
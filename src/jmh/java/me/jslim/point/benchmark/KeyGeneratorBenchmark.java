@@ -0,0 +1,41 @@
+package me.jslim.point.benchmark;
+
+import me.jslim.point.application.support.PointKeyGenerator;
+import me.jslim.point.infrastructure.keygen.LocalPointKeyGenerator;
+import me.jslim.point.infrastructure.keygen.SnowflakePointKeyGenerator;
+import me.jslim.point.infrastructure.keygen.TimeOrderedPointKeyGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키 생성기 비교 (UUID 문자열 변환 vs 버퍼 직접 기록 vs Snowflake)
+ * - 스레드 수는 BenchmarkRunner 에서 지정, gc.alloc.rate.norm 으로 키 1개당 할당 바이트 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeyGeneratorBenchmark {
+    @Param({"uuid", "time-ordered", "snowflake"})
+    String generator;
+
+    PointKeyGenerator keyGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keyGenerator = switch (generator) {
+            case "uuid" -> new LocalPointKeyGenerator();
+            case "time-ordered" -> new TimeOrderedPointKeyGenerator();
+            case "snowflake" -> new SnowflakePointKeyGenerator(0);
+            default -> throw new IllegalArgumentException(generator);
+        };
+    }
+
+    @Benchmark
+    public String newKey() {
+        return keyGenerator.newEarnKey();
+    }
+}
@@ -0,0 +1,59 @@
+package me.jslim.point.benchmark;
+
+import me.jslim.point.application.dto.EarnCmd;
+import me.jslim.point.application.dto.EarnResult;
+import me.jslim.point.application.support.PointCommandDispatcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 명령 처리 방식별 적립 처리량 비교 (스레드마다 다른 사용자)
+ * - direct   : 요청마다 USER LOCK + 트랜잭션 + 커밋
+ * - pipeline : 샤드 ring buffer 에 넣고, writer 가 batch 단위로 모아서 커밋 (호출 스레드는 future 완료까지 대기)
+ * - 동시 요청이 많을수록 pipeline 의 batch 가 커지고 커밋 횟수가 줄어듦
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PipelineBenchmark {
+    @Param({"direct", "pipeline"})
+    String mode;
+
+    BenchmarkContext context;
+    PointCommandDispatcher dispatcher;
+    LocalDate today;
+    final AtomicInteger userSeq = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("perf", "point.command.mode=" + mode);
+        dispatcher = context.bean(PointCommandDispatcher.class);
+        today = LocalDate.now();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class User {
+        String userId;
+
+        @Setup(Level.Trial)
+        public void seed(PipelineBenchmark bench) {
+            userId = "pipeline-user-" + bench.userSeq.incrementAndGet();
+        }
+    }
+
+    @Benchmark
+    public EarnResult earn(User user) {
+        return dispatcher.earn(new EarnCmd(user.userId, 1L, null, null), today).join();
+    }
+}
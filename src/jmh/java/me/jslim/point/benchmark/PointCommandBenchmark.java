@@ -0,0 +1,76 @@
+package me.jslim.point.benchmark;
+
+import me.jslim.point.application.dto.*;
+import me.jslim.point.application.service.PointCommandService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PointCommandService 적립/사용/취소 벤치마크
+ * - walletSize : 지갑당 사용가능 PointEarn 건수
+ * - 스레드마다 별도의 사용자(지갑)를 사용하므로 USER LOCK 경합은 없음
+ * - Throughput(ops/s) 과 SampleTime(p0.99) 을 함께 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PointCommandBenchmark {
+    @Param({"10", "1000", "100000"})
+    int walletSize;
+
+    BenchmarkContext context;
+    PointCommandService service;
+    LocalDate today;
+    final AtomicInteger userSeq = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("local");
+        service = context.bean(PointCommandService.class);
+        today = LocalDate.now();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class UserState {
+        String userId;
+
+        @Setup(Level.Trial)
+        public void seed(PointCommandBenchmark bench) {
+            userId = "bench-" + bench.walletSize + "-" + bench.userSeq.incrementAndGet();
+            BenchmarkData.seedWallet(bench.context.jdbc(), userId, bench.walletSize, bench.today);
+        }
+    }
+
+    @Benchmark
+    public EarnResult earn(UserState user) {
+        return service.earn(new EarnCmd(user.userId, 1L, null, null), today);
+    }
+
+    @Benchmark
+    public EarnCancelResult earnThenCancel(UserState user) {
+        EarnResult earn = service.earn(new EarnCmd(user.userId, 1L, null, null), today);
+        return service.cancelEarn(new EarnCancelCmd(user.userId, earn.pointKey()));
+    }
+
+    @Benchmark
+    public UseResult use(UserState user) {
+        return service.use(new UseCmd(user.userId, 1L, "BENCH"), today);
+    }
+
+    @Benchmark
+    public UseCancelResult useThenCancel(UserState user) {
+        UseResult use = service.use(new UseCmd(user.userId, 1L, "BENCH"), today);
+        return service.cancelUse(new UseCancelCmd(user.userId, use.pointKey(), 1L));
+    }
+}
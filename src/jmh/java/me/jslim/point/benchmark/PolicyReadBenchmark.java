@@ -0,0 +1,64 @@
+package me.jslim.point.benchmark;
+
+import me.jslim.point.application.support.PolicySnapshot;
+import me.jslim.point.infrastructure.cache.LocalPointPolicy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정책 조회 비용 (gc.alloc.rate.norm 으로 조회 1회당 할당 바이트 확인)
+ * - snapshot: 스냅샷 volatile 읽기 (할당 0 기대)
+ * - parse: 기존 방식 (Map 조회 + String.valueOf(기본값) + 파싱)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PolicyReadBenchmark {
+    LocalPointPolicy policy;
+    Map<String, String> values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        policy = new LocalPointPolicy();
+        policy.update(PolicySnapshot.MAXIMUM_POINT, "110000");
+
+        values = new ConcurrentHashMap<>();
+        values.put(PolicySnapshot.MAXIMUM_POINT, "110000");
+    }
+
+    @Benchmark
+    public long snapshot() {
+        PolicySnapshot snapshot = policy.snapshot();
+        return snapshot.maximumPoint() + snapshot.maxExpireDays() + snapshot.defExpireDays() + snapshot.defWalletMaximumPoint();
+    }
+
+    @Benchmark
+    public long parse() {
+        return parseLong(PolicySnapshot.MAXIMUM_POINT, 100_000)
+                + parseInt(PolicySnapshot.MAX_EXPIRE_DAYS, 365 * 5)
+                + parseInt(PolicySnapshot.DEF_EXPIRE_DAYS, 365)
+                + parseLong(PolicySnapshot.DEF_WALLET_MAXIMUM_POINT, 1_000_000);
+    }
+
+    private int parseInt(String k, int def) {
+        try {
+            return Integer.parseInt(values.getOrDefault(k, String.valueOf(def)));
+        } catch (Exception e) {
+            return def;
+        }
+    }
+
+    private long parseLong(String k, long def) {
+        try {
+            return Long.parseLong(values.getOrDefault(k, String.valueOf(def)));
+        } catch (Exception e) {
+            return def;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package me.jslim.point.benchmark;
+
+import me.jslim.point.application.dto.EarnCmd;
+import me.jslim.point.application.dto.EarnResult;
+import me.jslim.point.application.service.PointCommandService;
+import me.jslim.point.application.support.PointPolicy;
+import me.jslim.point.application.support.PolicySnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * profile 별 earn() 처리량 (local: SQL/바인딩 TRACE 로그, perf: 로그 없음)
+ * - profile 의 로그 설정을 그대로 사용 (로그는 파일로 기록)
+ * - 스레드마다 별도의 사용자를 사용하므로 USER LOCK 경합은 없음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProfileBenchmark {
+    @Param({"local", "perf"})
+    String profile;
+
+    BenchmarkContext context;
+    PointCommandService service;
+    LocalDate today;
+    final AtomicInteger userSeq = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.startAsConfigured(profile);
+        service = context.bean(PointCommandService.class);
+        // 측정 중 지갑 최대 보유금액에 걸리지 않도록
+        context.bean(PointPolicy.class).update(PolicySnapshot.DEF_WALLET_MAXIMUM_POINT, String.valueOf(Long.MAX_VALUE / 4));
+        today = LocalDate.now();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class UserState {
+        String userId;
+
+        @Setup(Level.Trial)
+        public void setUp(ProfileBenchmark bench) {
+            userId = "profile-" + bench.userSeq.incrementAndGet();
+        }
+    }
+
+    @Benchmark
+    public EarnResult earn(UserState user) {
+        return service.earn(new EarnCmd(user.userId, 1L, null, null), today);
+    }
+}
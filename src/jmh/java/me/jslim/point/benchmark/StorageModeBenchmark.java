@@ -0,0 +1,111 @@
+package me.jslim.point.benchmark;
+
+import me.jslim.point.domain.entity.PointEarn;
+import me.jslim.point.domain.repository.PointEarnRepository;
+import me.jslim.point.domain.type.EarnStatus;
+import me.jslim.point.domain.type.EarnType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키 형식에 따른 point_earn 크기와 findAvailableEarns 지연시간 (1천만건)
+ * - uuid: 32자리 (TimeOrdered/UUID 생성기), snowflake: 13자리 (Snowflake 생성기)
+ * - 같은 길이의 키를 SQL 로 적재하여 비교 (enum 컬럼은 두 형식 모두 정수 코드)
+ * - 테이블/인덱스 크기는 파일 DB 기준 DISK_SPACE_USED 로 setup 시 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class StorageModeBenchmark {
+    static final int WALLETS = 100_000;
+    static final int EARNS_PER_WALLET = 100;
+
+    @Param({"uuid", "snowflake"})
+    String keyFormat;
+
+    BenchmarkContext context;
+    PointEarnRepository earnRepo;
+    Path dbDir;
+    int keyWidth;
+    LocalDate today;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        keyWidth = "uuid".equals(keyFormat) ? 32 : 13;
+        dbDir = Files.createTempDirectory("point-storage-");
+        context = BenchmarkContext.start("local",
+                "spring.datasource.url=jdbc:h2:file:" + dbDir.resolve("point") + ";DB_CLOSE_ON_EXIT=FALSE",
+                "point.key-generator=" + ("uuid".equals(keyFormat) ? "time-ordered" : "snowflake"));
+        earnRepo = context.bean(PointEarnRepository.class);
+        today = LocalDate.now();
+
+        JdbcTemplate jdbc = context.jdbc();
+        seed(jdbc);
+        jdbc.execute("ANALYZE");
+        jdbc.execute("CHECKPOINT SYNC");
+
+        Long earnBytes = jdbc.queryForObject("SELECT DISK_SPACE_USED('POINT_EARN')", Long.class);
+        Long walletBytes = jdbc.queryForObject("SELECT DISK_SPACE_USED('POINT_WALLET')", Long.class);
+        System.out.printf("[storage] keyFormat=%s point_earn=%,d bytes (%.1f bytes/row), point_wallet=%,d bytes, db file=%,d bytes%n",
+                keyFormat, earnBytes, (double) earnBytes / ((long) WALLETS * EARNS_PER_WALLET), walletBytes,
+                Files.size(dbDir.resolve("point.mv.db")));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        try (var files = Files.walk(dbDir)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public List<PointEarn> findAvailableEarns() {
+        String walletKey = key("w", ThreadLocalRandom.current().nextInt(WALLETS));
+        return earnRepo.findAvailableEarns(walletKey, today, null, null, null, 50);
+    }
+
+    private String key(String tag, long no) {
+        String key = tag + no;
+        return "0".repeat(keyWidth - key.length()) + key;
+    }
+
+    private void seed(JdbcTemplate jdbc) {
+        jdbc.update("""
+            INSERT INTO POINT_WALLET (WALLET_KEY, USER_ID, BALANCE_AMOUNT, MAXIMUM_AMOUNT, CREATED_AT, UPDATED_AT)
+            SELECT LPAD(CONCAT('w', X), ?, '0'), CONCAT('st-user', X), ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+              FROM SYSTEM_RANGE(0, ?)
+        """, keyWidth, BenchmarkData.EARN_AMOUNT * EARNS_PER_WALLET, Long.MAX_VALUE / 4, WALLETS - 1);
+
+        jdbc.update("""
+            INSERT INTO POINT_EARN (EARN_KEY, WALLET_KEY, POINT_KEY, EARN_TYPE, EARN_STATUS, EARN_AMOUNT,
+                                    EARN_BALANCE_AMOUNT, IS_MANUAL, EARN_DATE, EXPIRE_DATE, CREATED_AT, UPDATED_AT)
+            SELECT LPAD(CONCAT('e', X), ?, '0')
+                 , LPAD(CONCAT('w', MOD(X, ?)), ?, '0')
+                 , LPAD(CONCAT('p', X), ?, '0')
+                 , ?
+                 , ?
+                 , ?
+                 , ?
+                 , FALSE
+                 , ?
+                 , DATEADD(DAY, 30 + MOD(X, 300), CAST(? AS DATE))
+                 , CURRENT_TIMESTAMP
+                 , CURRENT_TIMESTAMP
+              FROM SYSTEM_RANGE(0, ?)
+        """, keyWidth, WALLETS, keyWidth, keyWidth, EarnType.EARN_GENERAL.code(), EarnStatus.AVAILABLE.code(),
+                BenchmarkData.EARN_AMOUNT, BenchmarkData.EARN_AMOUNT, today, today,
+                (long) WALLETS * EARNS_PER_WALLET - 1);
+    }
+}
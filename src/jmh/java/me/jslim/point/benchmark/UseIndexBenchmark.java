@@ -0,0 +1,59 @@
+package me.jslim.point.benchmark;
+
+import me.jslim.point.application.dto.UseCmd;
+import me.jslim.point.application.dto.UseResult;
+import me.jslim.point.application.service.PointCommandService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * point_earn 1천만건에서 인덱스 유무에 따른 use() 지연시간
+ * - 지갑 10만개 x 지갑당 적립 100건
+ * - indexed=false 는 적재 후 point_earn 인덱스를 제거 (인덱스 추가 전과 동일한 상태)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class UseIndexBenchmark {
+    static final int WALLETS = 100_000;
+    static final int EARNS_PER_WALLET = 100;
+
+    @Param({"true", "false"})
+    boolean indexed;
+
+    BenchmarkContext context;
+    PointCommandService service;
+    LocalDate today;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("local");
+        service = context.bean(PointCommandService.class);
+        today = LocalDate.now();
+        BenchmarkData.seedWallets(context.jdbc(), "idx-user", WALLETS, EARNS_PER_WALLET, today);
+
+        if (!indexed) {
+            context.jdbc().execute("DROP INDEX IDX_POINT_EARN_ALLOC");
+            context.jdbc().execute("DROP INDEX IDX_POINT_EARN_POINT_KEY");
+            context.jdbc().execute("DROP INDEX IDX_POINT_EARN_EXPIRE");
+        }
+        context.jdbc().execute("ANALYZE");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UseResult use() {
+        String userId = "idx-user" + ThreadLocalRandom.current().nextInt(WALLETS);
+        return service.use(new UseCmd(userId, 1L, "BENCH"), today);
+    }
+}
@@ -0,0 +1,90 @@
+package me.jslim.point.benchmark;
+
+import me.jslim.point.application.dto.UseCancelCmd;
+import me.jslim.point.application.dto.UseCmd;
+import me.jslim.point.application.dto.UseResult;
+import me.jslim.point.application.service.PointCommandService;
+import me.jslim.point.application.support.PinningMonitor;
+import me.jslim.point.application.support.PinningStats;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 요청 10,000개(사용자 1,000명)를 처리하는 시간, 플랫폼 스레드 vs 가상 스레드 (perf profile)
+ * - platform : Tomcat 기본값과 같은 200개 고정 스레드 풀에서 요청 처리 (락/커넥션 대기중에도 스레드 점유)
+ * - virtual  : 요청마다 가상 스레드 (spring.threads.virtual.enabled=true, pinning 감시 포함)
+ * - 요청 1건 = 사용 1 + 사용취소 1, 같은 사용자의 요청 10건은 USER LOCK 에서 순서대로 처리
+ * - 반복(iteration)마다 가상 스레드 pinning 누적 건수와 발생 위치를 출력
+ * - 동시성은 벤치마크 안에서 만들므로 -Pbench.threads=1 로 실행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class VirtualThreadBenchmark {
+    static final int CLIENTS = 10_000;
+    static final int USERS = 1_000;
+    static final int PLATFORM_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    String threads;
+
+    BenchmarkContext context;
+    PointCommandService service;
+    PinningMonitor pinningMonitor;
+    LocalDate today;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean virtual = threads.equals("virtual");
+        context = BenchmarkContext.start("perf", "spring.threads.virtual.enabled=" + virtual);
+        service = context.bean(PointCommandService.class);
+        pinningMonitor = context.bean(PinningMonitor.class);
+        today = LocalDate.now();
+        BenchmarkData.seedWallets(context.jdbc(), "vt-user-", USERS, 1, today);
+    }
+
+    @TearDown(Level.Iteration)
+    public void printPinning() {
+        PinningStats stats = pinningMonitor.stats(3);
+        System.out.printf("%n[pinning] events=%d totalMillis=%d maxMillis=%d sites=%s%n",
+                stats.pinnedEvents(), stats.totalPinnedMillis(), stats.maxPinnedMillis(), stats.hotSites());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int clients() throws InterruptedException, ExecutionException {
+        try (ExecutorService executor = threads.equals("virtual")
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_THREADS)) {
+            List<Future<?>> requests = new ArrayList<>(CLIENTS);
+            for (int i = 0; i < CLIENTS; i++) {
+                String userId = "vt-user-" + (i % USERS);
+                requests.add(executor.submit(() -> useThenCancel(userId)));
+            }
+            for (Future<?> request : requests) {
+                request.get();
+            }
+            return requests.size();
+        }
+    }
+
+    private void useThenCancel(String userId) {
+        UseResult use = service.use(new UseCmd(userId, 1L, "BENCH"), today);
+        service.cancelUse(new UseCancelCmd(userId, use.pointKey(), 1L));
+    }
+}
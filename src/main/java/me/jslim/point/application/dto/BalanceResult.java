@@ -0,0 +1,10 @@
+package me.jslim.point.application.dto;
+
+/**
+ * 포인트 잔액 조회 결과
+ */
+public record BalanceResult(
+        String userId,
+        long balanceAmount
+) {
+}
@@ -0,0 +1,37 @@
+package me.jslim.point.application.dto;
+
+import me.jslim.point.global.vo.ResultCode;
+
+import java.util.List;
+
+/**
+ * 대량 적립 결과
+ * @param totalCount    처리한 행 수 (빈 행, 헤더 제외)
+ * @param failedCount   실패한 행 수
+ * @param failures      실패한 행 (행 번호 순, 최대 point.bulk-earn.max-failures 건)
+ */
+public record BulkEarnResult(
+        long totalCount,
+        long earnedCount,
+        long failedCount,
+        long elapsedMillis,
+        double rowsPerSecond,
+        List<Failure> failures
+) {
+    public static BulkEarnResult of(long totalCount, long earnedCount, long failedCount, long elapsedNanos, List<Failure> failures) {
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        double rowsPerSecond = elapsedNanos == 0 ? 0 : totalCount * 1_000_000_000d / elapsedNanos;
+        return new BulkEarnResult(totalCount, earnedCount, failedCount, elapsedMillis, rowsPerSecond, failures);
+    }
+
+    /**
+     * 실패한 행
+     * @param rowNo 업로드 파일의 행 번호 (1부터)
+     */
+    public record Failure(
+            long rowNo,
+            String userId,
+            ResultCode resultCode
+    ) {
+    }
+}
@@ -1,9 +1,22 @@
 package me.jslim.point.application.dto;
 
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.Arrays;
+import java.util.List;
 
 public record EarnCancelCmd(
         @NotNull String userId,
-        @NotNull String pointKey
-) {
+        @NotNull String pointKey,
+        @Size(max = 64) String idempotencyKey
+) implements IdempotentCmd {
+    public EarnCancelCmd(String userId, String pointKey) {
+        this(userId, pointKey, null);
+    }
+
+    @Override
+    public List<Object> requestPayload() {
+        return Arrays.asList(userId, pointKey);
+    }
 }
@@ -1,11 +1,24 @@
 package me.jslim.point.application.dto;
 
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.Arrays;
+import java.util.List;
 
 public record EarnCmd(
         @NotNull String userId,
         @NotNull Long pointAmount,
         String earnType,
-        String expireDate
-) {
+        String expireDate,
+        @Size(max = 64) String idempotencyKey
+) implements IdempotentCmd {
+    public EarnCmd(String userId, Long pointAmount, String earnType, String expireDate) {
+        this(userId, pointAmount, earnType, expireDate, null);
+    }
+
+    @Override
+    public List<Object> requestPayload() {
+        return Arrays.asList(userId, pointAmount, earnType, expireDate);
+    }
 }
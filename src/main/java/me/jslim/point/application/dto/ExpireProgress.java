@@ -0,0 +1,33 @@
+package me.jslim.point.application.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 만료작업 진행 현황
+ * @param skippedWallets USER LOCK 대기시간 초과로 이번 실행에서 건너뛴 지갑 수 (다음 실행시 처리)
+ */
+public record ExpireProgress(
+        LocalDate baseDate,
+        boolean running,
+        long scannedCount,
+        long expiredCount,
+        long skippedWallets,
+        long elapsedMillis,
+        List<Shard> shards
+) {
+    public static final ExpireProgress NONE = new ExpireProgress(null, false, 0, 0, 0, 0, List.of());
+
+    /**
+     * 샤드별 처리 현황
+     * @param busyMillis 샤드 작업이 실제로 수행된 시간의 합 (처리량 계산 기준)
+     */
+    public record Shard(
+            int shardNo,
+            long wallets,
+            long expiredCount,
+            long busyMillis,
+            double rowsPerSecond
+    ) {
+    }
+}
@@ -0,0 +1,16 @@
+package me.jslim.point.application.dto;
+
+import java.time.LocalDate;
+
+public record ExpireResult(
+        LocalDate baseDate,
+        long expiredCount,
+        long elapsedMillis,
+        double rowsPerSecond
+) {
+    public static ExpireResult of(LocalDate baseDate, long expiredCount, long elapsedNanos) {
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        double rowsPerSecond = elapsedNanos == 0 ? 0 : expiredCount * 1_000_000_000d / elapsedNanos;
+        return new ExpireResult(baseDate, expiredCount, elapsedMillis, rowsPerSecond);
+    }
+}
@@ -0,0 +1,30 @@
+package me.jslim.point.application.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 만료예정 포인트 조회 결과 (from ~ to 사이 만료일별 합계)
+ * @param totalAmount 기간내 만료예정 금액 합계
+ */
+public record ExpiringResult(
+        String userId,
+        LocalDate from,
+        LocalDate to,
+        long totalAmount,
+        List<Bucket> buckets
+) {
+    public static ExpiringResult of(String userId, LocalDate from, LocalDate to, List<Bucket> buckets) {
+        long total = buckets.stream().mapToLong(Bucket::amount).sum();
+        return new ExpiringResult(userId, from, to, total, buckets);
+    }
+
+    /**
+     * 만료일별 만료예정 금액
+     */
+    public record Bucket(
+            LocalDate expireDate,
+            long amount
+    ) {
+    }
+}
@@ -0,0 +1,31 @@
+package me.jslim.point.application.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 만료일 합계 검증 결과
+ * @param checkedWallets 검증한 지갑 수
+ * @param driftWallets   합계가 적립 잔액과 다른 지갑 수 (USER LOCK 을 잡고 다시 확인한 결과)
+ * @param skippedWallets USER LOCK 대기시간 초과로 다시 확인하지 못한 지갑 수
+ * @param drifts         다른 만료일 (최대 point.expiry-bucket.max-drifts 건)
+ */
+public record ExpiryBucketVerifyResult(
+        long checkedWallets,
+        long driftWallets,
+        long skippedWallets,
+        long elapsedMillis,
+        List<Drift> drifts
+) {
+    /**
+     * @param bucketAmount 합계 테이블의 금액
+     * @param earnAmount   적립 잔액 합계 (point_earn)
+     */
+    public record Drift(
+            String walletKey,
+            LocalDate expireDate,
+            long bucketAmount,
+            long earnAmount
+    ) {
+    }
+}
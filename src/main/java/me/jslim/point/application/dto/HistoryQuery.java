@@ -0,0 +1,19 @@
+package me.jslim.point.application.dto;
+
+/**
+ * 포인트 내역 조회 조건
+ * @param pointType 포인트 타입 (EARN, USE, EARN_CANCEL, USE_CANCEL), 없으면 전체
+ * @param from      조회 시작일 (yyyyMMdd, 포함)
+ * @param to        조회 종료일 (yyyyMMdd, 포함)
+ * @param cursor    이전 페이지의 nextCursor, 없으면 첫 페이지
+ * @param size      페이지 크기 (기본 20, 최대 100)
+ */
+public record HistoryQuery(
+        String userId,
+        String pointType,
+        String from,
+        String to,
+        String cursor,
+        Integer size
+) {
+}
@@ -0,0 +1,40 @@
+package me.jslim.point.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 포인트 내역 조회 결과 (최신순)
+ * @param nextCursor 다음 페이지 조회시 전달할 cursor, 마지막 페이지면 null
+ */
+public record HistoryResult(
+        String userId,
+        List<Item> items,
+        String nextCursor
+) {
+    /**
+     * 포인트 내역 1건
+     * @param details 사용/사용취소 상세 (그 외 타입은 빈 목록)
+     */
+    public record Item(
+            String pointKey,
+            String pointType,
+            long pointAmount,
+            LocalDateTime createdAt,
+            List<Detail> details
+    ) {
+    }
+
+    /**
+     * 사용/사용취소 상세
+     * @param detailKey 사용 키 / 사용취소 키
+     * @param refKey    사용한 적립 키 / 취소한 사용 키
+     */
+    public record Detail(
+            String detailKey,
+            String refKey,
+            long amount,
+            String orderNumber
+    ) {
+    }
+}
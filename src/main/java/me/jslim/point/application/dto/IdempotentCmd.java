@@ -0,0 +1,14 @@
+package me.jslim.point.application.dto;
+
+import java.util.List;
+
+/**
+ * 멱등키를 지정할 수 있는 명령
+ * - 같은 사용자 + 같은 명령 + 같은 멱등키의 재요청은 다시 처리하지 않고 저장된 결과를 돌려줌
+ * - requestPayload 는 멱등키를 제외한 요청 내용 (순서 고정, 저장소가 SHA-256 으로 비교해서 같은 키로 다른 요청이 오면 거절)
+ */
+public interface IdempotentCmd {
+    String userId();
+    String idempotencyKey();
+    List<Object> requestPayload();
+}
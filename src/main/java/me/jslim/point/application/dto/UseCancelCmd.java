@@ -1,10 +1,23 @@
 package me.jslim.point.application.dto;
 
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.Arrays;
+import java.util.List;
 
 public record UseCancelCmd(
         @NotNull String userId,
         @NotNull String pointKey,
-        @NotNull Long useCancelAmount
-) {
+        @NotNull Long useCancelAmount,
+        @Size(max = 64) String idempotencyKey
+) implements IdempotentCmd {
+    public UseCancelCmd(String userId, String pointKey, Long useCancelAmount) {
+        this(userId, pointKey, useCancelAmount, null);
+    }
+
+    @Override
+    public List<Object> requestPayload() {
+        return Arrays.asList(userId, pointKey, useCancelAmount);
+    }
 }
@@ -1,10 +1,23 @@
 package me.jslim.point.application.dto;
 
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.Arrays;
+import java.util.List;
 
 public record UseCmd(
         @NotNull String userId,
         @NotNull Long useAmount,
-        @NotNull String orderNumber
-) {
+        @NotNull String orderNumber,
+        @Size(max = 64) String idempotencyKey
+) implements IdempotentCmd {
+    public UseCmd(String userId, Long useAmount, String orderNumber) {
+        this(userId, useAmount, orderNumber, null);
+    }
+
+    @Override
+    public List<Object> requestPayload() {
+        return Arrays.asList(userId, useAmount, orderNumber);
+    }
 }
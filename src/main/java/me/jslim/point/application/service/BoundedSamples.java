@@ -0,0 +1,31 @@
+package me.jslim.point.application.service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 병렬 작업 1회에서 결과로 보고할 항목(실패 행, 불일치 등)을 최대 limit 건만 보관
+ * - 여러 worker 가 동시에 추가, 보관 여부는 lock 없이 추가 순번으로 판단
+ */
+final class BoundedSamples<T> {
+    private final Queue<T> samples = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger count = new AtomicInteger();
+    private final int limit;
+
+    BoundedSamples(int limit) {
+        this.limit = limit;
+    }
+
+    void add(T sample) {
+        if (count.incrementAndGet() <= limit) {
+            samples.add(sample);
+        }
+    }
+
+    List<T> sorted(Comparator<? super T> order) {
+        return samples.stream().sorted(order).toList();
+    }
+}
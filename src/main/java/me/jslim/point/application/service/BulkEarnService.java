@@ -0,0 +1,288 @@
+package me.jslim.point.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.jslim.point.application.dto.BulkEarnResult;
+import me.jslim.point.application.dto.EarnCmd;
+import me.jslim.point.application.support.*;
+import me.jslim.point.domain.entity.Point;
+import me.jslim.point.domain.entity.PointEarn;
+import me.jslim.point.domain.entity.PointWallet;
+import me.jslim.point.domain.repository.PointEarnRepository;
+import me.jslim.point.domain.repository.PointRepository;
+import me.jslim.point.domain.repository.PointWalletRepository;
+import me.jslim.point.domain.type.EarnType;
+import me.jslim.point.global.exception.BusinessException;
+import me.jslim.point.global.vo.ResultCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 포인트 대량 적립 (캠페인 지급 등)
+ * - 업로드 파일(CSV / NDJSON)을 한 행씩 읽어 chunk 단위로 모음 (파일 전체를 메모리에 올리지 않음)
+ * - chunk 의 행을 사용자의 USER LOCK stripe 번호로 파티션에 나누고, 파티션별로 worker pool 에서 병렬 처리
+ *   (stripe % partitions 이므로 파티션끼리 stripe 를 공유하지 않아 서로 락을 기다리지 않음,
+ *    같은 사용자의 행은 항상 같은 파티션에서 파일 순서대로 처리)
+ * - 파티션 안의 행은 stripe 순서로 정렬(같은 stripe 안에서는 파일 순서 유지)한 뒤 batch-size 행씩 트랜잭션 1개로 처리:
+ *   관련 사용자의 USER LOCK 을 모두 잡고, 지갑 IN 조회 1번 + 지갑/포인트/적립/만료일 합계 JDBC batch 저장
+ *   (batch 1개가 잡는 stripe 가 인접한 소수로 모이므로, 같은 stripe 의 단건 요청이 기다리는 범위가 작음)
+ * - 행 단위 검증 실패는 해당 행만 실패로 기록하고 계속 진행, 트랜잭션이 실패하면 그 batch 의 행만 실패
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkEarnService {
+    private static final String CSV_HEADER = "userid";
+
+    private final UserLockRunner userLockRunner;
+    private final PointKeyGenerator keyGenerator;
+    private final PointWalletRepository walletRepo;
+    private final PointRepository pointRepo;
+    private final PointEarnRepository earnRepo;
+    private final PointPolicy policy;
+    private final WalletKeyCache walletKeyCache;
+    private final PointReadCache readCache;
+    private final EarnAllocationIndex allocationIndex;
+    private final ExpiryBucketService expiryBucketService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${point.bulk-earn.chunk-size:20000}")
+    private final int chunkSize;
+
+    @Value("${point.bulk-earn.batch-size:100}")
+    private final int batchSize;
+
+    @Value("${point.bulk-earn.partitions:16}")
+    private final int partitionCount;
+
+    @Value("${point.bulk-earn.workers:4}")
+    private final int workerCount;
+
+    @Value("${point.bulk-earn.max-failures:1000}")
+    private final int maxFailures;
+
+    /** 업로드 형식 **/
+    public enum Format {
+        /** userId,pointAmount[,earnType[,expireDate(yyyyMMdd)]] (첫 행이 userId 로 시작하면 헤더) **/
+        CSV,
+        /** 행마다 EarnCmd JSON ({"userId":..., "pointAmount":..., "earnType":..., "expireDate":...}) **/
+        NDJSON
+    }
+
+    public BulkEarnResult earn(BufferedReader reader, Format format, LocalDate earnDate) {
+        long start = System.nanoTime();
+        // 같은 업로드의 행은 모두 같은 정책으로 처리
+        PolicySnapshot snapshot = policy.snapshot();
+        BulkRun run = new BulkRun(maxFailures);
+
+        try (ExecutorService workers = Executors.newFixedThreadPool(
+                workerCount, Thread.ofPlatform().name("point-bulk-earn-", 0).factory())) {
+            List<Row> chunk = new ArrayList<>(chunkSize);
+            String line;
+            long rowNo = 0;
+            while ((line = reader.readLine()) != null) {
+                rowNo++;
+                if (line.isBlank() || (rowNo == 1 && format == Format.CSV && isHeader(line))) continue;
+
+                run.total.increment();
+                Row row = parse(rowNo, line, format, run);
+                if (row != null) chunk.add(row);
+
+                if (chunk.size() == chunkSize) {
+                    earnChunk(workers, chunk, earnDate, snapshot, run);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) earnChunk(workers, chunk, earnDate, snapshot, run);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        BulkEarnResult result = BulkEarnResult.of(run.total.sum(), run.earned.sum(), run.failed.sum(),
+                System.nanoTime() - start, run.failures());
+        log.info("[BULK-EARN] {}건 중 적립 {}건, 실패 {}건, {}ms ({} rows/sec), workers={}, partitions={}",
+                result.totalCount(), result.earnedCount(), result.failedCount(), result.elapsedMillis(),
+                (long) result.rowsPerSecond(), workerCount, partitionCount);
+        return result;
+    }
+
+    /** 행 1개 파싱, 형식이 잘못되었다면 실패로 기록하고 null **/
+    private Row parse(long rowNo, String line, Format format, BulkRun run) {
+        EarnCmd cmd;
+        try {
+            cmd = format == Format.CSV ? parseCsv(line) : objectMapper.readValue(line, EarnCmd.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            run.fail(rowNo, null, ResultCode.VALIDATION_ERROR);
+            return null;
+        }
+
+        if (cmd.userId() == null || cmd.userId().isBlank() || cmd.pointAmount() == null) {
+            run.fail(rowNo, cmd.userId(), ResultCode.VALIDATION_ERROR);
+            return null;
+        }
+
+        LocalDate expireDate;
+        try {
+            expireDate = cmd.expireDate() == null || cmd.expireDate().isBlank()
+                    ? null
+                    : LocalDate.parse(cmd.expireDate(), DateTimeFormatter.BASIC_ISO_DATE);
+        } catch (DateTimeParseException e) {
+            run.fail(rowNo, cmd.userId(), ResultCode.EARN_EXPIRE_DATE_ERROR);
+            return null;
+        }
+        return new Row(rowNo, cmd.userId(), cmd.pointAmount(), EarnType.fromString(cmd.earnType()), expireDate);
+    }
+
+    private EarnCmd parseCsv(String line) {
+        String[] columns = line.split(",", -1);
+        if (columns.length < 2) throw new IllegalArgumentException("컬럼 수 부족");
+
+        return new EarnCmd(
+                columns[0].trim(),
+                Long.parseLong(columns[1].trim()),
+                columns.length > 2 ? columns[2].trim() : null,
+                columns.length > 3 ? columns[3].trim() : null
+        );
+    }
+
+    private boolean isHeader(String line) {
+        return line.trim().toLowerCase().startsWith(CSV_HEADER);
+    }
+
+    /** chunk 1개를 stripe 기준 파티션으로 나누어 병렬 처리 **/
+    private void earnChunk(ExecutorService workers, List<Row> chunk, LocalDate earnDate, PolicySnapshot snapshot, BulkRun run) {
+        Map<Integer, List<Row>> partitions = chunk.stream()
+                .collect(Collectors.groupingBy(
+                        row -> userLockRunner.stripeOf(row.userId()) % partitionCount,
+                        TreeMap::new,
+                        Collectors.toList()));
+        // 안정 정렬이므로 같은 사용자의 행은 파일 순서 유지
+        partitions.values().forEach(rows -> rows.sort(Comparator.comparingInt(row -> userLockRunner.stripeOf(row.userId()))));
+
+        List<Future<?>> futures = new ArrayList<>(partitions.size());
+        partitions.values().forEach(rows ->
+                futures.add(workers.submit(() -> earnPartition(rows, earnDate, snapshot, run))));
+        ParallelWork.awaitAll(futures, "대량 적립이 중단되었습니다.");
+    }
+
+    /** 파티션 1개를 batch-size 행씩 순서대로 처리 **/
+    private void earnPartition(List<Row> rows, LocalDate earnDate, PolicySnapshot snapshot, BulkRun run) {
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            List<Row> batch = rows.subList(from, Math.min(from + batchSize, rows.size()));
+            Set<String> userIds = batch.stream().map(Row::userId).collect(Collectors.toSet());
+            try {
+                userLockRunner.runAll(userIds, () -> {
+                    BatchOutcome outcome = transactionTemplate.execute(status -> earnBatch(batch, earnDate, snapshot));
+
+                    // 커밋된 뒤 캐시 반영 (락 안에서 수행하여 이후 명령의 갱신보다 먼저 반영)
+                    outcome.newWallets().forEach(wallet -> walletKeyCache.put(wallet.getUserId(), wallet.getWalletKey()));
+                    outcome.wallets().forEach(wallet -> readCache.refresh(wallet.getUserId(), wallet.getBalanceAmount()));
+                    run.earned.add(outcome.earnedCount());
+                    outcome.failures().forEach(failure -> run.fail(failure.rowNo(), failure.userId(), failure.resultCode()));
+                    return null;
+                });
+            } catch (BusinessException e) {
+                batch.forEach(row -> run.fail(row.rowNo(), row.userId(), e.getResultCode()));
+            } catch (RuntimeException e) {
+                log.error("[BULK-EARN] {}행 ~ {}행 처리 실패", batch.getFirst().rowNo(), batch.getLast().rowNo(), e);
+                batch.forEach(row -> run.fail(row.rowNo(), row.userId(), ResultCode.SYSTEM_ERROR));
+            }
+        }
+    }
+
+    /**
+     * batch 1개 적립 (USER LOCK + 트랜잭션 안에서 호출)
+     * - 행별로 포인트/적립 생성과 지갑 적립을 검증한 뒤에만 저장 대상에 추가 (실패한 행은 지갑에 반영되지 않음)
+     * - 기존 지갑은 dirty checking 으로 batch update, 새 지갑/포인트/적립은 batch insert
+     */
+    private BatchOutcome earnBatch(List<Row> batch, LocalDate earnDate, PolicySnapshot snapshot) {
+        Map<String, PointWallet> wallets = new HashMap<>();
+        walletRepo.findAllByUserIdIn(batch.stream().map(Row::userId).distinct().toList())
+                .forEach(wallet -> wallets.put(wallet.getUserId(), wallet));
+
+        List<PointWallet> newWallets = new ArrayList<>();
+        List<Point> points = new ArrayList<>(batch.size());
+        List<PointEarn> earns = new ArrayList<>(batch.size());
+        List<BulkEarnResult.Failure> failures = new ArrayList<>();
+
+        for (Row row : batch) {
+            try {
+                PointWallet wallet = wallets.get(row.userId());
+                boolean created = wallet == null;
+                if (created) {
+                    wallet = PointWallet.create(keyGenerator.newWalletKey(), row.userId(), snapshot.defWalletMaximumPoint());
+                }
+
+                Point point = Point.createEarn(keyGenerator.newPointKey(), wallet.getWalletKey(), row.pointAmount(), snapshot.maximumPoint());
+                PointEarn earn = PointEarn.create(keyGenerator.newEarnKey(), point, row.earnType(), earnDate, row.expireDate(),
+                        snapshot.maxExpireDays(), snapshot.defExpireDays());
+                wallet.earnBalance(row.pointAmount());
+
+                if (created) {
+                    wallets.put(row.userId(), wallet);
+                    newWallets.add(wallet);
+                }
+                points.add(point);
+                earns.add(earn);
+            } catch (BusinessException e) {
+                failures.add(new BulkEarnResult.Failure(row.rowNo(), row.userId(), e.getResultCode()));
+            }
+        }
+
+        walletRepo.saveAll(newWallets);
+        pointRepo.saveAll(points);
+        earnRepo.saveAll(earns);
+        earns.forEach(allocationIndex::sync);
+
+        // 만료일 합계는 지갑/만료일별로 모아서 batch 전체를 JDBC batch 1번으로 반영 (캠페인 적립은 보통 만료일이 같음)
+        expiryBucketService.addAll(earns.stream()
+                .collect(Collectors.groupingBy(PointEarn::getWalletKey,
+                        Collectors.groupingBy(PointEarn::getExpireDate, Collectors.summingLong(PointEarn::getEranBalanceAmount)))));
+        return new BatchOutcome(wallets.values(), newWallets, earns.size(), failures);
+    }
+
+    /** 파싱된 행 **/
+    private record Row(long rowNo, String userId, long pointAmount, EarnType earnType, LocalDate expireDate) {
+    }
+
+    /** batch 1개 처리 결과 **/
+    private record BatchOutcome(Collection<PointWallet> wallets, List<PointWallet> newWallets,
+                                int earnedCount, List<BulkEarnResult.Failure> failures) {
+    }
+
+    /** 실행 1회의 집계 (실패 행은 최대 maxFailures 건만 보관) **/
+    private static final class BulkRun {
+        private final LongAdder total = new LongAdder();
+        private final LongAdder earned = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final BoundedSamples<BulkEarnResult.Failure> failures;
+
+        private BulkRun(int maxFailures) {
+            this.failures = new BoundedSamples<>(maxFailures);
+        }
+
+        private void fail(long rowNo, String userId, ResultCode resultCode) {
+            failed.increment();
+            failures.add(new BulkEarnResult.Failure(rowNo, userId, resultCode));
+        }
+
+        private List<BulkEarnResult.Failure> failures() {
+            return failures.sorted(Comparator.comparingLong(BulkEarnResult.Failure::rowNo));
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package me.jslim.point.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.jslim.point.application.dto.ExpiryBucketVerifyResult;
+import me.jslim.point.application.support.UserLockRunner;
+import me.jslim.point.domain.repository.ExpiryBucketAmount;
+import me.jslim.point.domain.repository.PointEarnRepository;
+import me.jslim.point.domain.repository.PointWalletRepository;
+import me.jslim.point.domain.repository.WalletExpiryBucketRepository;
+import me.jslim.point.global.exception.BusinessException;
+import me.jslim.point.global.vo.ResultCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 지갑별 만료일별 적립 잔액 합계 (wallet_expiry_bucket)
+ * - 적립/사용/취소/만료 명령이 USER LOCK + 트랜잭션 안에서 만료일별 증감을 반영
+ *   (만료일 1개는 MERGE 1번, 여러 만료일 / 여러 지갑은 JDBC batch 1번)
+ * - 검증: 지갑을 wallet_key 순서로 chunk-size 개씩 나누어 worker pool 에서 병렬로 point_earn 합계와 비교
+ *   (락 없이 비교하므로 다른 지갑은 USER LOCK 을 잡고 다시 비교한 뒤에만 불일치로 보고)
+ */
+@Slf4j
+@Service
+public class ExpiryBucketService {
+    private final UserLockRunner userLockRunner;
+    private final PointWalletRepository walletRepo;
+    private final PointEarnRepository earnRepo;
+    private final WalletExpiryBucketRepository bucketRepo;
+    private final TransactionTemplate readOnlyTx;
+    private final int chunkSize;
+    private final int workerCount;
+    private final int maxDrifts;
+
+    public ExpiryBucketService(UserLockRunner userLockRunner, PointWalletRepository walletRepo,
+                               PointEarnRepository earnRepo, WalletExpiryBucketRepository bucketRepo,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${point.expiry-bucket.verify.chunk-size:1000}") int chunkSize,
+                               @Value("${point.expiry-bucket.verify.workers:4}") int workerCount,
+                               @Value("${point.expiry-bucket.verify.max-drifts:1000}") int maxDrifts) {
+        this.userLockRunner = userLockRunner;
+        this.walletRepo = walletRepo;
+        this.earnRepo = earnRepo;
+        this.bucketRepo = bucketRepo;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.workerCount = Math.max(1, workerCount);
+        this.maxDrifts = maxDrifts;
+    }
+
+    /** 만료일 합계 증감 (명령 트랜잭션 안에서 호출) **/
+    public void add(String walletKey, LocalDate expireDate, long amount) {
+        if (amount == 0) return;
+        bucketRepo.addAmount(walletKey, expireDate, amount);
+    }
+
+    /** 만료일별 증감 (만료일 순서로 반영, 0 은 건너뜀) **/
+    public void addAll(String walletKey, Map<LocalDate, Long> amounts) {
+        addAll(Map.of(walletKey, amounts));
+    }
+
+    /** 지갑별 만료일별 증감을 (지갑 키, 만료일) 순서로 JDBC batch 1번에 반영 (대량 적립 등 여러 지갑을 한 트랜잭션에서 처리할 때) **/
+    public void addAll(Map<String, Map<LocalDate, Long>> amountsByWallet) {
+        List<ExpiryBucketAmount> deltas = new ArrayList<>();
+        new TreeMap<>(amountsByWallet).forEach((walletKey, amounts) -> new TreeMap<>(amounts).forEach((expireDate, amount) -> {
+            if (amount != 0) deltas.add(new ExpiryBucketAmount(walletKey, expireDate, amount));
+        }));
+
+        if (deltas.size() == 1) {
+            ExpiryBucketAmount delta = deltas.getFirst();
+            bucketRepo.addAmount(delta.walletKey(), delta.expireDate(), delta.amount());
+        } else {
+            bucketRepo.addAmounts(deltas);
+        }
+    }
+
+    /** 합계가 0 이 된 만료일 삭제 (만료처리 후 호출) **/
+    public void deleteEmpty(String walletKey) {
+        bucketRepo.deleteEmpty(walletKey);
+    }
+
+    /**
+     * 전체 지갑의 만료일 합계를 point_earn 으로 다시 계산해 비교
+     * - 불일치는 WARN 로그로 남기고 결과로 반환 (수정하지 않음)
+     */
+    public ExpiryBucketVerifyResult verify() {
+        long start = System.nanoTime();
+        VerifyRun run = new VerifyRun(maxDrifts);
+
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService workers = Executors.newFixedThreadPool(
+                workerCount, Thread.ofPlatform().name("expiry-bucket-verify-", 0).factory())) {
+            String afterKey = "";
+            List<String> walletKeys;
+            do {
+                String after = afterKey;
+                walletKeys = readOnlyTx.execute(status -> walletRepo.findWalletKeysAfter(after, chunkSize));
+                if (walletKeys.isEmpty()) break;
+
+                String fromKey = walletKeys.getFirst();
+                String toKey = walletKeys.getLast();
+                int wallets = walletKeys.size();
+                futures.add(workers.submit(() -> verifyRange(run, fromKey, toKey, wallets)));
+                afterKey = toKey;
+            } while (walletKeys.size() == chunkSize);
+
+            ParallelWork.awaitAll(futures, "만료일 합계 검증이 중단되었습니다.");
+        }
+
+        ExpiryBucketVerifyResult result = new ExpiryBucketVerifyResult(run.checked.sum(), run.driftWallets.sum(),
+                run.skipped.sum(), (System.nanoTime() - start) / 1_000_000, run.drifts());
+        log.info("[EXPIRY-BUCKET] 검증 지갑 {}개, 불일치 {}개, 건너뜀 {}개, {}ms",
+                result.checkedWallets(), result.driftWallets(), result.skippedWallets(), result.elapsedMillis());
+        return result;
+    }
+
+    /** 지갑 키 범위 1개 검증 (합계와 적립을 지갑 키 범위로 한번씩 조회) **/
+    private void verifyRange(VerifyRun run, String fromKey, String toKey, int wallets) {
+        Map<String, Map<LocalDate, Long>> buckets = new HashMap<>();
+        Map<String, Map<LocalDate, Long>> earns = new HashMap<>();
+        readOnlyTx.executeWithoutResult(status -> {
+            group(bucketRepo.findInRange(fromKey, toKey), buckets);
+            group(earnRepo.sumAvailableByExpireDate(fromKey, toKey), earns);
+        });
+        run.checked.add(wallets);
+
+        Set<String> walletKeys = new TreeSet<>(buckets.keySet());
+        walletKeys.addAll(earns.keySet());
+        for (String walletKey : walletKeys) {
+            if (diff(walletKey, buckets.get(walletKey), earns.get(walletKey)).isEmpty()) continue;
+            recheck(run, walletKey);
+        }
+    }
+
+    /** 락 없이 비교해 다른 지갑은 USER LOCK 을 잡고 (진행중인 명령이 끝난 뒤) 다시 비교 **/
+    private void recheck(VerifyRun run, String walletKey) {
+        Optional<String> userId = readOnlyTx.execute(status -> walletRepo.findUserIdByWalletKey(walletKey));
+        if (userId.isEmpty()) return;
+
+        try {
+            List<ExpiryBucketVerifyResult.Drift> drifts = userLockRunner.run(userId.get(), () -> readOnlyTx.execute(status -> {
+                Map<String, Map<LocalDate, Long>> buckets = group(bucketRepo.findInRange(walletKey, walletKey), new HashMap<>());
+                Map<String, Map<LocalDate, Long>> earns = group(earnRepo.sumAvailableByExpireDate(walletKey, walletKey), new HashMap<>());
+                return diff(walletKey, buckets.get(walletKey), earns.get(walletKey));
+            }));
+            if (drifts.isEmpty()) return;
+
+            run.driftWallets.increment();
+            drifts.forEach(drift -> {
+                log.warn("[EXPIRY-BUCKET] 지갑 {} 만료일 {} 합계 불일치: bucket={}, earn={}",
+                        drift.walletKey(), drift.expireDate(), drift.bucketAmount(), drift.earnAmount());
+                run.report(drift);
+            });
+        } catch (BusinessException e) {
+            if (e.getResultCode() != ResultCode.USER_LOCK_TIMEOUT) throw e;
+            run.skipped.increment();
+        }
+    }
+
+    private static Map<String, Map<LocalDate, Long>> group(List<ExpiryBucketAmount> amounts,
+                                                           Map<String, Map<LocalDate, Long>> into) {
+        amounts.forEach(amount -> into
+                .computeIfAbsent(amount.walletKey(), key -> new HashMap<>())
+                .merge(amount.expireDate(), amount.amount(), Long::sum));
+        return into;
+    }
+
+    /** 만료일별 금액 비교 (없는 만료일은 0), 다른 만료일을 만료일 순서로 반환 **/
+    private static List<ExpiryBucketVerifyResult.Drift> diff(String walletKey,
+                                                            Map<LocalDate, Long> buckets,
+                                                            Map<LocalDate, Long> earns) {
+        Map<LocalDate, Long> bucketAmounts = buckets == null ? Map.of() : buckets;
+        Map<LocalDate, Long> earnAmounts = earns == null ? Map.of() : earns;
+
+        Set<LocalDate> dates = new TreeSet<>(bucketAmounts.keySet());
+        dates.addAll(earnAmounts.keySet());
+        return dates.stream()
+                .map(date -> new ExpiryBucketVerifyResult.Drift(walletKey, date,
+                        bucketAmounts.getOrDefault(date, 0L), earnAmounts.getOrDefault(date, 0L)))
+                .filter(drift -> drift.bucketAmount() != drift.earnAmount())
+                .collect(Collectors.toList());
+    }
+
+    /** 검증 1회의 집계 (불일치는 최대 maxDrifts 건만 보관) **/
+    private static final class VerifyRun {
+        private final LongAdder checked = new LongAdder();
+        private final LongAdder driftWallets = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+        private final BoundedSamples<ExpiryBucketVerifyResult.Drift> drifts;
+
+        private VerifyRun(int maxDrifts) {
+            this.drifts = new BoundedSamples<>(maxDrifts);
+        }
+
+        private void report(ExpiryBucketVerifyResult.Drift drift) {
+            drifts.add(drift);
+        }
+
+        private List<ExpiryBucketVerifyResult.Drift> drifts() {
+            return drifts.sorted(Comparator.comparing(ExpiryBucketVerifyResult.Drift::walletKey)
+                    .thenComparing(ExpiryBucketVerifyResult.Drift::expireDate));
+        }
+    }
+}
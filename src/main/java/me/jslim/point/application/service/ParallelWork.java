@@ -0,0 +1,34 @@
+package me.jslim.point.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * worker pool 에 나누어 제출한 작업의 완료 대기 (대량 적립 / 만료 / 만료일 합계 검증 공용)
+ * - 제출 순서대로 결과를 모음
+ * - 하나라도 실패하거나 대기 중 인터럽트되면 나머지 작업을 취소하고 예외를 전달 (RuntimeException 은 그대로)
+ */
+final class ParallelWork {
+    private ParallelWork() {
+    }
+
+    static <T> List<T> awaitAll(List<? extends Future<? extends T>> futures, String interruptedMessage) {
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<? extends T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException(interruptedMessage, e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
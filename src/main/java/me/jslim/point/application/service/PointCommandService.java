@@ -3,21 +3,36 @@ package me.jslim.point.application.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import me.jslim.point.application.dto.*;
+import me.jslim.point.application.support.EarnAllocationIndex;
+import me.jslim.point.application.support.IdempotencyStore;
 import me.jslim.point.application.support.PointKeyGenerator;
 import me.jslim.point.application.support.PointPolicy;
+import me.jslim.point.application.support.PointReadCache;
+import me.jslim.point.application.support.PolicySnapshot;
 import me.jslim.point.application.support.UserLockRunner;
+import me.jslim.point.application.support.WalletKeyCache;
 import me.jslim.point.domain.entity.*;
 import me.jslim.point.domain.repository.*;
+import me.jslim.point.domain.type.EarnStatus;
 import me.jslim.point.domain.type.EarnType;
 import me.jslim.point.global.exception.BusinessException;
 import me.jslim.point.global.vo.ResultCode;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -32,247 +47,406 @@ public class PointCommandService {
     private final PointUseRepository useRepo;
     private final PointUseCancelRepository useCancelRepo;
     private final PointPolicy policy;
+    private final WalletKeyCache walletKeyCache;
+    private final PointReadCache readCache;
+    private final IdempotencyStore idempotencyStore;
+    private final EarnAllocationIndex allocationIndex;
+    private final ExpiryBucketService expiryBucketService;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
     public EarnResult earn(EarnCmd earnCmd, LocalDate earnDate){
         // USER LOCK을 통해 트렌젝션중에 다른 요청을 받아 꼬이는 일이 없게 처리
-        return userLockRunner.run(earnCmd.userId(), () -> {
-            // 1. 포인트 지갑 확인, 적립
-            PointWallet wallet = walletRepo.findByUserId(earnCmd.userId())
-                    .orElseGet(() -> {
-                        String walletId = keyGenerator.newWalletKey();
-                        PointWallet newWallet = PointWallet.create(walletId, earnCmd.userId(), policy.defWalletMaximumPoint());
-                        return walletRepo.save(newWallet);
-                    });
-
-            wallet.earnBalance(earnCmd.pointAmount());
-            walletRepo.save(wallet);
-
-
-            // 2. 포인트 적립 등록
-            Point point = pointRepo.save(
-                    Point.createEarn(keyGenerator.newPointKey(), wallet.getWalletKey(), earnCmd.pointAmount(), policy.maximumPoint())
-            );
-
-            // 3. 적립내역 상세 등록
-            EarnType earnType = EarnType.fromString(earnCmd.earnType());
-
-            LocalDate expireDate = earnCmd.expireDate() == null
-                            ? null
-                            : LocalDate.parse(earnCmd.expireDate(), DateTimeFormatter.BASIC_ISO_DATE);
-            PointEarn pointEarn = earnRepo.save(
-                    PointEarn.create(
-                            keyGenerator.newEarnKey(),
-                            point,
-                            earnType,
-                            earnDate,
-                            expireDate,
-                            policy.maxExpireDays(),
-                            policy.defExpireDays()
-                    )
-            );
+        return replayOr(earnCmd, EarnResult.class, () -> runInLock(earnCmd.userId(), () -> applyEarn(earnCmd, earnDate)));
+    }
 
-            return EarnResult.success(pointEarn.getPointKey(), wallet.getBalanceAmount(), pointEarn.getExpireDate());
-        });
+    /** 포인트 적립 - 호출하는 쪽에서 USER LOCK 과 트랜잭션을 잡고 호출 **/
+    public EarnResult applyEarn(EarnCmd earnCmd, LocalDate earnDate) {
+        // 락 대기중 먼저 처리된 같은 멱등키 요청이 있으면 저장된 결과로 응답
+        Optional<EarnResult> replay = idempotencyStore.find(earnCmd, EarnResult.class);
+        if (replay.isPresent()) return replay.get();
+
+        PolicySnapshot snapshot = policy.snapshot();
+
+        // 1. 포인트 지갑 확인, 적립
+        Optional<PointWallet> found = findWallet(earnCmd.userId());
+        PointWallet wallet = found.orElseGet(() -> walletRepo.save(
+                PointWallet.create(keyGenerator.newWalletKey(), earnCmd.userId(), snapshot.defWalletMaximumPoint())
+        ));
+
+        wallet.earnBalance(earnCmd.pointAmount());
+
+        // 2. 포인트 적립 등록
+        Point point = pointRepo.save(
+                Point.createEarn(keyGenerator.newPointKey(), wallet.getWalletKey(), earnCmd.pointAmount(), snapshot.maximumPoint())
+        );
+
+        // 3. 적립내역 상세 등록
+        EarnType earnType = EarnType.fromString(earnCmd.earnType());
+
+        LocalDate expireDate = earnCmd.expireDate() == null
+                        ? null
+                        : LocalDate.parse(earnCmd.expireDate(), DateTimeFormatter.BASIC_ISO_DATE);
+        PointEarn pointEarn = earnRepo.save(
+                PointEarn.create(
+                        keyGenerator.newEarnKey(),
+                        point,
+                        earnType,
+                        earnDate,
+                        expireDate,
+                        snapshot.maxExpireDays(),
+                        snapshot.defExpireDays()
+                )
+        );
+        allocationIndex.sync(pointEarn);
+        expiryBucketService.add(wallet.getWalletKey(), pointEarn.getExpireDate(), pointEarn.getEranBalanceAmount());
+
+        // 적립이 끝까지 성공한 경우에만 신규 지갑키를 캐시 (커밋된 뒤에 반영, 파이프라인 batch 트랜잭션이 롤백되면 반영하지 않음)
+        if (found.isEmpty()) {
+            cacheAfterCommit(earnCmd.userId(), wallet.getWalletKey());
+        }
+        refreshAfterCommit(wallet);
+        EarnResult result = EarnResult.success(pointEarn.getPointKey(), wallet.getBalanceAmount(), pointEarn.getExpireDate());
+        idempotencyStore.save(earnCmd, result);
+        return result;
     }
 
      /** 포인트 적립 취소 **/
-    @Transactional
     public EarnCancelResult cancelEarn(EarnCancelCmd earnCancelCmd) {
-        return userLockRunner.run(earnCancelCmd.userId(), () -> {
-            // 1. 포인트 지갑 확인
-            PointWallet wallet = walletRepo.findByUserId(earnCancelCmd.userId())
-                    .orElseThrow(() -> new BusinessException(ResultCode.WALLET_NOT_FOUND));
-
-            // 2. 적립건 찾기
-            PointEarn pointEarn = earnRepo.findByPointKey(earnCancelCmd.pointKey())
-                    .orElseThrow(() -> new BusinessException(ResultCode.UNKNOW_POINT_KEY));
-
-            // 3. 적립취소
-            pointEarn.cancelEarn();
-            earnRepo.save(pointEarn);
-
-            // 4. 적립취소금액 반영
-            wallet.cancelEarnBalance(pointEarn.getEranAmount());
-            walletRepo.save(wallet);
-
-            // 5. 적립취소 포인트 생성
-            Point point = pointRepo.save(
-                    Point.createEarnCancel(keyGenerator.newPointKey(), wallet.getWalletKey(), pointEarn.getEranAmount())
-            );
-
-            // 6. 적립취소 상세 등록
-            earnCancelRepo.save(
-                    PointEarnCancel.create(keyGenerator.newEarnCancelKey(), pointEarn, point.getPointKey())
-            );
+        return replayOr(earnCancelCmd, EarnCancelResult.class, () -> runInLock(earnCancelCmd.userId(), () -> applyCancelEarn(earnCancelCmd)));
+    }
 
-            return EarnCancelResult.success(point.getPointKey(), wallet.getBalanceAmount());
-        });
+    /** 포인트 적립 취소 - 호출하는 쪽에서 USER LOCK 과 트랜잭션을 잡고 호출 **/
+    public EarnCancelResult applyCancelEarn(EarnCancelCmd earnCancelCmd) {
+        // 락 대기중 먼저 처리된 같은 멱등키 요청이 있으면 저장된 결과로 응답
+        Optional<EarnCancelResult> replay = idempotencyStore.find(earnCancelCmd, EarnCancelResult.class);
+        if (replay.isPresent()) return replay.get();
+
+        // 1. 포인트 지갑 확인
+        PointWallet wallet = findWallet(earnCancelCmd.userId())
+                .orElseThrow(() -> new BusinessException(ResultCode.WALLET_NOT_FOUND));
+
+        // 2. 적립건 찾기
+        PointEarn pointEarn = earnRepo.findByPointKey(earnCancelCmd.pointKey())
+                .orElseThrow(() -> new BusinessException(ResultCode.UNKNOW_POINT_KEY));
+
+        // 3. 적립취소 (사용하지 않은 적립만 취소되므로 취소 전 잔액 = 적립 금액)
+        long canceledBalance = pointEarn.getEranBalanceAmount();
+        pointEarn.cancelEarn();
+        earnRepo.save(pointEarn);
+        allocationIndex.sync(pointEarn);
+        expiryBucketService.add(pointEarn.getWalletKey(), pointEarn.getExpireDate(), -canceledBalance);
+
+        // 4. 적립취소금액 반영
+        wallet.cancelEarnBalance(pointEarn.getEranAmount());
+
+        // 5. 적립취소 포인트 생성
+        Point point = pointRepo.save(
+                Point.createEarnCancel(keyGenerator.newPointKey(), wallet.getWalletKey(), pointEarn.getEranAmount())
+        );
+
+        // 6. 적립취소 상세 등록
+        earnCancelRepo.save(
+                PointEarnCancel.create(keyGenerator.newEarnCancelKey(), pointEarn, point.getPointKey())
+        );
+
+        refreshAfterCommit(wallet);
+        EarnCancelResult result = EarnCancelResult.success(point.getPointKey(), wallet.getBalanceAmount());
+        idempotencyStore.save(earnCancelCmd, result);
+        return result;
     }
 
     /** 포인트 사용 **/
-    @Transactional
     public UseResult use(UseCmd useCmd, LocalDate useDate){
         // USER LOCK을 통해 트렌젝션중에 다른 요청을 받아 꼬이는 일이 없게 처리
-        return userLockRunner.run(useCmd.userId(), () -> {
-            // 1. 포인트 지갑 확인
-            PointWallet wallet = walletRepo.findByUserId(useCmd.userId())
-                    .orElseThrow(() -> new BusinessException(ResultCode.WALLET_NOT_FOUND));
-
-            // 2. 사용 금액 반영
-            wallet.useBalance(useCmd.useAmount());
-            walletRepo.save(wallet);
-
-            // 3. 사용
-            Point point = pointRepo.save(
-                    Point.createUse(keyGenerator.newPointKey(), wallet.getWalletKey(), useCmd.useAmount())
-            );
-
-            // 4. 사용 상세 등록
-            long remaining = useCmd.useAmount();
-            int pageSize = 50;
-            Boolean lastManual = null;
-            LocalDate lastExpire = null;
-            String lastEarnKey = null;
-
-            List<PointUse> useBatch = new ArrayList<>();
-            List<PointEarn> updatedEarns = new ArrayList<>();
-
-            // 금액만큼 적립 금액 차감
-            while (remaining > 0) {
-                List<PointEarn> earns = earnRepo.findAvailableEarns(
-                        wallet.getWalletKey(), useDate,
-                        lastManual, lastExpire, lastEarnKey, pageSize);
-
-                if (earns.isEmpty()) break;
-
-                for (PointEarn earn : earns) {
-                    long usable = Math.min(earn.getEranBalanceAmount(), remaining);
-                    if (usable <= 0) continue;
-
-                    // 금액만큼 사용
-                    earn.addBalanceAndStatus(-usable);
-                    updatedEarns.add(earn);
-
-                    // 사용상세 추가
-                    useBatch.add(
-                            PointUse.create(
-                                    keyGenerator.newUseKey(),
-                                    earn.getEarnKey(),
-                                    point.getPointKey(),
-                                    usable,
-                                    useCmd.orderNumber()
-                            )
-                    );
-
-                    remaining -= usable;
-                    if (remaining == 0) break;
-                }
-
-                if (earns.size() < pageSize) {
-                    // 마지막 조회에서도 금액 차감이 안된다면 시스템 에러
-                    if (remaining > 0) {
-                        throw new BusinessException(ResultCode.SYSTEM_ERROR);
-                    }
-                    break;
-                }
-
-                // 다음 커서에 사용될, 마지막 row 데이터 set
-                PointEarn last = earns.getLast();
-                lastManual = last.isManual();
-                lastExpire = last.getExpireDate();
-                lastEarnKey = last.getEarnKey();
-            }
+        return replayOr(useCmd, UseResult.class, () -> runInLock(useCmd.userId(), () -> applyUse(useCmd, useDate)));
+    }
 
-            // 5. 저장
-            useRepo.saveAll(useBatch);
-            earnRepo.saveAll(updatedEarns);
+    /** 포인트 사용 - 호출하는 쪽에서 USER LOCK 과 트랜잭션을 잡고 호출 **/
+    public UseResult applyUse(UseCmd useCmd, LocalDate useDate) {
+        // 락 대기중 먼저 처리된 같은 멱등키 요청이 있으면 저장된 결과로 응답
+        Optional<UseResult> replay = idempotencyStore.find(useCmd, UseResult.class);
+        if (replay.isPresent()) return replay.get();
+
+        // 1. 포인트 지갑 확인
+        PointWallet wallet = findWallet(useCmd.userId())
+                .orElseThrow(() -> new BusinessException(ResultCode.WALLET_NOT_FOUND));
+
+        // 2. 사용 금액 반영
+        wallet.useBalance(useCmd.useAmount());
+
+        // 3. 사용
+        Point point = pointRepo.save(
+                Point.createUse(keyGenerator.newPointKey(), wallet.getWalletKey(), useCmd.useAmount())
+        );
+
+        // 4. 사용 상세 등록 (사용할 금액을 채우는 적립건만 조회)
+        List<PointEarn> earns = earnsToUse(wallet.getWalletKey(), useDate, useCmd.useAmount());
+        long remaining = useCmd.useAmount();
+
+        List<PointUse> useBatch = new ArrayList<>(earns.size());
+        List<PointEarn> updatedEarns = new ArrayList<>(earns.size());
+        Map<LocalDate, Long> expiryAmounts = new HashMap<>();
+
+        // 금액만큼 적립 금액 차감
+        for (PointEarn earn : earns) {
+            long usable = Math.min(earn.getEranBalanceAmount(), remaining);
+            if (usable <= 0) continue;
+
+            // 금액만큼 사용
+            earn.addBalanceAndStatus(-usable);
+            updatedEarns.add(earn);
+            expiryAmounts.merge(earn.getExpireDate(), -usable, Long::sum);
+
+            // 사용상세 추가
+            useBatch.add(
+                    PointUse.create(
+                            keyGenerator.newUseKey(),
+                            earn.getEarnKey(),
+                            point.getPointKey(),
+                            usable,
+                            useCmd.orderNumber()
+                    )
+            );
 
-            return UseResult.success(point.getPointKey(), wallet.getBalanceAmount());
-        });
+            remaining -= usable;
+            if (remaining == 0) break;
+        }
+
+        // 사용가능 적립으로 금액 차감이 안된다면 시스템 에러 (지갑 잔액과 적립 잔액 불일치)
+        if (remaining > 0) {
+            throw new BusinessException(ResultCode.SYSTEM_ERROR);
+        }
+
+        // 5. 저장
+        useRepo.saveAll(useBatch);
+        earnRepo.saveAll(updatedEarns);
+        updatedEarns.forEach(allocationIndex::sync);
+        expiryBucketService.addAll(wallet.getWalletKey(), expiryAmounts);
+
+        refreshAfterCommit(wallet);
+        UseResult result = UseResult.success(point.getPointKey(), wallet.getBalanceAmount());
+        idempotencyStore.save(useCmd, result);
+        return result;
     }
 
 
     /** 포인트 사용 취소 **/
-
-    @Transactional
     public UseCancelResult cancelUse(UseCancelCmd useCancelCmd) {
+        return cancelUse(useCancelCmd, LocalDate.now());
+    }
+
+    /** 포인트 사용 취소 (cancelDate 기준으로 만료 여부 판단) **/
+    public UseCancelResult cancelUse(UseCancelCmd useCancelCmd, LocalDate cancelDate) {
         // USER LOCK을 통해 트렌젝션중에 다른 요청을 받아 꼬이는 일이 없게 처리
-        return userLockRunner.run(useCancelCmd.userId(), () -> {
-            // 1. 포인트 지갑 확인
-            PointWallet wallet = walletRepo.findByUserId(useCancelCmd.userId())
-                    .orElseThrow(() -> new BusinessException(ResultCode.WALLET_NOT_FOUND));
-
-            // 2. 사용 금액 반영
-            wallet.cancelUseBalance(useCancelCmd.useCancelAmount());
-            walletRepo.save(wallet);
-
-            // 3. 벌크 저장을 위한 List
-            List<Point> points = new ArrayList<>();
-            List<PointEarn> earns = new ArrayList<>();
-            List<PointUseCancel> useCancels = new ArrayList<>();
-
-            // 4. 사용 취소
-            Point point = Point.createUseCancel(keyGenerator.newPointKey(), wallet.getWalletKey(), useCancelCmd.useCancelAmount());
-            points.add(point);
-
-            // 5. 사용 취소 상세 등록
-            Point usePointKey = pointRepo.findByPointKey(useCancelCmd.pointKey())
-                    .orElseThrow(() -> new BusinessException(ResultCode.UNKNOW_POINT_KEY));
-
-            long alreadyCancelAmt = useCancelRepo.findAllByUsePointKey(usePointKey.getPointKey())
-                    .stream()
-                    .mapToLong(PointUseCancel::getAmount)
-                    .sum();
-
-            if(alreadyCancelAmt + useCancelCmd.useCancelAmount() + usePointKey.getPointAmount() > 0){
-                throw new BusinessException(ResultCode.USE_CANCEL_FAIL);
-            }
+        return replayOr(useCancelCmd, UseCancelResult.class, () -> runInLock(useCancelCmd.userId(), () -> applyCancelUse(useCancelCmd, cancelDate)));
+    }
 
-            long remaining = useCancelCmd.useCancelAmount();
-            for (PointUse pointUse : useRepo.findAllByPointKey(usePointKey.getPointKey())) {
-                long cancelable = Math.min(pointUse.getAmount(), remaining);
-                PointEarn earn = earnRepo.findById(pointUse.getEarnKey())
-                        .orElseThrow(() -> new BusinessException(ResultCode.EARN_NOT_FOUND));
-                // 취소상세 생성
-                PointUseCancel useCancel = PointUseCancel.create(keyGenerator.newUseCancelKey(), pointUse, cancelable, point.getPointKey());
-                useCancels.add(useCancel);
-
-                if (!earn.isExpired()) {
-                    // 만료전이라면 사용 취소
-                    earn.addBalanceAndStatus(cancelable);
-                    earns.add(earn);
-                } else {
-                    // 만료되었다면, 새로운 적립으로 생성
-                    Point newPoint = Point.createEarn(keyGenerator.newPointKey(), wallet.getWalletKey(), cancelable, policy.maximumPoint());
-                    PointEarn newEarn = PointEarn.createAsUseCancel(
-                            keyGenerator.newEarnKey(),
-                            newPoint,
-                            useCancel.getUsaCancelKey(),
-                            earn.isManual(),
-                            earn.getEarnDate(),
-                            policy.maxExpireDays(),
-                            policy.defExpireDays()
-                    );
-                    points.add(newPoint);
-                    earns.add(newEarn);
-                }
-
-                remaining-=cancelable;
-                if(remaining == 0) break;
+    /** 포인트 사용 취소 - 호출하는 쪽에서 USER LOCK 과 트랜잭션을 잡고 호출 **/
+    public UseCancelResult applyCancelUse(UseCancelCmd useCancelCmd, LocalDate cancelDate) {
+        // 락 대기중 먼저 처리된 같은 멱등키 요청이 있으면 저장된 결과로 응답
+        Optional<UseCancelResult> replay = idempotencyStore.find(useCancelCmd, UseCancelResult.class);
+        if (replay.isPresent()) return replay.get();
+
+        PolicySnapshot snapshot = policy.snapshot();
+
+        // 1. 포인트 지갑 확인
+        PointWallet wallet = findWallet(useCancelCmd.userId())
+                .orElseThrow(() -> new BusinessException(ResultCode.WALLET_NOT_FOUND));
+
+        // 2. 사용 금액 반영
+        wallet.cancelUseBalance(useCancelCmd.useCancelAmount());
+
+        // 3. 벌크 저장을 위한 List
+        List<Point> points = new ArrayList<>();
+        List<PointEarn> earns = new ArrayList<>();
+        List<PointUseCancel> useCancels = new ArrayList<>();
+        Map<LocalDate, Long> expiryAmounts = new HashMap<>();
+
+        // 4. 사용 취소
+        Point point = Point.createUseCancel(keyGenerator.newPointKey(), wallet.getWalletKey(), useCancelCmd.useCancelAmount());
+        points.add(point);
+
+        // 5. 사용 취소 상세 등록
+        Point usePointKey = pointRepo.findByPointKey(useCancelCmd.pointKey())
+                .orElseThrow(() -> new BusinessException(ResultCode.UNKNOW_POINT_KEY));
+
+        // 사용 상세별 취소된 금액(canceled_amount)으로 기취소금액 확인 (사용취소 내역을 다시 읽지 않음)
+        List<PointUse> pointUses = useRepo.findAllByPointKey(usePointKey.getPointKey());
+        long alreadyCancelAmt = pointUses.stream()
+                .mapToLong(PointUse::getCanceledAmount)
+                .sum();
+
+        if(alreadyCancelAmt + useCancelCmd.useCancelAmount() + usePointKey.getPointAmount() > 0){
+            throw new BusinessException(ResultCode.USE_CANCEL_FAIL);
+        }
+
+        // 사용한 적립건은 한번에 조회
+        Map<String, PointEarn> usedEarns = earnRepo.findAllById(
+                        pointUses.stream().map(PointUse::getEarnKey).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(PointEarn::getEarnKey, Function.identity()));
+
+        long remaining = useCancelCmd.useCancelAmount();
+        for (PointUse pointUse : pointUses) {
+            long cancelable = Math.min(pointUse.cancelableAmount(), remaining);
+            if (cancelable <= 0) continue;
+
+            PointEarn earn = usedEarns.get(pointUse.getEarnKey());
+            if (earn == null) {
+                throw new BusinessException(ResultCode.EARN_NOT_FOUND);
             }
 
-            // 취소된 금액이 요청금액과 다르다면 시스템 에러
-            if(remaining != 0){
-                throw new BusinessException(ResultCode.SYSTEM_ERROR);
+            // 취소상세 생성, 사용 상세에 취소금액 누적
+            PointUseCancel useCancel = PointUseCancel.create(keyGenerator.newUseCancelKey(), pointUse, cancelable, point.getPointKey());
+            useCancels.add(useCancel);
+            pointUse.cancel(cancelable);
+
+            if (!earn.isExpired(cancelDate)) {
+                // 만료전이라면 사용 취소
+                earn.addBalanceAndStatus(cancelable);
+                earns.add(earn);
+                expiryAmounts.merge(earn.getExpireDate(), cancelable, Long::sum);
+            } else {
+                // 만료되었다면, 새로운 적립으로 생성
+                Point newPoint = Point.createEarn(keyGenerator.newPointKey(), wallet.getWalletKey(), cancelable, snapshot.maximumPoint());
+                PointEarn newEarn = PointEarn.createAsUseCancel(
+                        keyGenerator.newEarnKey(),
+                        newPoint,
+                        useCancel.getUsaCancelKey(),
+                        earn.isManual(),
+                        earn.getEarnDate(),
+                        snapshot.maxExpireDays(),
+                        snapshot.defExpireDays()
+                );
+                points.add(newPoint);
+                earns.add(newEarn);
+                expiryAmounts.merge(newEarn.getExpireDate(), cancelable, Long::sum);
             }
 
-            // 한번에 저장
-            pointRepo.saveAll(points);
-            useCancelRepo.saveAll(useCancels);
-            earnRepo.saveAll(earns);
+            remaining-=cancelable;
+            if(remaining == 0) break;
+        }
+
+        // 취소된 금액이 요청금액과 다르다면 시스템 에러
+        if(remaining != 0){
+            throw new BusinessException(ResultCode.SYSTEM_ERROR);
+        }
+
+        // 한번에 저장
+        pointRepo.saveAll(points);
+        useCancelRepo.saveAll(useCancels);
+        earnRepo.saveAll(earns);
+        earns.forEach(allocationIndex::sync);
+        expiryBucketService.addAll(wallet.getWalletKey(), expiryAmounts);
+
+        refreshAfterCommit(wallet);
+        UseCancelResult result = UseCancelResult.success(point.getPointKey(), wallet.getBalanceAmount());
+        idempotencyStore.save(useCancelCmd, result);
+        return result;
+    }
+
+    /**
+     * 지갑 조회 (USER LOCK 안에서 호출)
+     * - 캐시된 지갑 키가 있으면 PK 로 조회, 없으면 user_id 로 조회 후 캐시
+     * - 잔액은 항상 DB 에서 읽으므로 캐시로 인해 잔액이 어긋나지 않음
+     */
+    private Optional<PointWallet> findWallet(String userId) {
+        Optional<String> walletKey = walletKeyCache.get(userId);
+        if (walletKey.isPresent()) {
+            Optional<PointWallet> wallet = walletRepo.findById(walletKey.get());
+            if (wallet.isPresent()) return wallet;
+
+            // 캐시된 지갑이 없어진 경우 (데이터 정리 등)
+            walletKeyCache.evict(userId);
+        }
+
+        Optional<PointWallet> wallet = walletRepo.findByUserId(userId);
+        wallet.ifPresent(found -> walletKeyCache.put(userId, found.getWalletKey()));
+        return wallet;
+    }
+
+    /**
+     * 사용할 적립건 조회 (사용 순서대로)
+     * - 지갑별 적립 index 가 있으면 메모리에서 사용할 적립건을 정하고, 해당 적립건만 PK 로 조회
+     * - index 와 DB 가 다르면 index 를 버리고 누적합 쿼리로 조회
+     */
+    private List<PointEarn> earnsToUse(String walletKey, LocalDate useDate, long useAmount) {
+        Optional<List<EarnAllocationIndex.Allocation>> plan = allocationIndex.allocate(walletKey, useDate, useAmount);
+        if (plan.isPresent()) {
+            List<PointEarn> earns = findPlanned(plan.get(), useDate);
+            if (earns != null) return earns;
+
+            log.warn("[ALLOCATION-INDEX] 지갑 {} index 불일치, DB 로 다시 계산", walletKey);
+            allocationIndex.evict(walletKey);
+        }
+        return earnRepo.findEarnsToCover(walletKey, useDate, useAmount);
+    }
+
+    /** index 로 정한 적립건 조회, 잔액/상태가 계획과 다르면 null **/
+    private List<PointEarn> findPlanned(List<EarnAllocationIndex.Allocation> plan, LocalDate useDate) {
+        Map<String, PointEarn> found = earnRepo.findAllById(
+                        plan.stream().map(EarnAllocationIndex.Allocation::earnKey).toList())
+                .stream()
+                .collect(Collectors.toMap(PointEarn::getEarnKey, Function.identity()));
+
+        List<PointEarn> earns = new ArrayList<>(plan.size());
+        for (int i = 0; i < plan.size(); i++) {
+            EarnAllocationIndex.Allocation allocation = plan.get(i);
+            PointEarn earn = found.get(allocation.earnKey());
+            if (earn == null || earn.getEarnStatus() != EarnStatus.AVAILABLE || earn.isExpired(useDate)) return null;
+
+            // 마지막 적립만 일부 사용, 나머지는 잔액 전부 사용
+            long balance = earn.getEranBalanceAmount();
+            boolean last = i == plan.size() - 1;
+            if (last ? balance < allocation.amount() : balance != allocation.amount()) return null;
+            earns.add(earn);
+        }
+        return earns;
+    }
 
-            return UseCancelResult.success(point.getPointKey(), wallet.getBalanceAmount());
+    /** 새 지갑은 커밋된 뒤에만 캐시 (롤백되면 캐시하지 않음) **/
+    private void cacheAfterCommit(String userId, String walletKey) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                walletKeyCache.put(userId, walletKey);
+            }
+        });
+    }
+
+    /** 커밋된 뒤 조회 캐시의 잔액 교체, 만료예정 요약 삭제 (롤백되면 그대로 둠) **/
+    private void refreshAfterCommit(PointWallet wallet) {
+        String userId = wallet.getUserId();
+        long balanceAmount = wallet.getBalanceAmount();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readCache.refresh(userId, balanceAmount);
+            }
         });
     }
+
+    /**
+     * 멱등키 재요청이면 USER LOCK / 트랜잭션 없이 저장된 결과로 응답, 아니면 명령 실행
+     * - 다른 인스턴스가 같은 멱등키를 먼저 커밋해 PK 가 중복되면, 이 요청은 롤백되고 먼저 커밋된 결과로 응답
+     */
+    private <T> T replayOr(IdempotentCmd cmd, Class<T> resultType, Supplier<T> command) {
+        Optional<T> stored = idempotencyStore.find(cmd, resultType);
+        if (stored.isPresent()) return stored.get();
+
+        try {
+            return command.get();
+        } catch (DataIntegrityViolationException e) {
+            return idempotencyStore.find(cmd, resultType).orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * USER LOCK 획득 후 트랜잭션 시작
+     * - 락 대기중에는 DB 커넥션을 점유하지 않도록, 트랜잭션은 반드시 락 안에서 연다
+     * - 락/트랜잭션 경계 모두 synchronized 없이 처리하므로 가상 스레드에서 실행해도 carrier 스레드를 점유하지 않음
+     */
+    private <T> T runInLock(String userId, Supplier<T> action) {
+        return userLockRunner.run(userId, () -> transactionTemplate.execute(status -> action.get()));
+    }
 }
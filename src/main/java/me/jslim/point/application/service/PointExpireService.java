@@ -1,31 +1,272 @@
 package me.jslim.point.application.service;
 
 import lombok.RequiredArgsConstructor;
-import me.jslim.point.domain.entity.PointEarn;
-import me.jslim.point.domain.repository.PointEarnRepository;
+import lombok.extern.slf4j.Slf4j;
+import me.jslim.point.application.dto.ExpireProgress;
+import me.jslim.point.application.dto.ExpireResult;
+import me.jslim.point.application.support.EarnAllocationIndex;
+import me.jslim.point.application.support.PointKeyGenerator;
+import me.jslim.point.application.support.PointReadCache;
+import me.jslim.point.application.support.UserLockRunner;
+import me.jslim.point.domain.entity.Point;
+import me.jslim.point.domain.entity.PointEarnCancel;
+import me.jslim.point.domain.entity.PointExpireCheckpoint;
+import me.jslim.point.domain.repository.*;
+import me.jslim.point.global.exception.BusinessException;
+import me.jslim.point.global.vo.ResultCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
 
+/**
+ * 포인트 적립금 만료
+ * - 만료 대상을 (expire_date, earn_key) keyset 으로 chunk 단위 조회
+ * - chunk 의 지갑을 wallet_key 해시로 샤드에 나누고, 샤드별로 worker pool 에서 병렬 처리
+ * - 지갑 단위로 USER LOCK 을 잡고 트랜잭션을 열어 처리 (사용/취소 요청과 직렬화, 락 보유는 지갑 1개의 chunk 분량으로 제한)
+ * - 지갑 처리는 건별 dirty checking 대신 집합 단위 SQL (지갑 차감 1회, 상태 변경 1회, 내역 batch insert)
+ * - chunk 가 모두 끝나면 진행 위치(checkpoint)를 저장하여, 중단되더라도 같은 기준일로 재실행하면 이어서 처리
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PointExpireService {
+    private static final String JOB_NAME = "POINT_EXPIRE";
+
+    private final UserLockRunner userLockRunner;
+    private final PointKeyGenerator keyGenerator;
+    private final PointWalletRepository walletRepo;
+    private final PointRepository pointRepo;
     private final PointEarnRepository earnRepo;
+    private final PointEarnCancelRepository earnCancelRepo;
+    private final PointExpireCheckpointRepository checkpointRepo;
+    private final PointReadCache readCache;
+    private final EarnAllocationIndex allocationIndex;
+    private final ExpiryBucketService expiryBucketService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${point.expire.chunk-size:1000}")
+    private final int chunkSize;
+
+    @Value("${point.expire.shards:16}")
+    private final int shardCount;
+
+    @Value("${point.expire.workers:4}")
+    private final int workerCount;
+
+    private volatile ExpireRun current;
+
+    public ExpireResult findActiveExpiring(LocalDate date) {
+        long start = System.nanoTime();
+
+        // 1. 진행 위치 확인 (같은 기준일로 중단된 작업이 있다면 이어서 처리)
+        PointExpireCheckpoint checkpoint = transactionTemplate.execute(status -> prepareCheckpoint(date));
+        if (checkpoint.getProcessedCount() > 0) {
+            log.info("[EXPIRE] {} 이어서 처리 (기처리 {}건)", date, checkpoint.getProcessedCount());
+        }
+
+        ExpireRun run = new ExpireRun(date, shardCount);
+        current = run;
+
+        // 2. chunk 단위 만료처리
+        LocalDate lastExpire = checkpoint.getLastExpireDate();
+        String lastEarnKey = checkpoint.getLastEarnKey();
+        try (ExecutorService workers = Executors.newFixedThreadPool(
+                workerCount, Thread.ofPlatform().name("point-expire-", 0).factory())) {
+            List<EarnExpireTarget> targets;
+            do {
+                targets = earnRepo.findExpireTargets(date, lastExpire, lastEarnKey, PageRequest.ofSize(chunkSize));
+                if (targets.isEmpty()) break;
+                run.scanned.add(targets.size());
+
+                int expired = expireChunk(workers, run, date, targets);
+
+                // 진행 위치 기록 (chunk 의 모든 샤드가 끝난 뒤)
+                EarnExpireTarget last = targets.getLast();
+                lastExpire = last.expireDate();
+                lastEarnKey = last.earnKey();
+                saveCheckpoint(lastExpire, lastEarnKey, expired);
+            } while (targets.size() == chunkSize);
+        } finally {
+            run.finish();
+        }
+
+        // 3. 완료되면 진행 위치 삭제
+        transactionTemplate.executeWithoutResult(status -> checkpointRepo.deleteById(JOB_NAME));
+
+        ExpireResult result = ExpireResult.of(date, run.expired.sum(), System.nanoTime() - start);
+        log.info("[EXPIRE] {} 만료 {}건, {}ms ({} rows/sec), workers={}, shards={}, 건너뛴 지갑 {}개",
+                date, result.expiredCount(), result.elapsedMillis(), (long) result.rowsPerSecond(),
+                workerCount, shardCount, run.skipped.sum());
+        return result;
+    }
+
+    /** 만료작업 진행 현황 (마지막 실행 기준) **/
+    public ExpireProgress progress() {
+        ExpireRun run = current;
+        return run == null ? ExpireProgress.NONE : run.snapshot();
+    }
+
+    /** 진행 위치 준비 **/
+    private PointExpireCheckpoint prepareCheckpoint(LocalDate date) {
+        PointExpireCheckpoint checkpoint = checkpointRepo.findById(JOB_NAME)
+                .orElseGet(() -> checkpointRepo.save(PointExpireCheckpoint.start(JOB_NAME, date)));
+
+        if (!date.equals(checkpoint.getBaseDate())) {
+            checkpoint.restart(date);
+        }
+        return checkpoint;
+    }
+
+    private void saveCheckpoint(LocalDate lastExpire, String lastEarnKey, int expired) {
+        transactionTemplate.executeWithoutResult(status -> checkpointRepo.findById(JOB_NAME)
+                .orElseThrow()
+                .advance(lastExpire, lastEarnKey, expired));
+    }
+
+    /** chunk 1개를 샤드별로 나누어 병렬 처리, 만료 건수 반환 **/
+    private int expireChunk(ExecutorService workers, ExpireRun run, LocalDate date, List<EarnExpireTarget> targets) {
+        Map<Integer, Map<String, List<EarnExpireTarget>>> shards = targets.stream()
+                .collect(Collectors.groupingBy(
+                        target -> Math.floorMod(target.walletKey().hashCode(), shardCount),
+                        TreeMap::new,
+                        Collectors.groupingBy(EarnExpireTarget::walletKey, LinkedHashMap::new, Collectors.toList())));
 
+        List<Future<Integer>> futures = new ArrayList<>(shards.size());
+        shards.forEach((shardNo, wallets) ->
+                futures.add(workers.submit(() -> expireShard(run, shardNo, date, wallets.values()))));
+
+        return ParallelWork.awaitAll(futures, "만료작업이 중단되었습니다.").stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+    }
+
+    /** 샤드 1개의 지갑들을 순서대로 처리 **/
+    private int expireShard(ExpireRun run, int shardNo, LocalDate date, Collection<List<EarnExpireTarget>> wallets) {
+        long begin = System.nanoTime();
+        int expired = 0;
+        for (List<EarnExpireTarget> walletTargets : wallets) {
+            try {
+                expired += userLockRunner.run(walletTargets.getFirst().userId(),
+                        () -> transactionTemplate.execute(status -> expireWallet(date, walletTargets)));
+            } catch (BusinessException e) {
+                if (e.getResultCode() != ResultCode.USER_LOCK_TIMEOUT) throw e;
+
+                // 사용중인 지갑은 건너뛰고 다음 실행에서 처리 (서비스 요청을 기다리게 하지 않음)
+                run.skipped.increment();
+                log.warn("[EXPIRE] 지갑 {} USER LOCK 대기시간 초과로 건너뜀", walletTargets.getFirst().walletKey());
+            }
+        }
+        run.record(shardNo, wallets.size(), expired, System.nanoTime() - begin);
+        return expired;
+    }
+
+    /** 지갑 1개의 만료처리 (USER LOCK 안에서 수행), 만료 건수 반환 **/
+    private int expireWallet(LocalDate date, List<EarnExpireTarget> scanned) {
+        // 조회 이후 사용/취소로 잔액이 바뀌었을 수 있으므로 락 획득 후 다시 조회
+        List<EarnExpireTarget> targets = earnRepo.findExpireTargetsIn(
+                scanned.stream().map(EarnExpireTarget::earnKey).toList(), date);
+        if (targets.isEmpty()) return 0;
+
+        List<String> earnKeys = targets.stream().map(EarnExpireTarget::earnKey).toList();
+
+        // 1. 지갑 잔액 차감 (만료금액 합산, 상태 변경 전에 수행)
+        walletRepo.subtractExpiredBalance(earnKeys);
+
+        // 2. 포인트 적립금 만료 처리, 만료일 합계 차감 (만료일별 1번, 0 이 된 만료일은 삭제)
+        String walletKey = targets.getFirst().walletKey();
+        earnRepo.expireAll(earnKeys);
+        allocationIndex.remove(walletKey, earnKeys);
+        expiryBucketService.addAll(walletKey, targets.stream().collect(Collectors.groupingBy(
+                EarnExpireTarget::expireDate, Collectors.summingLong(target -> -target.balanceAmount()))));
+        expiryBucketService.deleteEmpty(walletKey);
+
+        // 3. 포인트 내역 (적립취소 1건) + 적립취소 내역 (적립건별 만료취소)
+        long expireAmount = targets.stream().mapToLong(EarnExpireTarget::balanceAmount).sum();
+        Point point = pointRepo.save(
+                Point.createEarnCancel(keyGenerator.newPointKey(), walletKey, expireAmount)
+        );
+
+        List<PointEarnCancel> earnCancels = new ArrayList<>(targets.size());
+        for (EarnExpireTarget target : targets) {
+            earnCancels.add(PointEarnCancel.createAsExpired(
+                    keyGenerator.newEarnCancelKey(), target.earnKey(), point.getPointKey(), target.balanceAmount()));
+        }
+        earnCancelRepo.saveAll(earnCancels);
+
+        // 4. 커밋된 뒤 조회 캐시 삭제 (잔액은 SQL 로 차감했으므로 다음 조회때 DB 에서 읽음)
+        String userId = targets.getFirst().userId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readCache.evict(userId);
+            }
+        });
+        return targets.size();
+    }
+
+    /** 실행 1회의 진행 현황 집계 **/
+    private static final class ExpireRun {
+        private final LocalDate baseDate;
+        private final long startNanos = System.nanoTime();
+        private volatile long endNanos;
+
+        private final LongAdder scanned = new LongAdder();
+        private final LongAdder expired = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+
+        private final AtomicLongArray shardWallets;
+        private final AtomicLongArray shardExpired;
+        private final AtomicLongArray shardBusyNanos;
+
+        private ExpireRun(LocalDate baseDate, int shardCount) {
+            this.baseDate = baseDate;
+            this.shardWallets = new AtomicLongArray(shardCount);
+            this.shardExpired = new AtomicLongArray(shardCount);
+            this.shardBusyNanos = new AtomicLongArray(shardCount);
+        }
+
+        private void record(int shardNo, int wallets, int expiredCount, long busyNanos) {
+            expired.add(expiredCount);
+            shardWallets.addAndGet(shardNo, wallets);
+            shardExpired.addAndGet(shardNo, expiredCount);
+            shardBusyNanos.addAndGet(shardNo, busyNanos);
+        }
+
+        private void finish() {
+            endNanos = System.nanoTime();
+        }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void findActiveExpiring(LocalDate date) {
-        List<PointEarn> expirePointEarn = earnRepo.findExpiredEarns(date);
+        private ExpireProgress snapshot() {
+            long end = endNanos;
+            boolean running = end == 0;
+            long elapsedNanos = (running ? System.nanoTime() : end) - startNanos;
 
-        // 포인트 적립금 만료 처리
-        for (PointEarn earn : expirePointEarn) {
-            earn.expire();
+            List<ExpireProgress.Shard> shards = new ArrayList<>(shardExpired.length());
+            for (int i = 0; i < shardExpired.length(); i++) {
+                long count = shardExpired.get(i);
+                long busy = shardBusyNanos.get(i);
+                shards.add(new ExpireProgress.Shard(
+                        i,
+                        shardWallets.get(i),
+                        count,
+                        busy / 1_000_000,
+                        busy == 0 ? 0 : count * 1_000_000_000d / busy
+                ));
+            }
+            return new ExpireProgress(baseDate, running, scanned.sum(), expired.sum(), skipped.sum(),
+                    elapsedNanos / 1_000_000, shards);
         }
-        
-        // 저장
-        earnRepo.saveAll(expirePointEarn);
     }
 }
@@ -0,0 +1,175 @@
+package me.jslim.point.application.service;
+
+import me.jslim.point.application.dto.BalanceResult;
+import me.jslim.point.application.dto.ExpiringResult;
+import me.jslim.point.application.dto.HistoryQuery;
+import me.jslim.point.application.dto.HistoryResult;
+import me.jslim.point.application.support.PointPolicy;
+import me.jslim.point.application.support.PointReadCache;
+import me.jslim.point.domain.entity.Point;
+import me.jslim.point.domain.repository.*;
+import me.jslim.point.domain.type.PointType;
+import me.jslim.point.global.exception.BusinessException;
+import me.jslim.point.global.vo.ResultCode;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 포인트 조회
+ * - 명령이 커밋 후 갱신하는 조회 캐시에서 먼저 읽고, 없으면 읽기 전용 트랜잭션으로 DB 조회 후 캐시
+ * - USER LOCK 을 잡지 않으므로 조회가 많아도 명령의 락 대기에 영향을 주지 않음
+ * - 캐시 적중시에는 트랜잭션을 열지 않음 (DB 커넥션 미사용)
+ */
+@Service
+public class PointQueryService {
+    private static final int DEFAULT_HISTORY_SIZE = 20;
+    private static final int MAX_HISTORY_SIZE = 100;
+
+    private final PointWalletRepository walletRepo;
+    private final PointRepository pointRepo;
+    private final PointUseRepository useRepo;
+    private final PointUseCancelRepository useCancelRepo;
+    private final WalletExpiryBucketRepository bucketRepo;
+    private final PointPolicy policy;
+    private final PointReadCache readCache;
+    private final TransactionTemplate readOnlyTx;
+
+    public PointQueryService(PointWalletRepository walletRepo, PointRepository pointRepo,
+                             PointUseRepository useRepo, PointUseCancelRepository useCancelRepo,
+                             WalletExpiryBucketRepository bucketRepo, PointPolicy policy, PointReadCache readCache,
+                             PlatformTransactionManager transactionManager) {
+        this.walletRepo = walletRepo;
+        this.pointRepo = pointRepo;
+        this.useRepo = useRepo;
+        this.useCancelRepo = useCancelRepo;
+        this.bucketRepo = bucketRepo;
+        this.policy = policy;
+        this.readCache = readCache;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /** 현재 잔액 **/
+    public BalanceResult balance(String userId) {
+        Optional<BalanceResult> cached = readCache.balance(userId);
+        if (cached.isPresent()) return cached.get();
+
+        // 조회 전 세대를 읽어두고, 조회 중 명령이 커밋되었다면 캐시하지 않음
+        long generation = readCache.generation(userId);
+        long balanceAmount = readOnlyTx.execute(status -> walletRepo.findBalanceByUserId(userId))
+                .orElseThrow(() -> new BusinessException(ResultCode.WALLET_NOT_FOUND));
+
+        BalanceResult result = new BalanceResult(userId, balanceAmount);
+        readCache.fillBalance(userId, generation, result);
+        return result;
+    }
+
+    /** today ~ today + days 사이 만료예정 포인트 (만료일별 합계 테이블에서 기간의 행만 조회) **/
+    public ExpiringResult expiring(String userId, int days, LocalDate today) {
+        if (days < 1 || days > policy.snapshot().maxExpireDays()) {
+            throw new BusinessException(ResultCode.QUERY_DAYS_ERROR);
+        }
+
+        LocalDate to = today.plusDays(days);
+        Optional<ExpiringResult> cached = readCache.expiring(userId, today, to);
+        if (cached.isPresent()) return cached.get();
+
+        long generation = readCache.generation(userId);
+        List<ExpiringResult.Bucket> buckets = readOnlyTx.execute(status -> bucketRepo.findExpiring(userId, today, to))
+                .stream()
+                .map(amount -> new ExpiringResult.Bucket(amount.expireDate(), amount.amount()))
+                .toList();
+
+        ExpiringResult result = ExpiringResult.of(userId, today, to, buckets);
+        readCache.fillExpiring(userId, generation, result);
+        return result;
+    }
+
+    /**
+     * 포인트 내역 (최신순, point_key cursor 페이징)
+     * - 페이지 위치와 관계없이 cursor 다음 size + 1 건만 인덱스로 읽음 (1건은 다음 페이지 여부 확인용)
+     * - 사용/사용취소 상세는 페이지의 포인트 키로 타입별 1번씩 IN 조회
+     */
+    public HistoryResult history(HistoryQuery query) {
+        int size = query.size() == null ? DEFAULT_HISTORY_SIZE : query.size();
+        if (size < 1 || size > MAX_HISTORY_SIZE) {
+            throw new BusinessException(ResultCode.QUERY_SIZE_ERROR);
+        }
+        PointType pointType = parsePointType(query.pointType());
+        LocalDate from = parseDate(query.from());
+        LocalDate to = parseDate(query.to());
+        LocalDateTime fromAt = from == null ? null : from.atStartOfDay();
+        LocalDateTime toAt = to == null ? null : to.plusDays(1).atStartOfDay();
+
+        return readOnlyTx.execute(status -> {
+            String walletKey = walletRepo.findWalletKeyByUserId(query.userId())
+                    .orElseThrow(() -> new BusinessException(ResultCode.WALLET_NOT_FOUND));
+
+            List<Point> points = pointRepo.findHistory(walletKey,
+                    pointType == null ? null : pointType.code(), fromAt, toAt, query.cursor(), size + 1);
+            boolean hasNext = points.size() > size;
+            if (hasNext) points = points.subList(0, size);
+
+            Map<String, List<HistoryResult.Detail>> details = findDetails(points);
+            List<HistoryResult.Item> items = points.stream()
+                    .map(point -> new HistoryResult.Item(
+                            point.getPointKey(),
+                            point.getPointType().name(),
+                            point.getPointAmount(),
+                            point.getCreatedAt(),
+                            details.getOrDefault(point.getPointKey(), List.of())))
+                    .toList();
+
+            return new HistoryResult(query.userId(), items, hasNext ? points.getLast().getPointKey() : null);
+        });
+    }
+
+    /** 페이지의 사용/사용취소 상세를 포인트 키별로 조회 **/
+    private Map<String, List<HistoryResult.Detail>> findDetails(List<Point> points) {
+        Map<PointType, List<String>> keysByType = points.stream()
+                .collect(Collectors.groupingBy(Point::getPointType,
+                        Collectors.mapping(Point::getPointKey, Collectors.toList())));
+
+        Map<String, List<HistoryResult.Detail>> details = new HashMap<>();
+        List<String> useKeys = keysByType.get(PointType.USE);
+        if (useKeys != null) {
+            useRepo.findAllByPointKeyIn(useKeys).forEach(use -> details
+                    .computeIfAbsent(use.getPointKey(), key -> new ArrayList<>())
+                    .add(new HistoryResult.Detail(use.getUseKey(), use.getEarnKey(), use.getAmount(), use.getOrderNumber())));
+        }
+
+        List<String> useCancelKeys = keysByType.get(PointType.USE_CANCEL);
+        if (useCancelKeys != null) {
+            useCancelRepo.findAllByPointKeyIn(useCancelKeys).forEach(cancel -> details
+                    .computeIfAbsent(cancel.getPointKey(), key -> new ArrayList<>())
+                    .add(new HistoryResult.Detail(cancel.getUsaCancelKey(), cancel.getUseKey(), cancel.getAmount(), cancel.getOrderNumber())));
+        }
+        return details;
+    }
+
+    private PointType parsePointType(String type) {
+        if (type == null || type.isBlank()) return null;
+        try {
+            return PointType.valueOf(type.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ResultCode.QUERY_TYPE_ERROR);
+        }
+    }
+
+    private LocalDate parseDate(String date) {
+        if (date == null || date.isBlank()) return null;
+        try {
+            return LocalDate.parse(date, DateTimeFormatter.BASIC_ISO_DATE);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ResultCode.QUERY_DATE_ERROR);
+        }
+    }
+}
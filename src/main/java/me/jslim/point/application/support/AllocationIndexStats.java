@@ -0,0 +1,24 @@
+package me.jslim.point.application.support;
+
+/**
+ * 지갑별 적립 index 지표
+ * @param enabled    사용 여부 (point.allocation-index.max-wallets > 0)
+ * @param wallets    현재 적재된 지갑 수
+ * @param maxWallets 최대 지갑 수 (초과시 LRU 제거)
+ * @param maxEarns   지갑별 최대 적립건 수 (초과하는 지갑은 DB 로 계산)
+ * @param hits       index 로 사용 순서를 계산한 횟수
+ * @param loads      지갑 적재 횟수
+ * @param fallbacks  index 를 쓰지 못하고 DB 로 계산한 횟수
+ * @param evictions  크기 초과로 제거된 지갑 수
+ */
+public record AllocationIndexStats(
+        boolean enabled,
+        long wallets,
+        long maxWallets,
+        int maxEarns,
+        long hits,
+        long loads,
+        long fallbacks,
+        long evictions
+) {
+}
@@ -0,0 +1,40 @@
+package me.jslim.point.application.support;
+
+import me.jslim.point.domain.entity.PointEarn;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 지갑별 사용가능 적립 메모리 index (자주 사용하는 지갑의 사용 순서 계산용)
+ * - 지갑의 사용가능 적립을 사용 순서(관리자 적립 우선, 만료일, 적립 키)대로 메모리에 두고, 사용할 적립건과 금액을 메모리에서 계산
+ * - 처음 사용할 때 지갑 단위로 적재하고, 적립/사용/취소/만료로 바뀐 적립은 USER LOCK 안에서 반영
+ * - 조회/반영은 USER LOCK + 트랜잭션 안에서 수행, 트랜잭션이 롤백되면 반영했던 지갑은 index 에서 제거
+ */
+public interface EarnAllocationIndex {
+    /**
+     * 사용할 적립건과 금액 (사용 순서대로)
+     * - index 를 쓰지 않거나(비활성, 적립건이 너무 많은 지갑) 금액을 채우지 못하면 empty
+     */
+    Optional<List<Allocation>> allocate(String walletKey, LocalDate useDate, long amount);
+
+    /** 적립 변경 반영 (사용가능 + 잔액 존재면 등록/갱신, 아니면 제거, 적재되지 않은 지갑이면 무시) **/
+    void sync(PointEarn earn);
+
+    /** 적립 제거 (만료 등 집합 단위 SQL 로 변경한 적립) **/
+    void remove(String walletKey, Collection<String> earnKeys);
+
+    /** 지갑 제거 (다음 사용때 다시 적재) **/
+    void evict(String walletKey);
+
+    AllocationIndexStats stats();
+
+    /**
+     * @param earnKey 적립 키
+     * @param amount  이 적립에서 사용할 금액
+     */
+    record Allocation(String earnKey, long amount) {
+    }
+}
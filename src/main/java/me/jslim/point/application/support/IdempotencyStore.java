@@ -0,0 +1,19 @@
+package me.jslim.point.application.support;
+
+import me.jslim.point.application.dto.IdempotentCmd;
+
+import java.util.Optional;
+
+/**
+ * 멱등키별 처리 결과 저장소
+ * - find 는 USER LOCK 없이 호출 가능 (재요청은 락/트랜잭션 없이 저장된 결과로 응답)
+ * - save 는 명령과 같은 트랜잭션 안에서 호출 (명령이 롤백되면 결과도 저장되지 않음)
+ * - 같은 멱등키로 요청 내용이 다르면 IDEMPOTENCY_KEY_REUSED
+ */
+public interface IdempotencyStore {
+    <T> Optional<T> find(IdempotentCmd cmd, Class<T> resultType);
+    void save(IdempotentCmd cmd, Object result);
+
+    /** 보관기간이 지난 결과 삭제, 삭제 건수 반환 **/
+    int purgeExpired();
+}
@@ -0,0 +1,9 @@
+package me.jslim.point.application.support;
+
+/**
+ * 가상 스레드 pinning 감시
+ * - 가상 스레드가 synchronized / native 호출 안에서 대기하면 carrier 스레드를 점유하므로 발생 위치를 집계
+ */
+public interface PinningMonitor {
+    PinningStats stats(int top);
+}
@@ -0,0 +1,37 @@
+package me.jslim.point.application.support;
+
+import java.util.List;
+
+/**
+ * 가상 스레드 pinning 지표 (carrier 스레드를 놓지 못하고 대기한 구간)
+ * @param virtualThreads    가상 스레드 실행 모드 여부 (spring.threads.virtual.enabled)
+ * @param monitoring        JFR 이벤트 수집 여부
+ * @param thresholdMillis   수집하는 최소 pinning 시간
+ * @param pinnedEvents      pinning 발생 횟수
+ * @param totalPinnedMillis pinning 누적 시간
+ * @param maxPinnedMillis   최대 pinning 시간
+ * @param hotSites          발생 횟수가 많은 순서의 발생 위치
+ */
+public record PinningStats(
+        boolean virtualThreads,
+        boolean monitoring,
+        long thresholdMillis,
+        long pinnedEvents,
+        long totalPinnedMillis,
+        long maxPinnedMillis,
+        List<Site> hotSites
+) {
+    /**
+     * @param blockingFrame 대기한 호출 (가상 스레드 park 구현부 제외 최상단)
+     * @param appFrame      애플리케이션 코드의 호출 위치 (없으면 null)
+     * @param count         발생 횟수
+     * @param maxPinnedMillis 최대 pinning 시간
+     */
+    public record Site(
+            String blockingFrame,
+            String appFrame,
+            long count,
+            long maxPinnedMillis
+    ) {
+    }
+}
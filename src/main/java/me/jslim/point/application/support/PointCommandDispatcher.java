@@ -0,0 +1,19 @@
+package me.jslim.point.application.support;
+
+import me.jslim.point.application.dto.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 포인트 명령 처리 방식 (point.command.mode)
+ * - direct: 요청마다 USER LOCK + 트랜잭션 1개로 바로 처리
+ * - pipeline: 사용자 ID 해시 샤드의 ring buffer 에 넣고, 샤드 writer 가 여러 명령을 트랜잭션 1개로 모아서 커밋
+ * - 결과는 커밋된 뒤 완료되는 future 로 전달, 업무 실패는 BusinessException 으로 완료
+ */
+public interface PointCommandDispatcher {
+    CompletableFuture<EarnResult> earn(EarnCmd earnCmd, LocalDate earnDate);
+    CompletableFuture<EarnCancelResult> cancelEarn(EarnCancelCmd earnCancelCmd);
+    CompletableFuture<UseResult> use(UseCmd useCmd, LocalDate useDate);
+    CompletableFuture<UseCancelResult> cancelUse(UseCancelCmd useCancelCmd, LocalDate cancelDate);
+}
@@ -1,10 +1,8 @@
 package me.jslim.point.application.support;
 
 public interface PointPolicy {
-   int maxExpireDays();
-   int defExpireDays();
-   long maximumPoint();
-   long defWalletMaximumPoint();
+   /** 현재 정책 스냅샷 (명령마다 시작시 1회 조회하여 사용) **/
+   PolicySnapshot snapshot();
    void reload();
    void update(String key, String value);
 }
@@ -0,0 +1,28 @@
+package me.jslim.point.application.support;
+
+import me.jslim.point.application.dto.BalanceResult;
+import me.jslim.point.application.dto.ExpiringResult;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 조회용 캐시 (사용자 ID -> 잔액, 만료예정 요약)
+ * - 명령은 커밋된 뒤에 refresh/evict 로 갱신하고, 조회는 USER LOCK 없이 읽음
+ * - 캐시 미스로 DB 를 읽는 동안 명령이 커밋될 수 있으므로, 조회 전에 읽어둔 세대(generation)가
+ *   그대로일 때만 채움 (이전 값으로 덮어쓰지 않음)
+ */
+public interface PointReadCache {
+    Optional<BalanceResult> balance(String userId);
+    Optional<ExpiringResult> expiring(String userId, LocalDate from, LocalDate to);
+
+    /** 현재 세대 (DB 조회 전에 읽어둠) **/
+    long generation(String userId);
+    void fillBalance(String userId, long generation, BalanceResult balance);
+    void fillExpiring(String userId, long generation, ExpiringResult expiring);
+
+    /** 명령 커밋 후: 잔액 교체, 만료예정 요약 삭제 **/
+    void refresh(String userId, long balanceAmount);
+    /** 잔액을 알 수 없는 변경(만료작업 등) 커밋 후: 모두 삭제 **/
+    void evict(String userId);
+}
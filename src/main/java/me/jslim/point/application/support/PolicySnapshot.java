@@ -0,0 +1,50 @@
+package me.jslim.point.application.support;
+
+import java.util.Map;
+
+/**
+ * 포인트 정책 스냅샷 (불변)
+ * - 정책 변경시 문자열 설정값을 한번만 파싱하여 새 스냅샷으로 교체
+ * - 명령 1건은 시작할 때 읽은 스냅샷 1개만 사용 (처리 중 정책이 바뀌어도 일관된 값)
+ */
+public record PolicySnapshot(
+        int maxExpireDays,
+        int defExpireDays,
+        long maximumPoint,
+        long defWalletMaximumPoint
+) {
+    public static final String MAX_EXPIRE_DAYS = "MAX_EXPIRE_DAYS";
+    public static final String DEF_EXPIRE_DAYS = "DEF_EXPIRE_DAYS";
+    public static final String MAXIMUM_POINT = "MAXIMUM_POINT";
+    public static final String DEF_WALLET_MAXIMUM_POINT = "DEF_WALLET_MAXIMUM_POINT";
+
+    public static final PolicySnapshot DEFAULT = new PolicySnapshot(365 * 5, 365, 100_000, 1_000_000);
+
+    /** 설정값으로 스냅샷 생성 (없거나 숫자가 아닌 값은 기본값) **/
+    public static PolicySnapshot from(Map<String, String> values) {
+        return new PolicySnapshot(
+                parseInt(values.get(MAX_EXPIRE_DAYS), DEFAULT.maxExpireDays),
+                parseInt(values.get(DEF_EXPIRE_DAYS), DEFAULT.defExpireDays),
+                parseLong(values.get(MAXIMUM_POINT), DEFAULT.maximumPoint),
+                parseLong(values.get(DEF_WALLET_MAXIMUM_POINT), DEFAULT.defWalletMaximumPoint)
+        );
+    }
+
+    private static int parseInt(String value, int def) {
+        if (value == null) return def;
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+
+    private static long parseLong(String value, long def) {
+        if (value == null) return def;
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+}
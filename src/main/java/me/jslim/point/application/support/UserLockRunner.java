@@ -1,7 +1,18 @@
 package me.jslim.point.application.support;
 
+import java.util.Collection;
 import java.util.function.Supplier;
 
 public interface UserLockRunner {
     <T> T run(String userId, Supplier<T> action);
+
+    /** 여러 사용자의 락을 모두 잡은 뒤 실행 (대량 처리용, 락은 항상 같은 순서로 획득) **/
+    <T> T runAll(Collection<String> userIds, Supplier<T> action);
+
+    /** 사용자 ID 가 속한 lock stripe 번호 (0 ~ stripeCount - 1, 같은 번호의 사용자끼리만 락을 공유) **/
+    int stripeOf(String userId);
+
+    int stripeCount();
+
+    UserLockStats stats(int top);
 }
@@ -0,0 +1,58 @@
+package me.jslim.point.application.support;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * USER LOCK 경합 지표
+ * @param acquired          락 획득 횟수
+ * @param contended         대기 후 획득(또는 타임아웃)한 횟수
+ * @param timeouts          대기시간 초과 횟수
+ * @param interrupts        대기 중 인터럽트로 실패한 횟수
+ * @param waitTimeHistogram 대기시간 분포 (구간 상한 -> 건수, 경합 없는 획득 포함)
+ * @param hotLocks          대기열이 긴 순서의 락 목록
+ * @param hotUsers          다른 요청을 오래 기다리게 한 보유 사용자 목록
+ */
+public record UserLockStats(
+        long acquired,
+        long contended,
+        long timeouts,
+        long interrupts,
+        Map<String, Long> waitTimeHistogram,
+        List<HotLock> hotLocks,
+        List<HotUser> hotUsers
+) {
+    /**
+     * @param lockId       락 식별자
+     * @param holderUserId 현재 락을 보유한 사용자 (없으면 null)
+     * @param queueLength  대기중인 스레드 수
+     * @param contended    대기 후 획득 누적 횟수
+     * @param timeouts     대기시간 초과 누적 횟수
+     * @param maxWaitMillis 최대 대기시간
+     */
+    public record HotLock(
+            int lockId,
+            String holderUserId,
+            int queueLength,
+            long contended,
+            long timeouts,
+            long maxWaitMillis
+    ) {
+    }
+
+    /**
+     * @param userId          락을 보유하고 있던 사용자
+     * @param waits           이 사용자가 보유한 락을 기다린 횟수
+     * @param timeouts        그중 대기시간 초과 횟수
+     * @param totalWaitMillis 누적 대기시간
+     * @param maxWaitMillis   최대 대기시간
+     */
+    public record HotUser(
+            String userId,
+            long waits,
+            long timeouts,
+            long totalWaitMillis,
+            long maxWaitMillis
+    ) {
+    }
+}
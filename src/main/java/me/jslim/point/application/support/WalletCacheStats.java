@@ -0,0 +1,20 @@
+package me.jslim.point.application.support;
+
+/**
+ * 지갑 키 캐시 지표
+ * @param size      현재 건수
+ * @param maxSize   최대 건수 (초과시 LRU 제거)
+ * @param hits      캐시 적중 횟수
+ * @param misses    캐시 미적중 횟수
+ * @param evictions 크기 초과로 제거된 횟수
+ * @param hitRate   적중률 (0 ~ 1)
+ */
+public record WalletCacheStats(
+        long size,
+        long maxSize,
+        long hits,
+        long misses,
+        long evictions,
+        double hitRate
+) {
+}
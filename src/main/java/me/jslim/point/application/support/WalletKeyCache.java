@@ -0,0 +1,15 @@
+package me.jslim.point.application.support;
+
+import java.util.Optional;
+
+/**
+ * 사용자 ID -> 지갑 키 캐시
+ * - 지갑 키는 생성 후 바뀌지 않으므로 키만 캐시하고, 잔액 등 상태는 항상 DB 에서 PK 로 조회
+ * - 조회/등록/삭제는 USER LOCK 안에서 수행
+ */
+public interface WalletKeyCache {
+    Optional<String> get(String userId);
+    void put(String userId, String walletKey);
+    void evict(String userId);
+    WalletCacheStats stats();
+}
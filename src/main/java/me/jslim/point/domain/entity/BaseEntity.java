@@ -1,11 +1,11 @@
 package me.jslim.point.domain.entity;
 
-import jakarta.persistence.Column;
-import jakarta.persistence.EntityListeners;
-import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
@@ -13,7 +13,7 @@ import java.time.LocalDateTime;
 @Getter
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
-public abstract class BaseEntity {
+public abstract class BaseEntity implements Persistable<String> {
 
     @CreatedDate
     @Column(name = "created_at")
@@ -22,4 +22,24 @@ public abstract class BaseEntity {
     @LastModifiedDate
     @Column(name = "updated_at")
     private LocalDateTime  updateAt;
-}
\ No newline at end of file
+
+    /**
+     * 신규 엔티티 여부
+     * - 키를 직접 할당하기 때문에, 표시하지 않으면 save 시 merge(SELECT 후 INSERT)로 처리됨
+     * - 팩토리 메소드로 생성하면 true, 저장되거나 조회되면 false
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PrePersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import me.jslim.point.domain.type.PointType;
+import me.jslim.point.domain.type.PointTypeConverter;
 import me.jslim.point.global.exception.BusinessException;
 import me.jslim.point.global.vo.ResultCode;
 import org.hibernate.annotations.Comment;
@@ -12,7 +13,10 @@ import org.hibernate.annotations.Comment;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "point")
+@Table(name = "point", indexes = {
+        // 지갑별 내역 조회 (findHistory) : 최신순 keyset 페이징과 같은 순서
+        @Index(name = "idx_point_wallet_history", columnList = "wallet_key, point_key desc")
+})
 @Comment("포인트 내역")
 public class Point extends BaseEntity {
     @Id
@@ -24,9 +28,9 @@ public class Point extends BaseEntity {
     @Comment("포인트 지갑 키")
     private String walletKey;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = PointTypeConverter.class)
     @Column(name = "point_type")
-    @Comment("포인트 타입(적립/사용/적립취소/사용취소)")
+    @Comment("포인트 타입(1:적립/2:사용/3:적립취소/4:사용취소)")
     private PointType pointType;
 
     @Column(name = "point_amount")
@@ -87,4 +91,9 @@ public class Point extends BaseEntity {
         point.pointAmount = amount;
         return point;
     }
+
+    @Override
+    public String getId() {
+        return pointKey;
+    }
 }
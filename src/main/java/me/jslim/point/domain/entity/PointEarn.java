@@ -5,7 +5,9 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import me.jslim.point.domain.type.EarnStatus;
+import me.jslim.point.domain.type.EarnStatusConverter;
 import me.jslim.point.domain.type.EarnType;
+import me.jslim.point.domain.type.EarnTypeConverter;
 import me.jslim.point.global.exception.BusinessException;
 import me.jslim.point.global.vo.ResultCode;
 import org.hibernate.annotations.Comment;
@@ -15,7 +17,13 @@ import java.time.LocalDate;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "point_earn")
+@Table(name = "point_earn", indexes = {
+        // 사용가능 적립 조회 (findEarnsToCover, findAvailableEarns) : 조건 + 정렬 순서와 동일
+        @Index(name = "idx_point_earn_alloc", columnList = "wallet_key, earn_status, is_manual desc, expire_date, earn_key"),
+        @Index(name = "idx_point_earn_point_key", columnList = "point_key"),
+        // 만료 대상 조회 (findExpiredEarns)
+        @Index(name = "idx_point_earn_expire", columnList = "earn_status, expire_date, earn_key")
+})
 @Comment("포인트 적립")
 public class PointEarn extends BaseEntity {
     @Id
@@ -31,14 +39,14 @@ public class PointEarn extends BaseEntity {
     @Comment("포인트 키")
     private String pointKey;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = EarnTypeConverter.class)
     @Column(name = "earn_type")
-    @Comment("적립 타입(사용자 적립/관리자 적립/사용취소 적립)")
+    @Comment("적립 타입(1:사용자 적립/2:관리자 적립/3:사용취소 적립)")
     private EarnType earnType;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = EarnStatusConverter.class)
     @Column(name = "earn_status")
-    @Comment("적립 상태(사용가능/사용불가능/적립취소됨)")
+    @Comment("적립 상태(1:사용가능/2:사용불가능/3:만료/4:적립취소됨)")
     private EarnStatus earnStatus;
     
     @Column(name = "earn_amount")
@@ -163,13 +171,13 @@ public class PointEarn extends BaseEntity {
         this.earnStatus = this.eranBalanceAmount == 0 ? EarnStatus.UNAVAILABLE : EarnStatus.AVAILABLE;
     }
 
-    /** 포인트 만료처리 */
-    public void expire(){
-        this.earnStatus = EarnStatus.EXPIRED;
+    /** 포인트 만료 여부 (만료처리 전이라도 기준일에 만료일이 지났다면 만료) **/
+    public boolean isExpired(LocalDate date) {
+        return this.earnStatus == EarnStatus.EXPIRED || this.expireDate.isBefore(date);
     }
 
-    /** 포인트 만료 여부 **/
-    public boolean isExpired() {
-        return this.earnStatus == EarnStatus.EXPIRED;
+    @Override
+    public String getId() {
+        return earnKey;
     }
 }
@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import me.jslim.point.domain.type.EarnCancelType;
+import me.jslim.point.domain.type.EarnCancelTypeConverter;
 import org.hibernate.annotations.Comment;
 
 @Entity
@@ -26,9 +27,9 @@ public class PointEarnCancel extends BaseEntity {
     @Comment("포인트 키")
     private String pointKey;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = EarnCancelTypeConverter.class)
     @Column(name = "earn_cancel_type")
-    @Comment("적립 취소 타입(사용자 적립취소/유효기간 만료 적립취소)")
+    @Comment("적립 취소 타입(1:사용자 적립취소/2:유효기간 만료 적립취소)")
     private EarnCancelType earnCancelType;
 
     @Column(name = "earn_cancel_amount")
@@ -52,4 +53,20 @@ public class PointEarnCancel extends BaseEntity {
                 pointEarn.getEranAmount()
         );
     }
+
+    /** 유효기간 만료로 인한 적립취소 **/
+    public static PointEarnCancel createAsExpired(String earnCancelKey, String earnKey, String pointKey, long expireAmount) {
+        return new PointEarnCancel(
+                earnCancelKey,
+                earnKey,
+                pointKey,
+                EarnCancelType.EARN_CANCEL_EXPIRED,
+                expireAmount
+        );
+    }
+
+    @Override
+    public String getId() {
+        return earnCancelKey;
+    }
 }
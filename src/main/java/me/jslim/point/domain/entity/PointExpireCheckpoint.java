@@ -0,0 +1,68 @@
+package me.jslim.point.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDate;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "point_expire_checkpoint")
+@Comment("포인트 만료 작업 진행 위치")
+public class PointExpireCheckpoint extends BaseEntity {
+    @Id
+    @Column(name = "job_name")
+    @Comment("작업명")
+    private String jobName;
+
+    @Column(name = "base_date")
+    @Comment("만료 기준일")
+    private LocalDate baseDate;
+
+    @Column(name = "last_expire_date")
+    @Comment("마지막으로 처리한 적립의 만료일")
+    private LocalDate lastExpireDate;
+
+    @Column(name = "last_earn_key")
+    @Comment("마지막으로 처리한 적립 키")
+    private String lastEarnKey;
+
+    @Column(name = "processed_count")
+    @Comment("처리 건수")
+    private long processedCount;
+
+    public static PointExpireCheckpoint start(String jobName, LocalDate baseDate) {
+        PointExpireCheckpoint checkpoint = new PointExpireCheckpoint();
+        checkpoint.jobName = jobName;
+        checkpoint.baseDate = baseDate;
+        checkpoint.processedCount = 0;
+        return checkpoint;
+    }
+
+    /** 다른 기준일로 다시 시작 **/
+    public void restart(LocalDate baseDate) {
+        this.baseDate = baseDate;
+        this.lastExpireDate = null;
+        this.lastEarnKey = null;
+        this.processedCount = 0;
+    }
+
+    /** 처리한 위치 기록 **/
+    public void advance(LocalDate lastExpireDate, String lastEarnKey, int count) {
+        this.lastExpireDate = lastExpireDate;
+        this.lastEarnKey = lastEarnKey;
+        this.processedCount += count;
+    }
+
+    @Override
+    public String getId() {
+        return jobName;
+    }
+}
@@ -0,0 +1,46 @@
+package me.jslim.point.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "point_idempotency", indexes = {
+        @Index(name = "idx_point_idempotency_created_at", columnList = "created_at")
+})
+@Comment("멱등키별 처리 결과")
+public class PointIdempotency extends BaseEntity {
+    @Id
+    @Column(name = "idempotency_key", length = 160)
+    @Comment("멱등키 (명령:사용자ID:요청 멱등키)")
+    private String idempotencyKey;
+
+    @Column(name = "request_hash", length = 64, nullable = false)
+    @Comment("멱등키를 제외한 요청 내용의 SHA-256 (hex)")
+    private String requestHash;
+
+    @Column(name = "response", length = 500, nullable = false)
+    @Comment("처리 결과 (JSON)")
+    private String response;
+
+    public static PointIdempotency create(String idempotencyKey, String requestHash, String response) {
+        PointIdempotency idempotency = new PointIdempotency();
+        idempotency.idempotencyKey = idempotencyKey;
+        idempotency.requestHash = requestHash;
+        idempotency.response = response;
+        return idempotency;
+    }
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+}
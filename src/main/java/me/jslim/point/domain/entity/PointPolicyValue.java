@@ -0,0 +1,42 @@
+package me.jslim.point.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "point_policy")
+@Comment("포인트 정책")
+public class PointPolicyValue extends BaseEntity {
+    @Id
+    @Column(name = "policy_key")
+    @Comment("정책 키")
+    private String policyKey;
+
+    @Column(name = "policy_value")
+    @Comment("정책 값")
+    private String policyValue;
+
+    public static PointPolicyValue create(String policyKey, String policyValue) {
+        PointPolicyValue value = new PointPolicyValue();
+        value.policyKey = policyKey;
+        value.policyValue = policyValue;
+        return value;
+    }
+
+    public void change(String policyValue) {
+        this.policyValue = policyValue;
+    }
+
+    @Override
+    public String getId() {
+        return policyKey;
+    }
+}
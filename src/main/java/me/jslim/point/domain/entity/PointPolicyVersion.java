@@ -0,0 +1,31 @@
+package me.jslim.point.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "point_policy_version")
+@Comment("포인트 정책 버전 (정책이 바뀔 때마다 증가, 인스턴스들이 주기적으로 확인)")
+public class PointPolicyVersion extends BaseEntity {
+    @Id
+    @Column(name = "name")
+    @Comment("버전 이름")
+    private String name;
+
+    @Column(name = "version")
+    @Comment("버전")
+    private long version;
+
+    @Override
+    public String getId() {
+        return name;
+    }
+}
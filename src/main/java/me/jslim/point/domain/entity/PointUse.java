@@ -3,16 +3,22 @@ package me.jslim.point.domain.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import me.jslim.point.global.exception.BusinessException;
+import me.jslim.point.global.vo.ResultCode;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "point_use")
+@Table(name = "point_use", indexes = {
+        @Index(name = "idx_point_use_point_key", columnList = "point_key")
+})
 @Comment("포인트 사용 상세")
 public class PointUse extends BaseEntity {
     @Id
@@ -36,6 +42,11 @@ public class PointUse extends BaseEntity {
     @Comment("주문번호")
     private String orderNumber;
 
+    @ColumnDefault("0")
+    @Column(name = "canceled_amount", nullable = false)
+    @Comment("사용취소된 금액 (사용취소 상세 금액 합계)")
+    private long canceledAmount;
+
     public static PointUse create(String useKey, String earnKey, String pointKey, long amount, String orderNumber) {
         PointUse pointUse = new PointUse();
         pointUse.useKey = useKey;
@@ -45,5 +56,22 @@ public class PointUse extends BaseEntity {
         pointUse.orderNumber = orderNumber;
         return pointUse;
     }
-}
 
+    /** 사용취소 가능 금액 **/
+    public long cancelableAmount() {
+        return amount - canceledAmount;
+    }
+
+    /** 사용취소 금액 반영 **/
+    public void cancel(long cancelAmount) {
+        if (cancelAmount < 1 || cancelAmount > cancelableAmount()) {
+            throw new BusinessException(ResultCode.USE_CANCEL_FAIL);
+        }
+        this.canceledAmount += cancelAmount;
+    }
+
+    @Override
+    public String getId() {
+        return useKey;
+    }
+}
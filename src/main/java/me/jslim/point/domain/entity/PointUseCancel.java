@@ -3,6 +3,7 @@ package me.jslim.point.domain.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -12,7 +13,10 @@ import org.hibernate.annotations.Comment;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "point_use_cancel")
+@Table(name = "point_use_cancel", indexes = {
+        @Index(name = "idx_point_use_cancel_use_key", columnList = "use_key"),
+        @Index(name = "idx_point_use_cancel_point_key", columnList = "point_key")
+})
 @Comment("포인트 사용취소 상세")
 public class PointUseCancel extends BaseEntity {
     @Id
@@ -46,5 +50,8 @@ public class PointUseCancel extends BaseEntity {
         return pointUseCancel;
     }
 
+    @Override
+    public String getId() {
+        return usaCancelKey;
+    }
 }
-
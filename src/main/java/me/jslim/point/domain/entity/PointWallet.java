@@ -3,6 +3,7 @@ package me.jslim.point.domain.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -14,7 +15,9 @@ import org.hibernate.annotations.Comment;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "point_wallet")
+@Table(name = "point_wallet", indexes = {
+        @Index(name = "ux_point_wallet_user_id", columnList = "user_id", unique = true)
+})
 @Comment("포인트 지갑")
 public class PointWallet extends BaseEntity {
     @Id
@@ -22,7 +25,7 @@ public class PointWallet extends BaseEntity {
     @Comment("포인트 지갑 아이디 (정렬가능한 pk)")
     private String walletKey;
 
-    @Column(name = "user_id", unique = true)
+    @Column(name = "user_id")
     @Comment("사용자 아이디")
     private String userId;
 
@@ -90,4 +93,8 @@ public class PointWallet extends BaseEntity {
         this.balanceAmount += point;
     }
 
+    @Override
+    public String getId() {
+        return walletKey;
+    }
 }
@@ -0,0 +1,35 @@
+package me.jslim.point.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지갑별 만료일별 사용가능 적립 잔액 합계
+ * - 사용가능 + 잔액이 있는 적립의 잔액을 (지갑, 만료일) 단위로 합산한 값 (point_earn 을 합산하지 않고 만료예정 조회)
+ * - 적립/사용/취소/만료 명령이 같은 트랜잭션에서 증감 SQL 로 갱신하므로 엔티티로 저장하지 않음
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "wallet_expiry_bucket")
+@Comment("지갑별 만료일별 적립 잔액 합계")
+public class WalletExpiryBucket {
+    @EmbeddedId
+    private WalletExpiryBucketId id;
+
+    @Column(name = "amount", nullable = false)
+    @Comment("만료일의 사용가능 적립 잔액 합계")
+    private long amount;
+
+    @Column(name = "updated_at")
+    @Comment("수정일시")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,26 @@
+package me.jslim.point.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/** 지갑별 만료일 합계 키 (지갑 키 + 만료일) **/
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class WalletExpiryBucketId implements Serializable {
+    @Column(name = "wallet_key")
+    private String walletKey;
+
+    @Column(name = "expire_date")
+    private LocalDate expireDate;
+}
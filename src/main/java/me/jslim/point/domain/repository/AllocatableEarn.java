@@ -0,0 +1,14 @@
+package me.jslim.point.domain.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 사용가능 적립의 사용 순서 판단에 필요한 값 (지갑별 메모리 index 적재용)
+ */
+public record AllocatableEarn(
+        String earnKey,
+        long balanceAmount,
+        boolean manual,
+        LocalDate expireDate
+) {
+}
@@ -0,0 +1,15 @@
+package me.jslim.point.domain.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 만료 대상 적립 (엔티티 대신 필요한 컬럼만 조회)
+ */
+public record EarnExpireTarget(
+        String earnKey,
+        String walletKey,
+        String userId,
+        long balanceAmount,
+        LocalDate expireDate
+) {
+}
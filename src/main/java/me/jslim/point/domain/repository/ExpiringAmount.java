@@ -0,0 +1,12 @@
+package me.jslim.point.domain.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 만료일별 사용가능 적립 잔액 합계
+ */
+public record ExpiringAmount(
+        LocalDate expireDate,
+        long amount
+) {
+}
@@ -0,0 +1,13 @@
+package me.jslim.point.domain.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 지갑별 만료일별 적립 잔액 (합계 테이블 검증용)
+ */
+public record ExpiryBucketAmount(
+        String walletKey,
+        LocalDate expireDate,
+        long amount
+) {
+}
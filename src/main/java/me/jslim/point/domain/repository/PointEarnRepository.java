@@ -1,27 +1,34 @@
 package me.jslim.point.domain.repository;
 
 import me.jslim.point.domain.entity.PointEarn;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PointEarnRepository extends JpaRepository<PointEarn, String> {
     Optional<PointEarn> findByPointKey(String pointKey);
+
+    /**
+     * 사용가능 적립 (사용 순서: 관리자 적립 우선, 만료일 빠른 순) limit 건씩 keyset 페이징
+     * is_manual 만 역순이므로, 같은 is_manual 안에서는 (expire_date, earn_key) row value 로 이어서 조회
+     */
     @Query(value = """
       select *
         from point_earn e
        where e.wallet_key = :walletKey
-         and e.earn_status = 'AVAILABLE'
+         and e.earn_status = :#{T(me.jslim.point.domain.type.EarnStatus).AVAILABLE.code()}
          and e.expire_date >= :today
          and (
               :lastManual is null
               or e.is_manual < :lastManual
-              or (e.is_manual = :lastManual and e.expire_date > :lastExpire)
-              or (e.is_manual = :lastManual and e.expire_date = :lastExpire and e.earn_key > :lastEarnKey)
+              or (e.is_manual = :lastManual and (e.expire_date, e.earn_key) > (:lastExpire, :lastEarnKey))
            )
        order by e.is_manual desc, e.expire_date asc, e.earn_key asc
        limit :limit
@@ -34,11 +41,110 @@ public interface PointEarnRepository extends JpaRepository<PointEarn, String> {
             @Param("lastEarnKey") String lastEarnKey,
             @Param("limit") int limit);
 
+    /**
+     * 사용할 금액을 채우는 데 필요한 사용가능 적립만 조회 (사용 순서대로)
+     * - 사용 순서의 누적합(window function)으로, 앞선 적립까지의 누적합이 amount 보다 작은 적립만 반환
+     * - 누적합은 idx_point_earn_alloc 순서로 계산하고, 필요한 적립만 PK 로 읽음 (page 반복 없이 1번 조회)
+     */
     @Query(value = """
-      select *
-        from point_earn e
-       where e.expire_date < :today
+      select e.*
+        from (
+              select a.earn_key
+                   , sum(a.earn_balance_amount) over (order by a.is_manual desc, a.expire_date asc, a.earn_key asc)
+                     - a.earn_balance_amount as prev_sum
+                from point_earn a
+               where a.wallet_key = :walletKey
+                 and a.earn_status = :#{T(me.jslim.point.domain.type.EarnStatus).AVAILABLE.code()}
+                 and a.expire_date >= :today
+             ) r
+        join point_earn e on e.earn_key = r.earn_key
+       where r.prev_sum < :amount
+       order by e.is_manual desc, e.expire_date asc, e.earn_key asc
+      """, nativeQuery = true)
+    List<PointEarn> findEarnsToCover(
+            @Param("walletKey") String walletKey,
+            @Param("today") LocalDate today,
+            @Param("amount") long amount);
+
+    /**
+     * 지갑의 사용가능 적립 전체 (사용 순서대로, 엔티티를 만들지 않음)
+     * - 지갑별 메모리 index 적재용, 만료일이 지난 적립도 만료처리 전이면 포함 (사용시 기준일로 제외)
+     */
+    @Query("""
+      select new me.jslim.point.domain.repository.AllocatableEarn(e.earnKey, e.eranBalanceAmount, e.isManual, e.expireDate)
+        from PointEarn e
+       where e.walletKey = :walletKey
+         and e.earnStatus = :#{T(me.jslim.point.domain.type.EarnStatus).AVAILABLE}
+         and e.eranBalanceAmount > 0
+       order by e.isManual desc, e.expireDate asc, e.earnKey asc
+    """)
+    List<AllocatableEarn> findAllocatableEarns(@Param("walletKey") String walletKey, Pageable pageable);
+
+    /**
+     * 만료 대상 적립 (사용가능 + 잔액 존재 + 만료일 지남)
+     * (expire_date, earn_key) 순서의 keyset 페이징
+     */
+    @Query("""
+      select new me.jslim.point.domain.repository.EarnExpireTarget(e.earnKey, e.walletKey, w.userId, e.eranBalanceAmount, e.expireDate)
+        from PointEarn e
+        join PointWallet w on w.walletKey = e.walletKey
+       where e.earnStatus = :#{T(me.jslim.point.domain.type.EarnStatus).AVAILABLE}
+         and e.expireDate < :today
+         and e.eranBalanceAmount > 0
+         and (
+              :lastExpire is null
+              or e.expireDate > :lastExpire
+              or (e.expireDate = :lastExpire and e.earnKey > :lastEarnKey)
+           )
+       order by e.expireDate asc, e.earnKey asc
+    """)
+    List<EarnExpireTarget> findExpireTargets(
+            @Param("today") LocalDate today,
+            @Param("lastExpire") LocalDate lastExpire,
+            @Param("lastEarnKey") String lastEarnKey,
+            Pageable pageable);
+
+    /**
+     * 만료 대상 적립 재조회 (USER LOCK 획득 후 최신 잔액 확인)
+     */
+    @Query("""
+      select new me.jslim.point.domain.repository.EarnExpireTarget(e.earnKey, e.walletKey, w.userId, e.eranBalanceAmount, e.expireDate)
+        from PointEarn e
+        join PointWallet w on w.walletKey = e.walletKey
+       where e.earnKey in :earnKeys
+         and e.earnStatus = :#{T(me.jslim.point.domain.type.EarnStatus).AVAILABLE}
+         and e.expireDate < :today
+         and e.eranBalanceAmount > 0
+    """)
+    List<EarnExpireTarget> findExpireTargetsIn(
+            @Param("earnKeys") Collection<String> earnKeys,
+            @Param("today") LocalDate today);
+
+    /**
+     * 지갑 키 범위의 사용가능 적립 잔액, 지갑별 만료일별 합계 (만료일 합계 테이블 검증용)
+     * 적립은 idx_point_earn_alloc (wallet_key, earn_status) 범위로 조회
+     */
+    @Query("""
+      select new me.jslim.point.domain.repository.ExpiryBucketAmount(e.walletKey, e.expireDate, sum(e.eranBalanceAmount))
+        from PointEarn e
+       where e.walletKey >= :fromKey
+         and e.walletKey <= :toKey
+         and e.earnStatus = :#{T(me.jslim.point.domain.type.EarnStatus).AVAILABLE}
+         and e.eranBalanceAmount > 0
+       group by e.walletKey, e.expireDate
+    """)
+    List<ExpiryBucketAmount> sumAvailableByExpireDate(
+            @Param("fromKey") String fromKey,
+            @Param("toKey") String toKey);
+
+    /** 적립 만료 상태로 일괄 변경 **/
+    @Modifying
+    @Query(value = """
+      update point_earn
+         set earn_status = :#{T(me.jslim.point.domain.type.EarnStatus).EXPIRED.code()}
+           , updated_at = current_timestamp
+       where earn_key in (:earnKeys)
     """, nativeQuery = true)
-    List<PointEarn> findExpiredEarns(@Param("today") LocalDate today);
+    int expireAll(@Param("earnKeys") Collection<String> earnKeys);
 }
 
@@ -0,0 +1,29 @@
+package me.jslim.point.domain.repository;
+
+import me.jslim.point.domain.entity.PointIdempotency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PointIdempotencyRepository extends JpaRepository<PointIdempotency, String> {
+    /** 보관기간 안의 멱등키만 키 순서로 limit 건씩 조회 (시작시 Bloom filter 적재용, 엔티티를 만들지 않음) **/
+    @Query(value = """
+        select i.idempotency_key
+          from point_idempotency i
+         where i.created_at >= :from
+           and i.idempotency_key > :afterKey
+         order by i.idempotency_key
+         limit :limit
+    """, nativeQuery = true)
+    List<String> findKeysCreatedFrom(@Param("from") LocalDateTime from,
+                                     @Param("afterKey") String afterKey,
+                                     @Param("limit") int limit);
+
+    @Modifying
+    @Query("delete from PointIdempotency i where i.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
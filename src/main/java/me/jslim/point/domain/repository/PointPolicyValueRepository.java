@@ -0,0 +1,7 @@
+package me.jslim.point.domain.repository;
+
+import me.jslim.point.domain.entity.PointPolicyValue;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PointPolicyValueRepository extends JpaRepository<PointPolicyValue, String> {
+}
@@ -0,0 +1,28 @@
+package me.jslim.point.domain.repository;
+
+import me.jslim.point.domain.entity.PointPolicyVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface PointPolicyVersionRepository extends JpaRepository<PointPolicyVersion, String> {
+    /** 버전만 조회 (PK 조회 1건, 엔티티를 만들지 않음) **/
+    @Query("select v.version from PointPolicyVersion v where v.name = :name")
+    Optional<Long> findVersion(@Param("name") String name);
+
+    @Modifying
+    @Query("update PointPolicyVersion v set v.version = v.version + 1 where v.name = :name")
+    int increase(@Param("name") String name);
+
+    /** 버전 행이 없을 때만 0 으로 추가 (있으면 변경 없음) **/
+    @Modifying
+    @Query(value = """
+      insert into point_policy_version (name, version, created_at, updated_at)
+      select :name, 0, current_timestamp, current_timestamp
+       where not exists (select 1 from point_policy_version where name = :name)
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name);
+}
@@ -2,10 +2,37 @@ package me.jslim.point.domain.repository;
 
 import me.jslim.point.domain.entity.Point;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PointRepository extends JpaRepository<Point, String> {
     Optional<Point> findByPointKey(String pointKey);
+
+    /**
+     * 지갑별 포인트 내역 (최신순)
+     * point_key 는 시간순 정렬 키이므로 (wallet_key, point_key) keyset 페이징 - OFFSET 없이 cursor 다음부터 조회
+     */
+    @Query(value = """
+      select *
+        from point p
+       where p.wallet_key = :walletKey
+         and (:pointType is null or p.point_type = :pointType)
+         and (:fromAt is null or p.created_at >= :fromAt)
+         and (:toAt is null or p.created_at < :toAt)
+         and (:cursor is null or p.point_key < :cursor)
+       order by p.point_key desc
+       limit :limit
+      """, nativeQuery = true)
+    List<Point> findHistory(
+            @Param("walletKey") String walletKey,
+            @Param("pointType") Integer pointType,
+            @Param("fromAt") LocalDateTime fromAt,
+            @Param("toAt") LocalDateTime toAt,
+            @Param("cursor") String cursor,
+            @Param("limit") int limit);
 }
 
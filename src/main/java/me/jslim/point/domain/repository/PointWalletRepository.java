@@ -2,10 +2,56 @@ package me.jslim.point.domain.repository;
 
 import me.jslim.point.domain.entity.PointWallet;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PointWalletRepository extends JpaRepository<PointWallet, String> {
     Optional<PointWallet> findByUserId(String userId);
-}
+    List<PointWallet> findAllByUserIdIn(Collection<String> userIds);
+
+    /** 잔액 조회 (엔티티 대신 잔액만, ux_point_wallet_user_id) **/
+    @Query("select w.balanceAmount from PointWallet w where w.userId = :userId")
+    Optional<Long> findBalanceByUserId(@Param("userId") String userId);
+
+    /** 지갑 키 조회 (ux_point_wallet_user_id) **/
+    @Query("select w.walletKey from PointWallet w where w.userId = :userId")
+    Optional<String> findWalletKeyByUserId(@Param("userId") String userId);
 
+    /** 지갑 키 순서로 afterKey 다음 limit 건 (전체 지갑을 나누어 처리하는 작업용, 엔티티를 만들지 않음) **/
+    @Query(value = """
+        select w.wallet_key
+          from point_wallet w
+         where w.wallet_key > :afterKey
+         order by w.wallet_key
+         limit :limit
+    """, nativeQuery = true)
+    List<String> findWalletKeysAfter(@Param("afterKey") String afterKey, @Param("limit") int limit);
+
+    /** 지갑의 사용자 ID (PK) **/
+    @Query("select w.userId from PointWallet w where w.walletKey = :walletKey")
+    Optional<String> findUserIdByWalletKey(@Param("walletKey") String walletKey);
+
+    /** 만료되는 적립 잔액을 지갑별로 합산하여 한번에 차감 **/
+    @Modifying
+    @Query(value = """
+      update point_wallet w
+         set balance_amount = balance_amount - (
+               select sum(e.earn_balance_amount)
+                 from point_earn e
+                where e.wallet_key = w.wallet_key
+                  and e.earn_key in (:earnKeys)
+             )
+           , updated_at = current_timestamp
+       where w.wallet_key in (
+               select e.wallet_key
+                 from point_earn e
+                where e.earn_key in (:earnKeys)
+             )
+    """, nativeQuery = true)
+    int subtractExpiredBalance(@Param("earnKeys") Collection<String> earnKeys);
+}
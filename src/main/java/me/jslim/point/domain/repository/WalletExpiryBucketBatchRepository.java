@@ -0,0 +1,11 @@
+package me.jslim.point.domain.repository;
+
+import java.util.List;
+
+/**
+ * 만료일 합계 증감을 JDBC batch 로 반영 (WalletExpiryBucketRepository 의 fragment)
+ */
+public interface WalletExpiryBucketBatchRepository {
+    /** 증감 목록을 순서대로 MERGE, 문장 1개를 JDBC batch 1번으로 실행 **/
+    void addAmounts(List<ExpiryBucketAmount> amounts);
+}
@@ -0,0 +1,39 @@
+package me.jslim.point.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.util.List;
+
+/**
+ * 만료일 합계 증감 JDBC batch
+ * - 명령 트랜잭션의 커넥션을 그대로 사용 (JpaTransactionManager 가 JDBC 커넥션을 공유)
+ * - JPA 의 변경을 flush 하지 않으므로, 같은 트랜잭션의 지갑/적립 batch insert 에 영향 없음
+ */
+@RequiredArgsConstructor
+public class WalletExpiryBucketBatchRepositoryImpl implements WalletExpiryBucketBatchRepository {
+    private static final String ADD_AMOUNT_SQL = """
+      merge into wallet_expiry_bucket b
+      using (select cast(? as varchar) wallet_key, cast(? as date) expire_date, cast(? as bigint) amount) s
+         on b.wallet_key = s.wallet_key
+        and b.expire_date = s.expire_date
+       when matched then
+            update set amount = b.amount + s.amount, updated_at = current_timestamp
+       when not matched then
+            insert (wallet_key, expire_date, amount, updated_at)
+            values (s.wallet_key, s.expire_date, s.amount, current_timestamp)
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addAmounts(List<ExpiryBucketAmount> amounts) {
+        if (amounts.isEmpty()) return;
+        jdbcTemplate.batchUpdate(ADD_AMOUNT_SQL, amounts, amounts.size(), (ps, amount) -> {
+            ps.setString(1, amount.walletKey());
+            ps.setDate(2, Date.valueOf(amount.expireDate()));
+            ps.setLong(3, amount.amount());
+        });
+    }
+}
@@ -0,0 +1,74 @@
+package me.jslim.point.domain.repository;
+
+import jakarta.persistence.QueryHint;
+import me.jslim.point.domain.entity.WalletExpiryBucket;
+import me.jslim.point.domain.entity.WalletExpiryBucketId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface WalletExpiryBucketRepository extends JpaRepository<WalletExpiryBucket, WalletExpiryBucketId>,
+        WalletExpiryBucketBatchRepository {
+    /**
+     * 만료일 합계 증감 (없으면 생성)
+     * - 이 테이블만 사용한다고 표시하여, 실행 전에 다른 엔티티의 변경을 flush 하지 않음 (JDBC batch 유지)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "wallet_expiry_bucket"))
+    @Query(value = """
+      merge into wallet_expiry_bucket b
+      using (select cast(:walletKey as varchar) wallet_key, cast(:expireDate as date) expire_date, cast(:amount as bigint) amount) s
+         on b.wallet_key = s.wallet_key
+        and b.expire_date = s.expire_date
+       when matched then
+            update set amount = b.amount + s.amount, updated_at = current_timestamp
+       when not matched then
+            insert (wallet_key, expire_date, amount, updated_at)
+            values (s.wallet_key, s.expire_date, s.amount, current_timestamp)
+    """, nativeQuery = true)
+    int addAmount(@Param("walletKey") String walletKey,
+                  @Param("expireDate") LocalDate expireDate,
+                  @Param("amount") long amount);
+
+    /** 합계가 0 이 된 만료일 삭제 (다시 적립되면 addAmount 가 생성) **/
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "wallet_expiry_bucket"))
+    @Query(value = "delete from wallet_expiry_bucket where wallet_key = :walletKey and amount = 0", nativeQuery = true)
+    int deleteEmpty(@Param("walletKey") String walletKey);
+
+    /**
+     * 만료예정 적립 잔액 (만료일이 from ~ to), 만료일별 합계
+     * 지갑은 user_id 유니크 인덱스, 합계는 PK (wallet_key, expire_date) 범위로 조회
+     */
+    @Query("""
+      select new me.jslim.point.domain.repository.ExpiringAmount(b.id.expireDate, b.amount)
+        from WalletExpiryBucket b
+        join PointWallet w on w.walletKey = b.id.walletKey
+       where w.userId = :userId
+         and b.id.expireDate >= :from
+         and b.id.expireDate <= :to
+         and b.amount > 0
+       order by b.id.expireDate asc
+    """)
+    List<ExpiringAmount> findExpiring(
+            @Param("userId") String userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    /** 지갑 키 범위의 만료일 합계 (0 제외) **/
+    @Query("""
+      select new me.jslim.point.domain.repository.ExpiryBucketAmount(b.id.walletKey, b.id.expireDate, b.amount)
+        from WalletExpiryBucket b
+       where b.id.walletKey >= :fromKey
+         and b.id.walletKey <= :toKey
+         and b.amount <> 0
+    """)
+    List<ExpiryBucketAmount> findInRange(
+            @Param("fromKey") String fromKey,
+            @Param("toKey") String toKey);
+}
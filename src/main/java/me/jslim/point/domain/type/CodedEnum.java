@@ -0,0 +1,10 @@
+package me.jslim.point.domain.type;
+
+/**
+ * DB 에 정수 코드로 저장하는 enum
+ * - 코드는 저장된 데이터와 맞물리므로 한번 정하면 변경하지 않음 (enum 순서와 무관)
+ * - 컬럼에는 코드값 CHECK 제약이 있으므로 값을 추가하면 migration 스크립트로 제약도 변경 (V4__coded_enum_columns.sql)
+ */
+public interface CodedEnum {
+    int code();
+}
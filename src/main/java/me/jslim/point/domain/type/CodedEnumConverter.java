@@ -0,0 +1,46 @@
+package me.jslim.point.domain.type;
+
+import jakarta.persistence.AttributeConverter;
+
+import java.lang.reflect.Array;
+
+/**
+ * CodedEnum <-> 정수 코드 변환 (코드를 배열 인덱스로 사용)
+ */
+public abstract class CodedEnumConverter<E extends Enum<E> & CodedEnum> implements AttributeConverter<E, Integer> {
+    private final Class<E> type;
+    private final E[] byCode;
+
+    @SuppressWarnings("unchecked")
+    protected CodedEnumConverter(Class<E> type) {
+        this.type = type;
+
+        E[] values = type.getEnumConstants();
+        int maxCode = 0;
+        for (E value : values) {
+            maxCode = Math.max(maxCode, value.code());
+        }
+
+        this.byCode = (E[]) Array.newInstance(type, maxCode + 1);
+        for (E value : values) {
+            if (byCode[value.code()] != null) {
+                throw new IllegalStateException(type.getSimpleName() + " 코드 중복: " + value.code());
+            }
+            byCode[value.code()] = value;
+        }
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(E attribute) {
+        return attribute == null ? null : attribute.code();
+    }
+
+    @Override
+    public E convertToEntityAttribute(Integer code) {
+        if (code == null) return null;
+        if (code < 0 || code >= byCode.length || byCode[code] == null) {
+            throw new IllegalArgumentException(type.getSimpleName() + " 알 수 없는 코드: " + code);
+        }
+        return byCode[code];
+    }
+}
@@ -1,6 +1,17 @@
 package me.jslim.point.domain.type;
 
-public enum EarnCancelType {
-    EARN_CANCEL_GENERAL, // 일반 적립 추소
-    EARN_CANCEL_EXPIRED, // 만료기간 종료로인한 취소
+public enum EarnCancelType implements CodedEnum {
+    EARN_CANCEL_GENERAL(1), // 일반 적립 추소
+    EARN_CANCEL_EXPIRED(2), // 만료기간 종료로인한 취소
+    ;
+    private final int code;
+
+    EarnCancelType(int code) {
+        this.code = code;
+    }
+
+    @Override
+    public int code() {
+        return code;
+    }
 }
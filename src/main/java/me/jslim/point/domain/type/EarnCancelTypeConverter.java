@@ -0,0 +1,10 @@
+package me.jslim.point.domain.type;
+
+import jakarta.persistence.Converter;
+
+@Converter
+public class EarnCancelTypeConverter extends CodedEnumConverter<EarnCancelType> {
+    public EarnCancelTypeConverter() {
+        super(EarnCancelType.class);
+    }
+}
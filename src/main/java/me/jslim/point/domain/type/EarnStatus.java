@@ -1,11 +1,22 @@
 package me.jslim.point.domain.type;
 
 
-public enum EarnStatus {
-    AVAILABLE, // 사용 가능
-    UNAVAILABLE, // 사용 불가능
-    EXPIRED,
-    CANCELED // 적립 취소됨
+public enum EarnStatus implements CodedEnum {
+    AVAILABLE(1), // 사용 가능
+    UNAVAILABLE(2), // 사용 불가능
+    EXPIRED(3),
+    CANCELED(4) // 적립 취소됨
+    ;
+    private final int code;
+
+    EarnStatus(int code) {
+        this.code = code;
+    }
+
+    @Override
+    public int code() {
+        return code;
+    }
 }
 
 
@@ -0,0 +1,10 @@
+package me.jslim.point.domain.type;
+
+import jakarta.persistence.Converter;
+
+@Converter
+public class EarnStatusConverter extends CodedEnumConverter<EarnStatus> {
+    public EarnStatusConverter() {
+        super(EarnStatus.class);
+    }
+}
@@ -1,10 +1,21 @@
 package me.jslim.point.domain.type;
 
-public enum EarnType {
-    EARN_GENERAL, // 일반 적립
-    EARN_MANUAL, // 관리자 수동 적립
-    EARN_AS_USE_CANCEL, // 사용 취소로 인한 적립
+public enum EarnType implements CodedEnum {
+    EARN_GENERAL(1), // 일반 적립
+    EARN_MANUAL(2), // 관리자 수동 적립
+    EARN_AS_USE_CANCEL(3), // 사용 취소로 인한 적립
     ;
+    private final int code;
+
+    EarnType(int code) {
+        this.code = code;
+    }
+
+    @Override
+    public int code() {
+        return code;
+    }
+
     public static EarnType fromString(String type) {
         if(type == null || type.isBlank()){
             return EarnType.EARN_GENERAL;
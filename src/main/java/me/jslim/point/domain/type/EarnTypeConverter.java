@@ -0,0 +1,10 @@
+package me.jslim.point.domain.type;
+
+import jakarta.persistence.Converter;
+
+@Converter
+public class EarnTypeConverter extends CodedEnumConverter<EarnType> {
+    public EarnTypeConverter() {
+        super(EarnType.class);
+    }
+}
@@ -1,5 +1,16 @@
 package me.jslim.point.domain.type;
 
-public enum PointType {
-    EARN, USE, EARN_CANCEL, USE_CANCEL
+public enum PointType implements CodedEnum {
+    EARN(1), USE(2), EARN_CANCEL(3), USE_CANCEL(4);
+
+    private final int code;
+
+    PointType(int code) {
+        this.code = code;
+    }
+
+    @Override
+    public int code() {
+        return code;
+    }
 }
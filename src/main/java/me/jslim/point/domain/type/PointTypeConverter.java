@@ -0,0 +1,10 @@
+package me.jslim.point.domain.type;
+
+import jakarta.persistence.Converter;
+
+@Converter
+public class PointTypeConverter extends CodedEnumConverter<PointType> {
+    public PointTypeConverter() {
+        super(PointType.class);
+    }
+}
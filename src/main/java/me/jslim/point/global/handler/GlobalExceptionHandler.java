@@ -16,7 +16,15 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ApiError> handleBiz(BusinessException e) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        // USER LOCK 대기시간 초과, 파이프라인 ring buffer 포화는 재시도 가능한 요청이므로 429
+        // USER LOCK 대기 중 인터럽트(종료중)는 503
+        HttpStatus status = e.getResultCode() == ResultCode.USER_LOCK_TIMEOUT
+                || e.getResultCode() == ResultCode.PIPELINE_BUSY
+                ? HttpStatus.TOO_MANY_REQUESTS
+                : e.getResultCode() == ResultCode.USER_LOCK_INTERRUPTED
+                ? HttpStatus.SERVICE_UNAVAILABLE
+                : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status)
                 .body(ApiError.of(e.getResultCode()));
     }
 
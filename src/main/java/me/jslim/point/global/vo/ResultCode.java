@@ -26,8 +26,18 @@ public enum ResultCode {
     EARN_USED_ERROR("이미 사용한 포인트는 적립취소할 수 없습니다."),
     EARN_BALANCE_ERROR("포인트 잔액이 0보다 작거나, 원래금액보다 커질 수 없습니다."),
 
+    /*조회*/
+    QUERY_DAYS_ERROR("조회 기간(일)은 1 이상, 최대 만료일 이하로 입력해야 합니다."),
+    QUERY_SIZE_ERROR("조회 건수는 1 ~ 100 사이로 입력해야 합니다."),
+    QUERY_TYPE_ERROR("포인트 타입 확인 필요 (EARN, USE, EARN_CANCEL, USE_CANCEL)"),
+    QUERY_DATE_ERROR("조회 시작일, 종료일은 yyyyMMdd 형식으로 입력해야 합니다."),
+
     /*기타*/
     USE_CANCEL_FAIL("취소금액 확인 필요"),
+    IDEMPOTENCY_KEY_REUSED("같은 멱등키로 다른 내용의 요청을 보낼 수 없습니다."),
+    USER_LOCK_TIMEOUT("동일 사용자의 요청이 처리중입니다. 잠시 후 다시 시도해 주세요."),
+    USER_LOCK_INTERRUPTED("요청 처리가 중단되었습니다. 잠시 후 다시 시도해 주세요."),
+    PIPELINE_BUSY("처리 대기중인 요청이 많습니다. 잠시 후 다시 시도해 주세요."),
     VALIDATION_ERROR("유효성 검증 에러"),
     SYSTEM_ERROR("시스템에러"),
     ;
@@ -0,0 +1,109 @@
+package me.jslim.point.infrastructure.cache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.jslim.point.application.support.PointPolicy;
+import me.jslim.point.application.support.PolicySnapshot;
+import me.jslim.point.domain.entity.PointPolicyValue;
+import me.jslim.point.domain.repository.PointPolicyValueRepository;
+import me.jslim.point.domain.repository.PointPolicyVersionRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * point_policy 테이블 기반 정책
+ * - 정책 변경시 값 저장과 버전 증가를 한 트랜잭션으로 처리
+ * - 버전 행은 migration / 시작시 미리 넣어두고 변경은 UPDATE 로만 증가 (인스턴스들이 동시에 처음 변경해도 INSERT 가 겹치지 않음)
+ * - reload() 는 버전(BIGINT 1건)만 조회하여 바뀐 경우에만 전체 정책을 읽어 스냅샷 교체
+ * - 조회(snapshot)는 DB 를 거치지 않음, 다른 인스턴스의 변경은 주기적인 reload 로 반영
+ */
+@Slf4j
+@Profile({"local", "perf"})
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.policy.store", havingValue = "db")
+public class DbPointPolicy implements PointPolicy {
+    private static final String VERSION_NAME = "POINT_POLICY";
+
+    private final PointPolicyValueRepository policyRepo;
+    private final PointPolicyVersionRepository versionRepo;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile PolicySnapshot snapshot = PolicySnapshot.DEFAULT;
+    private volatile long version = -1;
+    // synchronized 대신 ReentrantLock: 가상 스레드가 DB 조회 중에 carrier 스레드를 점유(pinning)하지 않도록
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    @PostConstruct
+    void init() {
+        ensureVersion();
+        load();
+    }
+
+    public PolicySnapshot snapshot() {
+        return snapshot;
+    }
+
+    public void reload() {
+        long current = versionRepo.findVersion(VERSION_NAME).orElse(0L);
+        if (current != version) {
+            load();
+        }
+    }
+
+    public void update(String key, String value) {
+        transactionTemplate.executeWithoutResult(status -> {
+            policyRepo.findById(key)
+                    .ifPresentOrElse(
+                            policy -> policy.change(value),
+                            () -> policyRepo.save(PointPolicyValue.create(key, value))
+                    );
+
+            // 버전 행이 지워진 경우에만 다시 추가한 뒤 증가
+            if (versionRepo.increase(VERSION_NAME) == 0) {
+                versionRepo.insertIfAbsent(VERSION_NAME);
+                versionRepo.increase(VERSION_NAME);
+            }
+        });
+
+        // 변경한 인스턴스는 바로 반영
+        load();
+    }
+
+    /** 버전 행 준비 (여러 인스턴스가 동시에 시작해 먼저 추가된 경우는 무시) **/
+    private void ensureVersion() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> versionRepo.insertIfAbsent(VERSION_NAME));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("[POLICY] 버전 행이 이미 추가됨: {}", e.getMessage());
+        }
+    }
+
+    /** 버전을 먼저 읽고 정책을 읽음 (사이에 변경이 있으면 다음 reload 에서 다시 읽음) **/
+    private void load() {
+        loadLock.lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                long current = versionRepo.findVersion(VERSION_NAME).orElse(0L);
+                Map<String, String> values = policyRepo.findAll().stream()
+                        .collect(Collectors.toMap(PointPolicyValue::getPolicyKey, PointPolicyValue::getPolicyValue));
+
+                snapshot = PolicySnapshot.from(values);
+                if (current != version) {
+                    log.info("[POLICY] 버전 {} -> {}, {}", version, current, snapshot);
+                }
+                version = current;
+            });
+        } finally {
+            loadLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package me.jslim.point.infrastructure.cache;
+
+import me.jslim.point.application.support.AllocationIndexStats;
+import me.jslim.point.application.support.EarnAllocationIndex;
+import me.jslim.point.domain.entity.PointEarn;
+import me.jslim.point.domain.repository.AllocatableEarn;
+import me.jslim.point.domain.repository.PointEarnRepository;
+import me.jslim.point.domain.type.EarnStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 크기 제한 LRU 지갑별 적립 index
+ * - 지갑 키 hash 로 나눈 segment 마다 access-order LinkedHashMap + lock (SegmentedLruMap)
+ * - 지갑 1개는 사용 순서로 정렬된 배열 (적립 키 / 잔액 / 관리자 적립 여부 / 만료일), 변경은 이진 탐색 후 해당 위치만 이동
+ * - 지갑 내용은 USER LOCK 을 잡은 스레드만 읽고 바꾸므로 별도 lock 없음 (segment lock 은 map 에만 사용)
+ * - 적립건이 max-earns 를 넘는 지갑은 적재하지 않고 DB 로 계산 (LRU 에서 제거될 때까지 다시 적재하지 않음)
+ * - 트랜잭션 안에서 적재/변경한 지갑을 기록해 두고, 롤백되면 해당 지갑을 제거
+ */
+@Profile({"local", "perf"})
+@Component
+public class LocalEarnAllocationIndex implements EarnAllocationIndex {
+    private static final Comparator<AllocatableEarn> ORDER = Comparator
+            .comparing(AllocatableEarn::manual).reversed()
+            .thenComparing(AllocatableEarn::expireDate)
+            .thenComparing(AllocatableEarn::earnKey);
+
+    private final PointEarnRepository earnRepo;
+    private final int maxEarns;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private final SegmentedLruMap<String, WalletIndex> wallets;
+    private final long maxWallets;
+
+    public LocalEarnAllocationIndex(PointEarnRepository earnRepo,
+                                    @Value("${point.allocation-index.max-wallets:0}") int maxWallets,
+                                    @Value("${point.allocation-index.max-earns:10000}") int maxEarns,
+                                    @Value("${point.allocation-index.segments:16}") int segments) {
+        this.earnRepo = earnRepo;
+        this.wallets = new SegmentedLruMap<>(maxWallets, segments, (walletKey, index) -> evictions.increment());
+        this.maxWallets = wallets.capacity();
+        this.maxEarns = Math.max(1, maxEarns);
+    }
+
+    @Override
+    public Optional<List<Allocation>> allocate(String walletKey, LocalDate useDate, long amount) {
+        if (maxWallets == 0) return Optional.empty();
+
+        WalletIndex index = get(walletKey);
+        if (index == null) {
+            index = load(walletKey);
+        } else {
+            track(walletKey);
+        }
+
+        List<Allocation> plan = index.overflow ? null : index.allocate(useDate.toEpochDay(), amount);
+        if (plan == null) {
+            fallbacks.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(plan);
+    }
+
+    @Override
+    public void sync(PointEarn earn) {
+        WalletIndex index = get(earn.getWalletKey());
+        if (index == null || index.overflow) return;
+
+        track(earn.getWalletKey());
+        int expireDay = (int) earn.getExpireDate().toEpochDay();
+        if (earn.getEarnStatus() == EarnStatus.AVAILABLE && earn.getEranBalanceAmount() > 0) {
+            index.put(earn.getEarnKey(), earn.getEranBalanceAmount(), earn.isManual(), expireDay);
+            if (index.size > maxEarns) evict(earn.getWalletKey());
+        } else {
+            index.remove(earn.getEarnKey(), earn.isManual(), expireDay);
+        }
+    }
+
+    @Override
+    public void remove(String walletKey, Collection<String> earnKeys) {
+        WalletIndex index = get(walletKey);
+        if (index == null || index.overflow) return;
+
+        track(walletKey);
+        index.removeAll(earnKeys instanceof Set<String> set ? set : new HashSet<>(earnKeys));
+    }
+
+    @Override
+    public void evict(String walletKey) {
+        wallets.remove(walletKey);
+    }
+
+    @Override
+    public AllocationIndexStats stats() {
+        return new AllocationIndexStats(maxWallets > 0, wallets.size(), maxWallets, maxEarns,
+                hits.sum(), loads.sum(), fallbacks.sum(), evictions.sum());
+    }
+
+    private WalletIndex get(String walletKey) {
+        if (maxWallets == 0) return null;
+
+        return wallets.get(walletKey);
+    }
+
+    /** 지갑 적재 (DB 조회는 segment lock 밖에서 수행, 같은 지갑은 USER LOCK 으로 한 스레드만 적재) **/
+    private WalletIndex load(String walletKey) {
+        List<AllocatableEarn> earns = new ArrayList<>(
+                earnRepo.findAllocatableEarns(walletKey, PageRequest.ofSize(maxEarns + 1)));
+        WalletIndex index;
+        if (earns.size() > maxEarns) {
+            index = WalletIndex.overflow();
+        } else {
+            // DB 정렬과 문자열 비교 규칙이 다를 수 있으므로 이진 탐색 기준으로 다시 정렬 (이미 정렬되어 있어 O(n))
+            earns.sort(ORDER);
+            index = WalletIndex.of(earns);
+        }
+
+        wallets.put(walletKey, index);
+
+        loads.increment();
+        track(walletKey);
+        return index;
+    }
+
+    /**
+     * 현재 트랜잭션에서 적재/변경한 지갑 기록
+     * - 트랜잭션별 지갑 목록을 리소스로 두고, 롤백되면 (커밋되지 않은 변경이 반영된) 지갑을 제거
+     * - 완료 처리는 USER LOCK 안에서 실행되므로 다른 요청이 롤백된 index 를 보지 않음
+     */
+    @SuppressWarnings("unchecked")
+    private void track(String walletKey) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        Set<String> touched = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (touched == null) {
+            Set<String> walletKeys = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, walletKeys);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(LocalEarnAllocationIndex.this);
+                    if (status != STATUS_COMMITTED) {
+                        walletKeys.forEach(LocalEarnAllocationIndex.this::evict);
+                    }
+                }
+            });
+            touched = walletKeys;
+        }
+        touched.add(walletKey);
+    }
+
+    /** 지갑 1개의 사용가능 적립 (사용 순서로 정렬된 병렬 배열) **/
+    private static final class WalletIndex {
+        private final boolean overflow;
+        private String[] keys;
+        private long[] balances;
+        private boolean[] manuals;
+        private int[] expireDays;
+        private int size;
+
+        private WalletIndex(int capacity, boolean overflow) {
+            this.overflow = overflow;
+            this.keys = new String[capacity];
+            this.balances = new long[capacity];
+            this.manuals = new boolean[capacity];
+            this.expireDays = new int[capacity];
+        }
+
+        private static WalletIndex overflow() {
+            return new WalletIndex(0, true);
+        }
+
+        private static WalletIndex of(List<AllocatableEarn> earns) {
+            WalletIndex index = new WalletIndex(Math.max(8, earns.size()), false);
+            for (AllocatableEarn earn : earns) {
+                int i = index.size++;
+                index.keys[i] = earn.earnKey();
+                index.balances[i] = earn.balanceAmount();
+                index.manuals[i] = earn.manual();
+                index.expireDays[i] = (int) earn.expireDate().toEpochDay();
+            }
+            return index;
+        }
+
+        /** 사용 순서대로 금액을 채울 때까지 할당 (기준일에 만료된 적립 제외), 채우지 못하면 null **/
+        private List<Allocation> allocate(long useDay, long amount) {
+            List<Allocation> plan = new ArrayList<>();
+            long remaining = amount;
+            for (int i = 0; i < size && remaining > 0; i++) {
+                if (expireDays[i] < useDay) continue;
+
+                long usable = Math.min(balances[i], remaining);
+                plan.add(new Allocation(keys[i], usable));
+                remaining -= usable;
+            }
+            return remaining > 0 ? null : plan;
+        }
+
+        private void put(String key, long balance, boolean manual, int expireDay) {
+            int i = find(key, manual, expireDay);
+            if (i >= 0) {
+                balances[i] = balance;
+                return;
+            }
+
+            int at = -(i + 1);
+            if (size == keys.length) grow();
+            int moved = size - at;
+            System.arraycopy(keys, at, keys, at + 1, moved);
+            System.arraycopy(balances, at, balances, at + 1, moved);
+            System.arraycopy(manuals, at, manuals, at + 1, moved);
+            System.arraycopy(expireDays, at, expireDays, at + 1, moved);
+            keys[at] = key;
+            balances[at] = balance;
+            manuals[at] = manual;
+            expireDays[at] = expireDay;
+            size++;
+        }
+
+        private void remove(String key, boolean manual, int expireDay) {
+            int i = find(key, manual, expireDay);
+            if (i < 0) return;
+
+            int moved = size - i - 1;
+            System.arraycopy(keys, i + 1, keys, i, moved);
+            System.arraycopy(balances, i + 1, balances, i, moved);
+            System.arraycopy(manuals, i + 1, manuals, i, moved);
+            System.arraycopy(expireDays, i + 1, expireDays, i, moved);
+            keys[--size] = null;
+        }
+
+        /** 여러건 제거 (한번 훑으면서 남는 적립만 앞으로 당김) **/
+        private void removeAll(Set<String> removed) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (removed.contains(keys[i])) continue;
+                keys[kept] = keys[i];
+                balances[kept] = balances[i];
+                manuals[kept] = manuals[i];
+                expireDays[kept] = expireDays[i];
+                kept++;
+            }
+            Arrays.fill(keys, kept, size, null);
+            size = kept;
+        }
+
+        /** 사용 순서 (관리자 적립 우선, 만료일, 적립 키) 기준 이진 탐색, 없으면 -(삽입 위치) - 1 **/
+        private int find(String key, boolean manual, int expireDay) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = compare(mid, key, manual, expireDay);
+                if (cmp < 0) low = mid + 1;
+                else if (cmp > 0) high = mid - 1;
+                else return mid;
+            }
+            return -(low + 1);
+        }
+
+        private int compare(int i, String key, boolean manual, int expireDay) {
+            if (manuals[i] != manual) return manuals[i] ? -1 : 1;
+            if (expireDays[i] != expireDay) return Integer.compare(expireDays[i], expireDay);
+            return keys[i].compareTo(key);
+        }
+
+        private void grow() {
+            int capacity = Math.max(8, keys.length << 1);
+            keys = Arrays.copyOf(keys, capacity);
+            balances = Arrays.copyOf(balances, capacity);
+            manuals = Arrays.copyOf(manuals, capacity);
+            expireDays = Arrays.copyOf(expireDays, capacity);
+        }
+    }
+}
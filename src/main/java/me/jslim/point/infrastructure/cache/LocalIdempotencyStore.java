@@ -0,0 +1,278 @@
+package me.jslim.point.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import me.jslim.point.application.dto.IdempotentCmd;
+import me.jslim.point.application.support.IdempotencyStore;
+import me.jslim.point.domain.entity.PointIdempotency;
+import me.jslim.point.domain.repository.PointIdempotencyRepository;
+import me.jslim.point.global.exception.BusinessException;
+import me.jslim.point.global.vo.ResultCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 크기 제한 LRU + Bloom filter + point_idempotency 테이블 멱등키 저장소
+ * - 조회: LRU 적중이면 바로 반환, Bloom filter 에 없으면 DB 를 보지 않고 신규 요청으로 판단, 있을 때만 PK 조회
+ * - 저장: 명령 트랜잭션 안에서 행 INSERT (PK 중복이면 커밋 실패), Bloom filter 는 바로 추가 (오탐은 PK 조회 1번)
+ *   LRU 는 커밋된 뒤에만 추가 (롤백된 결과를 돌려주지 않도록)
+ * - Bloom filter 는 삭제를 지원하지 않으므로 보관기간마다 2개를 교체해서 사용
+ *   (추가는 현재 filter 에만, 조회는 둘 다 확인, 현재 filter 가 보관기간을 채우면 만료 삭제 때 이전 filter 를 비우고 현재 filter 로 교체)
+ *   비워지는 filter 의 키는 모두 보관기간이 지났으므로, 오탐률은 보관기간 1개의 키 수(expected-keys) 기준으로 유지됨
+ * - 시작할 때 보관기간 안의 멱등키를 이전 filter 에 적재 (재시작 후 재요청도 락 없이 응답)
+ */
+@Slf4j
+@Profile({"local", "perf"})
+@Component
+public class LocalIdempotencyStore implements IdempotencyStore {
+    private static final int LOAD_PAGE_SIZE = 10_000;
+    private static final int SHA256_HEX_LENGTH = 64;
+
+    private final PointIdempotencyRepository idempotencyRepo;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final SegmentedLruMap<String, Stored> cache;
+    private final ReentrantLock rotateLock = new ReentrantLock();
+
+    /** 현재 보관기간에 추가된 키 (currentFrom 부터) **/
+    private volatile BloomFilter current;
+    /** 직전 보관기간에 추가된 키 **/
+    private volatile BloomFilter previous;
+    private volatile LocalDateTime currentFrom;
+
+    public LocalIdempotencyStore(PointIdempotencyRepository idempotencyRepo,
+                                 ObjectMapper objectMapper,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${point.idempotency.retention:24h}") Duration retention,
+                                 @Value("${point.idempotency.cache-size:100000}") int cacheSize,
+                                 @Value("${point.idempotency.segments:16}") int segments,
+                                 @Value("${point.idempotency.expected-keys:1000000}") int expectedKeys,
+                                 @Value("${point.idempotency.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.idempotencyRepo = idempotencyRepo;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.retention = retention;
+
+        this.cache = new SegmentedLruMap<>(cacheSize, segments);
+        this.current = new BloomFilter(expectedKeys, falsePositiveRate);
+        this.previous = new BloomFilter(expectedKeys, falsePositiveRate);
+        this.currentFrom = LocalDateTime.now();
+    }
+
+    @PostConstruct
+    public void loadBloomFilter() {
+        // 보관기간 안에 만든 키는 현재 filter 가 보관기간을 채워 교체될 때 모두 만료되므로 이전 filter 에 적재
+        LocalDateTime from = currentFrom.minus(retention);
+        String afterKey = "";
+        long loaded = 0;
+        while (true) {
+            String lastKey = afterKey;
+            List<String> keys = transactionTemplate.execute(status ->
+                    idempotencyRepo.findKeysCreatedFrom(from, lastKey, LOAD_PAGE_SIZE));
+            keys.forEach(previous::add);
+            loaded += keys.size();
+            if (keys.size() < LOAD_PAGE_SIZE) break;
+            afterKey = keys.getLast();
+        }
+        if (loaded > 0) {
+            log.info("[IDEMPOTENCY] 멱등키 {}건 Bloom filter 적재", loaded);
+        }
+    }
+
+    @Override
+    public <T> Optional<T> find(IdempotentCmd cmd, Class<T> resultType) {
+        if (cmd.idempotencyKey() == null) return Optional.empty();
+
+        String key = key(cmd);
+        Stored stored = cache.get(key);
+        if (stored == null) {
+            if (!current.mightContain(key) && !previous.mightContain(key)) return Optional.empty();
+
+            Optional<PointIdempotency> row = idempotencyRepo.findById(key);
+            if (row.isEmpty()) return Optional.empty();
+
+            stored = new Stored(row.get().getRequestHash(), read(row.get().getResponse(), resultType));
+            // 트랜잭션 안에서 읽은 행은 아직 커밋되지 않았을 수 있으므로 캐시하지 않음
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                cache.put(key, stored);
+            }
+        }
+
+        if (!matches(stored.requestHash(), cmd)) {
+            throw new BusinessException(ResultCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        return Optional.of(resultType.cast(stored.result()));
+    }
+
+    @Override
+    public void save(IdempotentCmd cmd, Object result) {
+        if (cmd.idempotencyKey() == null) return;
+
+        String key = key(cmd);
+        Stored stored = new Stored(requestHash(cmd), result);
+        idempotencyRepo.save(PointIdempotency.create(key, stored.requestHash(), write(result)));
+        current.add(key);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.put(key, stored);
+            }
+        });
+    }
+
+    @Override
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        rotateBloomFilters(now);
+        LocalDateTime before = now.minus(retention);
+        return transactionTemplate.execute(status -> idempotencyRepo.deleteCreatedBefore(before));
+    }
+
+    /**
+     * 현재 filter 가 보관기간을 채웠으면 이전 filter 를 비워서 현재 filter 로 사용
+     * - 비우기가 끝난 뒤에 교체하므로 새 키가 지워지지 않음, 교체 중 조회는 직전 현재 filter 로 확인
+     */
+    private void rotateBloomFilters(LocalDateTime now) {
+        rotateLock.lock();
+        try {
+            if (now.isBefore(currentFrom.plus(retention))) return;
+
+            BloomFilter cleared = previous;
+            cleared.clear();
+            previous = current;
+            current = cleared;
+            currentFrom = now;
+        } finally {
+            rotateLock.unlock();
+        }
+    }
+
+    /** 명령:사용자ID:멱등키 (사용자, 명령이 다르면 같은 멱등키도 별개) **/
+    private String key(IdempotentCmd cmd) {
+        String command = cmd.getClass().getSimpleName().replace("Cmd", "");
+        return command + ":" + cmd.userId() + ":" + cmd.idempotencyKey();
+    }
+
+    /**
+     * 멱등키를 제외한 요청 내용의 SHA-256 (hex 64자)
+     * - 필드마다 길이를 앞에 붙여 필드 경계가 값에 섞이지 않게 함 (null 은 길이 -1)
+     */
+    private static String requestHash(IdempotentCmd cmd) {
+        StringBuilder payload = new StringBuilder();
+        for (Object field : cmd.requestPayload()) {
+            String value = field == null ? null : field.toString();
+            payload.append(value == null ? -1 : value.length()).append(':');
+            if (value != null) payload.append(value);
+            payload.append(';');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(payload.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new BusinessException(ResultCode.SYSTEM_ERROR);
+        }
+    }
+
+    /** V10 이전에 저장된 행은 32bit 정수 해시(Objects.hash = List.hashCode)로 비교 (보관기간이 지나면 모두 삭제됨) **/
+    private static boolean matches(String storedHash, IdempotentCmd cmd) {
+        if (storedHash.length() == SHA256_HEX_LENGTH) return storedHash.equals(requestHash(cmd));
+        return storedHash.equals(String.valueOf(cmd.requestPayload().hashCode()));
+    }
+
+    private String write(Object result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ResultCode.SYSTEM_ERROR);
+        }
+    }
+
+    private <T> T read(String response, Class<T> resultType) {
+        try {
+            return objectMapper.readValue(response, resultType);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ResultCode.SYSTEM_ERROR);
+        }
+    }
+
+    private record Stored(String requestHash, Object result) {
+    }
+
+    /**
+     * lock-free Bloom filter
+     * - 비트 수 m = -n ln(p) / (ln 2)^2, 해시 수 k = m / n ln 2
+     * - 64bit FNV-1a 해시의 상위/하위 32bit 로 double hashing (h1 + i * h2)
+     */
+    static final class BloomFilter {
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashCount;
+
+        BloomFilter(int expectedKeys, double falsePositiveRate) {
+            long bits = (long) Math.ceil(-Math.max(1, expectedKeys) * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.words = new AtomicLongArray((int) Math.max(1, (bits + 63) >>> 6));
+            this.bitCount = (long) words.length() << 6;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / Math.max(1, expectedKeys) * Math.log(2)));
+        }
+
+        void add(String key) {
+            long hash = hash(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long current = words.get(word);
+                while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                    current = words.get(word);
+                }
+            }
+        }
+
+        void clear() {
+            for (int i = 0; i < words.length(); i++) {
+                words.set(i, 0L);
+            }
+        }
+
+        boolean mightContain(String key) {
+            long hash = hash(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+            }
+            return true;
+        }
+
+        private static long hash(String key) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < key.length(); i++) {
+                hash ^= key.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package me.jslim.point.infrastructure.cache;
+
+import me.jslim.point.application.dto.BalanceResult;
+import me.jslim.point.application.dto.ExpiringResult;
+import me.jslim.point.application.support.PointReadCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크기 제한 LRU 조회 캐시
+ * - 사용자 ID hash 로 나눈 segment 마다 access-order LinkedHashMap + lock (SegmentedLruMap)
+ * - 세대는 전체에서 증가하는 값을 사용하고, 변경된 사용자는 값이 없어도 세대만 가진 항목을 남김
+ * - LRU 로 제거된 항목의 세대는 segment 의 floor 로 남겨, 제거 전에 읽어둔 세대로는 채우지 못하게 함
+ */
+@Profile({"local", "perf"})
+@Component
+public class LocalPointReadCache implements PointReadCache {
+    private final AtomicLong generations = new AtomicLong();
+    private final SegmentedLruMap<String, Entry> entries;
+    // segment 별 LRU 로 제거된 항목의 최대 세대 (해당 segment lock 안에서만 읽고 씀)
+    private final long[] floors;
+
+    public LocalPointReadCache(@Value("${point.read-cache.max-size:100000}") int maxSize,
+                               @Value("${point.read-cache.segments:16}") int segments) {
+        this.entries = new SegmentedLruMap<>(maxSize, segments, (userId, entry) -> {
+            int segment = this.entries.segmentOf(userId);
+            this.floors[segment] = Math.max(this.floors[segment], entry.generation);
+        });
+        this.floors = new long[entries.segmentCount()];
+    }
+
+    @Override
+    public Optional<BalanceResult> balance(String userId) {
+        return entries.locked(userId, map -> {
+            Entry entry = map.get(userId);
+            return Optional.ofNullable(entry == null ? null : entry.balance);
+        });
+    }
+
+    @Override
+    public Optional<ExpiringResult> expiring(String userId, LocalDate from, LocalDate to) {
+        return entries.locked(userId, map -> {
+            Entry entry = map.get(userId);
+            if (entry == null || entry.expiring == null) return Optional.empty();
+
+            ExpiringResult expiring = entry.expiring;
+            return expiring.from().equals(from) && expiring.to().equals(to)
+                    ? Optional.of(expiring)
+                    : Optional.empty();
+        });
+    }
+
+    @Override
+    public long generation(String userId) {
+        return entries.locked(userId, map -> {
+            Entry entry = map.get(userId);
+            return entry == null ? floors[entries.segmentOf(userId)] : entry.generation;
+        });
+    }
+
+    @Override
+    public void fillBalance(String userId, long generation, BalanceResult balance) {
+        entries.locked(userId, map -> {
+            Entry entry = current(map, userId, generation);
+            if (entry != null) entry.balance = balance;
+            return null;
+        });
+    }
+
+    @Override
+    public void fillExpiring(String userId, long generation, ExpiringResult expiring) {
+        entries.locked(userId, map -> {
+            Entry entry = current(map, userId, generation);
+            if (entry != null) entry.expiring = expiring;
+            return null;
+        });
+    }
+
+    @Override
+    public void refresh(String userId, long balanceAmount) {
+        entries.locked(userId, map -> {
+            Entry entry = new Entry(generations.incrementAndGet());
+            entry.balance = new BalanceResult(userId, balanceAmount);
+            return map.put(userId, entry);
+        });
+    }
+
+    @Override
+    public void evict(String userId) {
+        entries.locked(userId, map -> map.put(userId, new Entry(generations.incrementAndGet())));
+    }
+
+    /** 읽어둔 세대가 현재 세대와 같을 때만 채울 항목 반환 (segment lock 안에서 호출) **/
+    private Entry current(Map<String, Entry> map, String userId, long generation) {
+        Entry entry = map.get(userId);
+        if (entry == null) {
+            if (generation != floors[entries.segmentOf(userId)]) return null;
+            entry = new Entry(generation);
+            map.put(userId, entry);
+            return entry;
+        }
+        return entry.generation == generation ? entry : null;
+    }
+
+    private static final class Entry {
+        private final long generation;
+        private BalanceResult balance;
+        private ExpiringResult expiring;
+
+        private Entry(long generation) {
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package me.jslim.point.infrastructure.cache;
+
+import me.jslim.point.application.support.WalletCacheStats;
+import me.jslim.point.application.support.WalletKeyCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 크기 제한 LRU 지갑 키 캐시
+ * - 사용자 ID hash 로 나눈 segment 마다 access-order LinkedHashMap + lock (SegmentedLruMap)
+ */
+@Profile({"local", "perf"})
+@Component
+public class LocalWalletKeyCache implements WalletKeyCache {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private final SegmentedLruMap<String, String> walletKeys;
+
+    public LocalWalletKeyCache(@Value("${point.wallet-cache.max-size:100000}") int maxSize,
+                               @Value("${point.wallet-cache.segments:16}") int segments) {
+        this.walletKeys = new SegmentedLruMap<>(maxSize, segments, (userId, walletKey) -> evictions.increment());
+    }
+
+    @Override
+    public Optional<String> get(String userId) {
+        String walletKey = walletKeys.get(userId);
+        (walletKey == null ? misses : hits).increment();
+        return Optional.ofNullable(walletKey);
+    }
+
+    @Override
+    public void put(String userId, String walletKey) {
+        walletKeys.put(userId, walletKey);
+    }
+
+    @Override
+    public void evict(String userId) {
+        walletKeys.remove(userId);
+    }
+
+    @Override
+    public WalletCacheStats stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        return new WalletCacheStats(walletKeys.size(), walletKeys.capacity(), hitCount, missCount, evictions.sum(),
+                total == 0 ? 0 : (double) hitCount / total);
+    }
+}
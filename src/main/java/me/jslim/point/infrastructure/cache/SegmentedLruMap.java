@@ -0,0 +1,108 @@
+package me.jslim.point.infrastructure.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 크기 제한 LRU map (로컬 캐시 / index 공용)
+ * - key hash 로 나눈 segment 마다 access-order LinkedHashMap + ReentrantLock (segment 간 경합 없음)
+ * - segment 개수는 2의 제곱수로 올림, segment 별 최대 건수 = maxSize / segments (maxSize 가 0 이하면 저장하지 않음)
+ * - 가상 스레드가 map 접근 중에 carrier 스레드를 점유하지 않도록 synchronized 를 쓰지 않음
+ * - onEvict 는 LRU 로 제거될 때 segment lock 안에서 호출 (remove 로 지운 항목은 호출하지 않음)
+ */
+final class SegmentedLruMap<K, V> {
+    private final Segment<K, V>[] segments;
+    private final int mask;
+    private final long capacity;
+
+    SegmentedLruMap(int maxSize, int segments) {
+        this(maxSize, segments, (key, value) -> {});
+    }
+
+    @SuppressWarnings("unchecked")
+    SegmentedLruMap(int maxSize, int segments, BiConsumer<K, V> onEvict) {
+        int size = segments <= 1 ? 1 : Integer.highestOneBit(segments - 1) << 1;
+        int perSegment = maxSize <= 0 ? 0 : Math.max(1, maxSize / size);
+        this.segments = new Segment[size];
+        for (int i = 0; i < size; i++) {
+            this.segments[i] = new Segment<>(perSegment, onEvict);
+        }
+        this.mask = size - 1;
+        this.capacity = (long) perSegment * size;
+    }
+
+    V get(K key) {
+        Segment<K, V> segment = segments[segmentOf(key)];
+        segment.lock.lock();
+        try { return segment.map.get(key); }
+        finally { segment.lock.unlock(); }
+    }
+
+    void put(K key, V value) {
+        Segment<K, V> segment = segments[segmentOf(key)];
+        segment.lock.lock();
+        try { segment.map.put(key, value); }
+        finally { segment.lock.unlock(); }
+    }
+
+    void remove(K key) {
+        Segment<K, V> segment = segments[segmentOf(key)];
+        segment.lock.lock();
+        try { segment.map.remove(key); }
+        finally { segment.lock.unlock(); }
+    }
+
+    /** key 가 속한 segment 의 lock 을 잡고 map 으로 action 실행 (조회 후 변경을 원자적으로 처리할 때) **/
+    <R> R locked(K key, Function<Map<K, V>, R> action) {
+        Segment<K, V> segment = segments[segmentOf(key)];
+        segment.lock.lock();
+        try { return action.apply(segment.map); }
+        finally { segment.lock.unlock(); }
+    }
+
+    /** key 가 속한 segment 번호 (0 ~ segmentCount - 1) **/
+    int segmentOf(K key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    int segmentCount() {
+        return segments.length;
+    }
+
+    /** 최대 건수 (segment 별 최대 건수 * segment 개수) **/
+    long capacity() {
+        return capacity;
+    }
+
+    long size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try { size += segment.map.size(); }
+            finally { segment.lock.unlock(); }
+        }
+        return size;
+    }
+
+    private static final class Segment<K, V> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<K, V> map;
+
+        private Segment(int capacity, BiConsumer<K, V> onEvict) {
+            this.map = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                    if (size() > capacity) {
+                        onEvict.accept(eldest.getKey(), eldest.getValue());
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+    }
+}
@@ -2,12 +2,14 @@ package me.jslim.point.infrastructure.keygen;
 
 import com.github.f4b6a3.uuid.UuidCreator;
 import me.jslim.point.application.support.PointKeyGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 
 @Profile("local")
 @Component
+@ConditionalOnProperty(name = "point.key-generator", havingValue = "uuid")
 public class LocalPointKeyGenerator implements PointKeyGenerator {
     private String key() {
         return UuidCreator.getTimeOrderedEpoch().toString().replace("-", "");
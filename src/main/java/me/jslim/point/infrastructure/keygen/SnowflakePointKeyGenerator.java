@@ -0,0 +1,73 @@
+package me.jslim.point.infrastructure.keygen;
+
+import me.jslim.point.application.support.PointKeyGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake 방식 64bit 키 (13자리 Crockford base32 문자열)
+ * - 41bit: 기준시각(2024-01-01 UTC) 이후 millis, 10bit: 노드 ID, 12bit: 순번
+ * - 128bit 키(32자리)보다 행/인덱스 크기가 작고, 고정 길이이므로 문자열 정렬순서 = 생성순서
+ * - (millis, 순번) 상태를 CAS 로 갱신, 같은 millis 에 순번을 다 쓰면 다음 millis 로 넘어감
+ * - 노드 ID 는 인스턴스마다 달라야 함 (point.snowflake.node-id)
+ */
+@Profile({"local", "perf"})
+@Component
+@ConditionalOnProperty(name = "point.key-generator", havingValue = "snowflake")
+public class SnowflakePointKeyGenerator implements PointKeyGenerator {
+    private static final long EPOCH = 1_704_067_200_000L; // 2024-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQ_BITS = 12;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long SEQ_MASK = (1L << SEQ_BITS) - 1;
+
+    private static final byte[] BASE32 = "0123456789abcdefghjkmnpqrstvwxyz".getBytes(StandardCharsets.ISO_8859_1);
+    private static final int KEY_LENGTH = 13;
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[KEY_LENGTH]);
+
+    private final long nodeId;
+    private final AtomicLong state = new AtomicLong(); // (millis - EPOCH) << SEQ_BITS | seq
+
+    public SnowflakePointKeyGenerator(@Value("${point.snowflake.node-id:0}") long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE) {
+            throw new IllegalArgumentException("point.snowflake.node-id 는 0 ~ " + MAX_NODE + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    long nextId() {
+        while (true) {
+            long prev = state.get();
+            long now = System.currentTimeMillis() - EPOCH;
+            // 새 millis 면 순번 0, 아니면 +1 (순번이 넘치면 millis 자리로 올라감)
+            long next = now > (prev >>> SEQ_BITS) ? now << SEQ_BITS : prev + 1;
+            if (state.compareAndSet(prev, next)) {
+                return ((next >>> SEQ_BITS) << (NODE_BITS + SEQ_BITS))
+                        | (nodeId << SEQ_BITS)
+                        | (next & SEQ_MASK);
+            }
+        }
+    }
+
+    private String key() {
+        long id = nextId();
+        byte[] buffer = BUFFER.get();
+        for (int i = KEY_LENGTH - 1; i >= 0; i--) {
+            buffer[i] = BASE32[(int) (id & 0x1F)];
+            id >>>= 5;
+        }
+        return new String(buffer, StandardCharsets.ISO_8859_1);
+    }
+
+    public String newWalletKey() { return key(); }
+    public String newEarnKey()     { return key(); }
+    public String newEarnCancelKey()     { return key(); }
+    public String newPointKey() { return key(); }
+    public String newUseKey()  { return key(); }
+    public String newUseCancelKey()  { return key(); }
+}
@@ -0,0 +1,69 @@
+package me.jslim.point.infrastructure.keygen;
+
+import me.jslim.point.application.support.PointKeyGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시간순 128bit 키 (UUID v7 과 동일한 비트 배치, 하이픈 없는 32자리 소문자 hex)
+ * - 상위 48bit: epoch millis, 4bit: 버전(7), 12bit: 스레드별 순번, 2bit: variant, 62bit: 난수
+ * - 순번 상태를 스레드별로 두어 경합 없이 같은 스레드 안에서는 단조 증가
+ *   (같은 millis 에 순번을 다 쓰면 millis 를 1 올려서 이어감)
+ * - hex 는 스레드별 버퍼에 직접 기록하고 최종 String 1개만 생성
+ */
+@Profile({"local", "perf"})
+@Component
+@ConditionalOnProperty(name = "point.key-generator", havingValue = "time-ordered", matchIfMissing = true)
+public class TimeOrderedPointKeyGenerator implements PointKeyGenerator {
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.ISO_8859_1);
+    private static final int MAX_SEQ = 0xFFF;
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private static final class State {
+        private long lastMillis;
+        private int seq;
+        private final byte[] buffer = new byte[32];
+    }
+
+    private String key() {
+        State state = STATE.get();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long millis = System.currentTimeMillis();
+        if (millis > state.lastMillis) {
+            // 새 millis 는 순번을 난수로 시작 (하위 절반에서 시작해 증가 여유 확보)
+            state.lastMillis = millis;
+            state.seq = random.nextInt(MAX_SEQ >> 1);
+        } else if (++state.seq > MAX_SEQ) {
+            // 같은 millis 에 순번 소진 또는 시계가 뒤로 간 경우
+            state.lastMillis++;
+            state.seq = 0;
+        }
+
+        long msb = (state.lastMillis << 16) | 0x7000L | state.seq;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        byte[] buffer = state.buffer;
+        writeHex(buffer, 0, msb);
+        writeHex(buffer, 16, lsb);
+        return new String(buffer, StandardCharsets.ISO_8859_1);
+    }
+
+    private static void writeHex(byte[] buffer, int offset, long value) {
+        for (int i = offset + 15; i >= offset; i--) {
+            buffer[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    public String newWalletKey() { return key(); }
+    public String newEarnKey()     { return key(); }
+    public String newEarnCancelKey()     { return key(); }
+    public String newPointKey() { return key(); }
+    public String newUseKey()  { return key(); }
+    public String newUseCancelKey()  { return key(); }
+}
@@ -1,23 +1,261 @@
 package me.jslim.point.infrastructure.lock;
 
 import me.jslim.point.application.support.UserLockRunner;
+import me.jslim.point.application.support.UserLockStats;
+import me.jslim.point.global.exception.BusinessException;
+import me.jslim.point.global.vo.ResultCode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
-@Profile("local")
+/**
+ * 고정 개수의 lock stripe 를 사용하는 USER LOCK
+ * - 사용자 ID 의 hash 로 stripe 를 선택하므로, 사용자 수와 관계없이 메모리 사용량이 일정
+ * - 서로 다른 사용자가 같은 stripe 를 공유할 수 있으므로, action 안에서 다른 사용자의 락을 중첩해서 잡지 않아야 함
+ * - waitTimeout 이 0보다 크면 최대 waitTimeout 만큼만 대기하고 USER_LOCK_TIMEOUT 으로 실패
+ *   (대기 중 인터럽트는 타임아웃과 따로 세고 USER_LOCK_INTERRUPTED 로 실패)
+ * - 대기시간 분포는 경합 없는 획득(0ms)을 포함한 모든 획득을 기록하고, 대기는 그때 락을 보유한 사용자 기준으로도 집계
+ * - runAll 은 필요한 stripe 를 번호 순서로 모두 잡으므로, runAll 끼리 또는 run 과 섞여도 교착되지 않음
+ * - 대기는 ReentrantLock(park) 으로만 하고 synchronized 를 쓰지 않으므로, 가상 스레드는 락 대기 / 락 안의 DB I/O 중에
+ *   carrier 스레드를 놓아줌 (pinning 없음)
+ */
+@Profile({"local", "perf"})
 @Component
 public class LocalUserLockRunner implements UserLockRunner {
-    private final ConcurrentHashMap<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+    /** 대기시간 분포 구간 상한(ms), 마지막 구간은 그 이상 */
+    private static final long[] WAIT_BUCKETS_MILLIS = {1, 5, 10, 50, 100, 500, 1_000, 5_000};
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+    private final long waitTimeoutNanos;
+
+    // 지표
+    private final AtomicReferenceArray<String> holders;
+    private final AtomicLongArray contendedCounts;
+    private final AtomicLongArray timeoutCounts;
+    private final AtomicLongArray maxWaitNanos;
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder contended = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder interrupts = new LongAdder();
+    private final LongAdder[] waitHistogram = new LongAdder[WAIT_BUCKETS_MILLIS.length + 1];
+
+    // 보유 사용자별 대기 지표 (최대 maxTrackedUsers 명, 초과하면 새 사용자는 집계하지 않음)
+    private final ConcurrentHashMap<String, UserWait> userWaits = new ConcurrentHashMap<>();
+    private final int maxTrackedUsers;
+
+    public LocalUserLockRunner(int stripes, Duration waitTimeout) {
+        this(stripes, waitTimeout, 10_000);
+    }
+
+    @Autowired
+    public LocalUserLockRunner(@Value("${point.lock.stripes:4096}") int stripes,
+                               @Value("${point.lock.wait-timeout:3s}") Duration waitTimeout,
+                               @Value("${point.lock.max-tracked-users:10000}") int maxTrackedUsers) {
+        // stripe 개수는 2의 제곱수로 올림 (hash & mask 로 인덱스 계산)
+        int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.locks = new ReentrantLock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+        this.maxTrackedUsers = maxTrackedUsers;
+
+        this.holders = new AtomicReferenceArray<>(size);
+        this.contendedCounts = new AtomicLongArray(size);
+        this.timeoutCounts = new AtomicLongArray(size);
+        this.maxWaitNanos = new AtomicLongArray(size);
+        for (int i = 0; i < waitHistogram.length; i++) {
+            waitHistogram[i] = new LongAdder();
+        }
+    }
 
     @Override
     public <T> T run(String key, Supplier<T> action) {
-        ReentrantLock lock = locks.computeIfAbsent(key, k -> new ReentrantLock());
-        lock.lock();
+        int stripe = stripe(key);
+        ReentrantLock lock = locks[stripe];
+        acquire(stripe, lock);
+
+        String prevHolder = holders.getAndSet(stripe, key);
         try { return action.get(); }
-        finally { lock.unlock(); }
+        finally {
+            holders.set(stripe, prevHolder);
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public <T> T runAll(Collection<String> keys, Supplier<T> action) {
+        // stripe 번호 순서로 정렬 (같은 stripe 는 1번만 획득)
+        TreeMap<Integer, String> stripes = new TreeMap<>();
+        for (String key : keys) {
+            stripes.putIfAbsent(stripe(key), key);
+        }
+
+        List<Integer> locked = new ArrayList<>(stripes.size());
+        List<String> prevHolders = new ArrayList<>(stripes.size());
+        try {
+            for (Map.Entry<Integer, String> entry : stripes.entrySet()) {
+                int stripe = entry.getKey();
+                acquire(stripe, locks[stripe]);
+                locked.add(stripe);
+                prevHolders.add(holders.getAndSet(stripe, entry.getValue()));
+            }
+            return action.get();
+        } finally {
+            for (int i = locked.size() - 1; i >= 0; i--) {
+                int stripe = locked.get(i);
+                holders.set(stripe, prevHolders.get(i));
+                locks[stripe].unlock();
+            }
+        }
+    }
+
+    @Override
+    public UserLockStats stats(int top) {
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < WAIT_BUCKETS_MILLIS.length; i++) {
+            histogram.put("<" + WAIT_BUCKETS_MILLIS[i] + "ms", waitHistogram[i].sum());
+        }
+        histogram.put(">=" + WAIT_BUCKETS_MILLIS[WAIT_BUCKETS_MILLIS.length - 1] + "ms", waitHistogram[WAIT_BUCKETS_MILLIS.length].sum());
+
+        // 대기열 길이, 누적 경합 순으로 상위 top 개
+        List<UserLockStats.HotLock> hotLocks = new ArrayList<>();
+        for (int i = 0; i < locks.length; i++) {
+            int queueLength = locks[i].getQueueLength();
+            long contendedCount = contendedCounts.get(i);
+            if (queueLength == 0 && contendedCount == 0) continue;
+
+            hotLocks.add(new UserLockStats.HotLock(
+                    i,
+                    holders.get(i),
+                    queueLength,
+                    contendedCount,
+                    timeoutCounts.get(i),
+                    TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get(i))
+            ));
+        }
+        hotLocks.sort(Comparator.comparingInt(UserLockStats.HotLock::queueLength)
+                .thenComparingLong(UserLockStats.HotLock::contended)
+                .reversed());
+
+        // 다른 요청을 오래 기다리게 한 보유 사용자 순으로 상위 top 개
+        List<UserLockStats.HotUser> hotUsers = new ArrayList<>(userWaits.size());
+        userWaits.forEach((userId, wait) -> hotUsers.add(new UserLockStats.HotUser(
+                userId,
+                wait.waits.sum(),
+                wait.timeouts.sum(),
+                TimeUnit.NANOSECONDS.toMillis(wait.waitNanos.sum()),
+                TimeUnit.NANOSECONDS.toMillis(wait.maxWaitNanos.get())
+        )));
+        hotUsers.sort(Comparator.comparingLong(UserLockStats.HotUser::totalWaitMillis)
+                .thenComparingLong(UserLockStats.HotUser::waits)
+                .reversed());
+
+        return new UserLockStats(
+                acquired.sum(),
+                contended.sum(),
+                timeouts.sum(),
+                interrupts.sum(),
+                histogram,
+                hotLocks.subList(0, Math.min(top, hotLocks.size())),
+                hotUsers.subList(0, Math.min(top, hotUsers.size()))
+        );
+    }
+
+    @Override
+    public int stripeOf(String userId) {
+        return stripe(userId);
+    }
+
+    @Override
+    public int stripeCount() {
+        return locks.length;
+    }
+
+    private void acquire(int stripe, ReentrantLock lock) {
+        // 경합이 없으면 대기시간 0 으로만 기록하고 바로 획득
+        if (lock.tryLock()) {
+            acquired.increment();
+            waitHistogram[0].increment();
+            return;
+        }
+
+        contended.increment();
+        contendedCounts.incrementAndGet(stripe);
+        // 대기는 지금 락을 보유한 사용자에게 귀속 (획득 직후 holder 를 기록하기 전이면 null)
+        UserWait holderWait = userWait(holders.get(stripe));
+        long start = System.nanoTime();
+        boolean locked;
+        boolean interrupted = false;
+        try {
+            if (waitTimeoutNanos > 0) {
+                locked = lock.tryLock(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+            } else {
+                lock.lockInterruptibly();
+                locked = true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            locked = false;
+            interrupted = true;
+        }
+        long waitNanos = System.nanoTime() - start;
+        recordWait(stripe, waitNanos);
+        if (holderWait != null) {
+            holderWait.record(waitNanos, !locked && !interrupted);
+        }
+
+        if (interrupted) {
+            interrupts.increment();
+            throw new BusinessException(ResultCode.USER_LOCK_INTERRUPTED);
+        }
+        if (!locked) {
+            timeouts.increment();
+            timeoutCounts.incrementAndGet(stripe);
+            throw new BusinessException(ResultCode.USER_LOCK_TIMEOUT);
+        }
+        acquired.increment();
+    }
+
+    private UserWait userWait(String holder) {
+        if (holder == null) return null;
+
+        UserWait wait = userWaits.get(holder);
+        if (wait != null || userWaits.size() >= maxTrackedUsers) return wait;
+        return userWaits.computeIfAbsent(holder, k -> new UserWait());
+    }
+
+    private int stripe(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /** 보유 사용자 1명이 다른 요청을 기다리게 한 누적 지표 */
+    private static final class UserWait {
+        private final LongAdder waits = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        private void record(long nanos, boolean timeout) {
+            waits.increment();
+            if (timeout) timeouts.increment();
+            waitNanos.add(nanos);
+            maxWaitNanos.accumulateAndGet(nanos, Math::max);
+        }
     }
 }
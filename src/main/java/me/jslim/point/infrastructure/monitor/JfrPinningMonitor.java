@@ -0,0 +1,152 @@
+package me.jslim.point.infrastructure.monitor;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import me.jslim.point.application.support.PinningMonitor;
+import me.jslim.point.application.support.PinningStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JFR jdk.VirtualThreadPinned 이벤트 스트림으로 pinning 집계
+ * - 가상 스레드 모드(spring.threads.virtual.enabled)일 때만 수집, threshold 이상 점유한 경우만 이벤트 발생
+ * - 발생 위치는 (park 구현부를 제외한 최상단 호출, 처음 만나는 애플리케이션 호출) 로 묶고, 위치별 첫 발생은 WARN 로그
+ * - 위치 수는 MAX_SITES 로 제한 (넘으면 건수만 집계)
+ */
+@Slf4j
+@Profile({"local", "perf"})
+@Component
+public class JfrPinningMonitor implements PinningMonitor {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "me.jslim.point.";
+    // 가상 스레드 park 구현부는 모든 이벤트에 공통이므로 대기한 호출을 찾을 때 건너뜀
+    private static final List<String> PARK_PACKAGES = List.of(
+            "java.lang.VirtualThread", "jdk.internal.", "java.util.concurrent.locks.LockSupport");
+    private static final int MAX_SITES = 1000;
+
+    private final boolean virtualThreads;
+    private final Duration threshold;
+
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final LongAdder totalPinnedNanos = new LongAdder();
+    private final AtomicLong maxPinnedNanos = new AtomicLong();
+    private final Map<SiteKey, SiteCounter> sites = new ConcurrentHashMap<>();
+
+    private volatile RecordingStream stream;
+
+    public JfrPinningMonitor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                             @Value("${point.pinning-monitor.threshold:20ms}") Duration threshold) {
+        this.virtualThreads = virtualThreads;
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!virtualThreads) return;
+
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::record);
+        recording.startAsync();
+        stream = recording;
+        log.info("[PINNING] 가상 스레드 pinning 감시 시작 (threshold={}ms)", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) recording.close();
+    }
+
+    @Override
+    public PinningStats stats(int top) {
+        List<PinningStats.Site> hotSites = sites.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<SiteKey, SiteCounter> e) -> e.getValue().count.sum()).reversed())
+                .limit(Math.max(0, top))
+                .map(e -> new PinningStats.Site(
+                        e.getKey().blockingFrame(),
+                        e.getKey().appFrame(),
+                        e.getValue().count.sum(),
+                        Duration.ofNanos(e.getValue().maxNanos.get()).toMillis()))
+                .toList();
+
+        return new PinningStats(
+                virtualThreads,
+                stream != null,
+                threshold.toMillis(),
+                pinnedEvents.sum(),
+                Duration.ofNanos(totalPinnedNanos.sum()).toMillis(),
+                Duration.ofNanos(maxPinnedNanos.get()).toMillis(),
+                hotSites
+        );
+    }
+
+    private void record(RecordedEvent event) {
+        long nanos = event.getDuration().toNanos();
+        pinnedEvents.increment();
+        totalPinnedNanos.add(nanos);
+        maxPinnedNanos.accumulateAndGet(nanos, Math::max);
+
+        SiteKey key = siteKey(event.getStackTrace());
+        SiteCounter counter = sites.get(key);
+        if (counter == null) {
+            if (sites.size() >= MAX_SITES) return;
+            counter = sites.computeIfAbsent(key, k -> {
+                log.warn("[PINNING] 가상 스레드 pinning {}ms: {} <- {}", Duration.ofNanos(nanos).toMillis(),
+                        k.blockingFrame(), k.appFrame());
+                return new SiteCounter();
+            });
+        }
+        counter.count.increment();
+        counter.maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    private SiteKey siteKey(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return new SiteKey("unknown", null);
+        }
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        RecordedFrame blockingFrame = frames.stream()
+                .filter(frame -> PARK_PACKAGES.stream().noneMatch(typeName(frame)::startsWith))
+                .findFirst()
+                .orElse(frames.getFirst());
+        String appFrame = frames.stream()
+                .filter(frame -> typeName(frame).startsWith(APP_PACKAGE))
+                .findFirst()
+                .map(JfrPinningMonitor::describe)
+                .orElse(null);
+        return new SiteKey(describe(blockingFrame), appFrame);
+    }
+
+    private static String typeName(RecordedFrame frame) {
+        return frame.getMethod().getType().getName();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return typeName(frame) + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private record SiteKey(String blockingFrame, String appFrame) {
+    }
+
+    private static final class SiteCounter {
+        private final LongAdder count = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+    }
+}
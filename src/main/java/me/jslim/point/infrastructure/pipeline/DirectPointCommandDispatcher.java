@@ -0,0 +1,53 @@
+package me.jslim.point.infrastructure.pipeline;
+
+import lombok.RequiredArgsConstructor;
+import me.jslim.point.application.dto.*;
+import me.jslim.point.application.service.PointCommandService;
+import me.jslim.point.application.support.PointCommandDispatcher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 요청 스레드에서 바로 처리 (기본값)
+ * - 요청마다 USER LOCK + 트랜잭션 1개, 결과는 이미 완료된 future 로 전달
+ */
+@Profile({"local", "perf"})
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.command.mode", havingValue = "direct", matchIfMissing = true)
+public class DirectPointCommandDispatcher implements PointCommandDispatcher {
+    private final PointCommandService pointCommandService;
+
+    @Override
+    public CompletableFuture<EarnResult> earn(EarnCmd earnCmd, LocalDate earnDate) {
+        return run(() -> pointCommandService.earn(earnCmd, earnDate));
+    }
+
+    @Override
+    public CompletableFuture<EarnCancelResult> cancelEarn(EarnCancelCmd earnCancelCmd) {
+        return run(() -> pointCommandService.cancelEarn(earnCancelCmd));
+    }
+
+    @Override
+    public CompletableFuture<UseResult> use(UseCmd useCmd, LocalDate useDate) {
+        return run(() -> pointCommandService.use(useCmd, useDate));
+    }
+
+    @Override
+    public CompletableFuture<UseCancelResult> cancelUse(UseCancelCmd useCancelCmd, LocalDate cancelDate) {
+        return run(() -> pointCommandService.cancelUse(useCancelCmd, cancelDate));
+    }
+
+    private <T> CompletableFuture<T> run(Supplier<T> command) {
+        try {
+            return CompletableFuture.completedFuture(command.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
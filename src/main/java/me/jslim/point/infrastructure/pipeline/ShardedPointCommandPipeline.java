@@ -0,0 +1,300 @@
+package me.jslim.point.infrastructure.pipeline;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import me.jslim.point.application.dto.*;
+import me.jslim.point.application.service.PointCommandService;
+import me.jslim.point.application.support.IdempotencyStore;
+import me.jslim.point.application.support.PointCommandDispatcher;
+import me.jslim.point.application.support.UserLockRunner;
+import me.jslim.point.global.exception.BusinessException;
+import me.jslim.point.global.vo.ResultCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 ID 해시 샤드별 명령 파이프라인 (group commit)
+ * - 샤드마다 고정 크기 ring buffer(ArrayBlockingQueue) + writer 스레드 1개
+ *   (같은 사용자의 명령은 항상 같은 샤드에서 들어온 순서대로 처리)
+ * - writer 는 쌓인 명령을 batch-size 건까지 꺼내, 관련 사용자의 USER LOCK 을 한번에 잡고 트랜잭션 1개로 처리 후 커밋
+ *   (USER LOCK 은 명령마다가 아니라 batch 마다 1번, 만료/대량적립 등 다른 경로와의 배타는 그대로 유지)
+ * - 업무 실패(BusinessException)가 난 명령은 실패로 확정하고, 나머지 명령만으로 batch 를 다시 실행
+ *   (같은 락 안에서 같은 순서로 재실행하므로 나머지 명령의 결과는 달라지지 않음, 재실행은 최대 MAX_REPLAYS 번)
+ * - 결과는 커밋된 뒤에 future 로 전달, 트랜잭션이 롤백되거나 재실행 한도를 넘으면 남은 명령을 한건씩 기존 방식으로 처리
+ *   (커밋된 뒤 커밋 후 콜백에서 실패하면 다시 실행하지 않고 커밋된 결과로 완료, 커밋 여부를 알 수 없으면 실패로 완료)
+ * - ring buffer 가 가득 차 offer-timeout 안에 넣지 못하면 PIPELINE_BUSY 로 실패
+ * - 멱등키 재요청은 ring buffer 에 넣지 않고 저장된 결과로 바로 완료
+ * - 종료 중에 들어온 명령은 PIPELINE_BUSY 로 실패 (writer 종료 후 ring buffer 에 남은 명령도 모두 실패로 완료)
+ */
+@Slf4j
+@Profile({"local", "perf"})
+@Component
+@ConditionalOnProperty(name = "point.command.mode", havingValue = "pipeline")
+public class ShardedPointCommandPipeline implements PointCommandDispatcher {
+    private static final int MAX_REPLAYS = 3;
+    /** 트랜잭션 완료 전 (TransactionSynchronization.STATUS_* 와 겹치지 않는 값) */
+    private static final int NOT_COMPLETED = -1;
+
+    private final PointCommandService pointCommandService;
+    private final UserLockRunner userLockRunner;
+    private final IdempotencyStore idempotencyStore;
+    private final TransactionTemplate transactionTemplate;
+    private final Shard[] shards;
+    private final int batchSize;
+    private final long offerTimeoutNanos;
+
+    private volatile boolean running = true;
+
+    public ShardedPointCommandPipeline(PointCommandService pointCommandService,
+                                       UserLockRunner userLockRunner,
+                                       IdempotencyStore idempotencyStore,
+                                       TransactionTemplate transactionTemplate,
+                                       @Value("${point.pipeline.shards:4}") int shards,
+                                       @Value("${point.pipeline.buffer-size:1024}") int bufferSize,
+                                       @Value("${point.pipeline.batch-size:256}") int batchSize,
+                                       @Value("${point.pipeline.offer-timeout:100ms}") Duration offerTimeout) {
+        this.pointCommandService = pointCommandService;
+        this.userLockRunner = userLockRunner;
+        this.idempotencyStore = idempotencyStore;
+        this.transactionTemplate = transactionTemplate;
+        this.shards = new Shard[Math.max(1, shards)];
+        for (int i = 0; i < this.shards.length; i++) {
+            this.shards[i] = new Shard(i, new ArrayBlockingQueue<>(bufferSize));
+        }
+        this.batchSize = Math.max(1, batchSize);
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+    }
+
+    @PostConstruct
+    void start() {
+        for (Shard shard : shards) {
+            // daemon: 컨텍스트가 닫히지 않은 채 JVM 이 종료되는 경우에도 종료를 막지 않음
+            shard.writer = Thread.ofPlatform()
+                    .daemon(true)
+                    .name("point-pipeline-" + shard.index)
+                    .start(() -> drain(shard));
+        }
+    }
+
+    /**
+     * 새 명령은 받지 않고, 이미 들어온 명령은 모두 처리한 뒤 종료
+     * - writer 가 끝난 뒤 ring buffer 에 남은 명령(종료 직전에 들어왔거나 writer 가 인터럽트된 경우)은 실패로 완료
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        for (Shard shard : shards) {
+            shard.writer.join();
+        }
+        for (Shard shard : shards) {
+            List<Command<?>> leftovers = new ArrayList<>();
+            shard.ring.drainTo(leftovers);
+            if (!leftovers.isEmpty()) {
+                log.warn("[PIPELINE] shard {} 종료 후 남은 명령 {}건 실패 처리", shard.index, leftovers.size());
+            }
+            leftovers.forEach(command -> command.future.completeExceptionally(new BusinessException(ResultCode.PIPELINE_BUSY)));
+        }
+    }
+
+    @Override
+    public CompletableFuture<EarnResult> earn(EarnCmd earnCmd, LocalDate earnDate) {
+        return submit(earnCmd, EarnResult.class,
+                () -> pointCommandService.applyEarn(earnCmd, earnDate),
+                () -> pointCommandService.earn(earnCmd, earnDate));
+    }
+
+    @Override
+    public CompletableFuture<EarnCancelResult> cancelEarn(EarnCancelCmd earnCancelCmd) {
+        return submit(earnCancelCmd, EarnCancelResult.class,
+                () -> pointCommandService.applyCancelEarn(earnCancelCmd),
+                () -> pointCommandService.cancelEarn(earnCancelCmd));
+    }
+
+    @Override
+    public CompletableFuture<UseResult> use(UseCmd useCmd, LocalDate useDate) {
+        return submit(useCmd, UseResult.class,
+                () -> pointCommandService.applyUse(useCmd, useDate),
+                () -> pointCommandService.use(useCmd, useDate));
+    }
+
+    @Override
+    public CompletableFuture<UseCancelResult> cancelUse(UseCancelCmd useCancelCmd, LocalDate cancelDate) {
+        return submit(useCancelCmd, UseCancelResult.class,
+                () -> pointCommandService.applyCancelUse(useCancelCmd, cancelDate),
+                () -> pointCommandService.cancelUse(useCancelCmd, cancelDate));
+    }
+
+    private <T> CompletableFuture<T> submit(IdempotentCmd cmd, Class<T> resultType, Supplier<T> apply, Supplier<T> direct) {
+        try {
+            Optional<T> stored = idempotencyStore.find(cmd, resultType);
+            if (stored.isPresent()) return CompletableFuture.completedFuture(stored.get());
+        } catch (BusinessException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        String userId = cmd.userId();
+        Command<T> command = new Command<>(userId, apply, direct, new CompletableFuture<>());
+        if (!running) {
+            return CompletableFuture.failedFuture(new BusinessException(ResultCode.PIPELINE_BUSY));
+        }
+
+        Shard shard = shards[Math.floorMod(userId.hashCode(), shards.length)];
+        try {
+            if (!shard.ring.offer(command, offerTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                return CompletableFuture.failedFuture(new BusinessException(ResultCode.PIPELINE_BUSY));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(new BusinessException(ResultCode.PIPELINE_BUSY));
+        }
+
+        // 확인과 offer 사이에 종료가 시작되었다면 writer 가 이미 끝났을 수 있으므로 직접 꺼내서 실패 처리
+        // (꺼내지 못했다면 writer 가 처리했거나 stop 이 실패로 완료함)
+        if (!running && shard.ring.remove(command)) {
+            command.future.completeExceptionally(new BusinessException(ResultCode.PIPELINE_BUSY));
+        }
+        return command.future;
+    }
+
+    /** 샤드 writer: 명령이 들어오면 batch-size 건까지 모아서 처리 **/
+    private void drain(Shard shard) {
+        List<Command<?>> batch = new ArrayList<>(batchSize);
+        while (running || !shard.ring.isEmpty()) {
+            try {
+                Command<?> first = shard.ring.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                shard.ring.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                // 처리하지 못한 명령이 남지 않도록 실패로 완료하고 writer 는 계속 실행
+                log.error("[PIPELINE] shard {} batch 처리 실패", shard.index, e);
+                batch.forEach(command -> command.future.completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * batch 1개 처리
+     * - 업무 실패한 명령은 빼고 다시 실행, 성공한 명령의 결과는 커밋된 뒤에 전달
+     */
+    private void process(List<Command<?>> batch) {
+        List<Command<?>> pending = new ArrayList<>(batch);
+        Set<String> userIds = pending.stream().map(Command::userId).collect(Collectors.toSet());
+        // 모두 성공한 attempt 의 트랜잭션 완료 상태 (afterCompletion 은 다른 커밋 후 콜백이 실패해도 호출됨)
+        AtomicInteger completion = new AtomicInteger(NOT_COMPLETED);
+        AtomicReference<Attempt> committing = new AtomicReference<>();
+
+        try {
+            userLockRunner.runAll(userIds, () -> {
+                for (int replay = 0; replay <= MAX_REPLAYS && !pending.isEmpty(); replay++) {
+                    Attempt attempt = transactionTemplate.execute(status -> {
+                        List<Object> results = new ArrayList<>(pending.size());
+                        for (int i = 0; i < pending.size(); i++) {
+                            try {
+                                results.add(pending.get(i).apply().get());
+                            } catch (BusinessException e) {
+                                // 이 명령까지의 변경은 모두 롤백하고 실패 명령만 제외해서 다시 실행
+                                status.setRollbackOnly();
+                                return new Attempt(results, i, e);
+                            }
+                        }
+                        Attempt success = new Attempt(results, -1, null);
+                        committing.set(success);
+                        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                            @Override
+                            public void afterCompletion(int status) {
+                                completion.set(status);
+                            }
+                        });
+                        return success;
+                    });
+
+                    if (attempt.failedIndex() < 0) {
+                        completeAll(pending, attempt);
+                        return null;
+                    }
+                    pending.remove(attempt.failedIndex()).future.completeExceptionally(attempt.failure());
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            if (completion.get() == TransactionSynchronization.STATUS_COMMITTED) {
+                // 이미 커밋됨 (커밋 후 콜백 실패): 다시 실행하면 중복 반영되므로 커밋된 결과로 완료
+                log.error("[PIPELINE] batch {}건 커밋 후 처리 실패, 커밋된 결과로 완료", pending.size(), e);
+                completeAll(pending, committing.get());
+            } else if (completion.get() == TransactionSynchronization.STATUS_UNKNOWN) {
+                // 커밋 여부를 알 수 없음: 다시 실행하지 않고 실패로 완료
+                log.error("[PIPELINE] batch {}건 커밋 결과 확인 불가, 실패 처리", pending.size(), e);
+                pending.forEach(command -> command.future.completeExceptionally(e));
+                pending.clear();
+            } else {
+                log.warn("[PIPELINE] batch {}건 group commit 실패, 한건씩 처리: {}", pending.size(), e.toString());
+            }
+        }
+
+        // 재실행 한도 초과 또는 group commit 롤백: 남은 명령은 명령마다 USER LOCK + 트랜잭션으로 처리
+        pending.forEach(Command::runDirect);
+    }
+
+    /** 커밋된 attempt 의 결과를 순서대로 전달 **/
+    private static void completeAll(List<Command<?>> pending, Attempt attempt) {
+        for (int i = 0; i < pending.size(); i++) {
+            pending.get(i).complete(attempt.results().get(i));
+        }
+        pending.clear();
+    }
+
+    /** 트랜잭션 1번의 실행 결과 (failedIndex < 0 이면 모두 성공) **/
+    private record Attempt(List<Object> results, int failedIndex, BusinessException failure) {
+    }
+
+    private record Command<T>(String userId, Supplier<T> apply, Supplier<T> direct, CompletableFuture<T> future) {
+        @SuppressWarnings("unchecked")
+        private void complete(Object result) {
+            future.complete((T) result);
+        }
+
+        private void runDirect() {
+            try {
+                future.complete(direct.get());
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static final class Shard {
+        private final int index;
+        private final ArrayBlockingQueue<Command<?>> ring;
+        private Thread writer;
+
+        private Shard(int index, ArrayBlockingQueue<Command<?>> ring) {
+            this.index = index;
+            this.ring = ring;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package me.jslim.point.infrastructure.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import me.jslim.point.application.service.ExpiryBucketService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class LocalExpiryBucketVerifyScheduler {
+    private final ExpiryBucketService expiryBucketService;
+
+    // 매일 03:00 (00:00 만료작업 이후)
+    @Scheduled(cron = "0 0 3 * * *", zone = "Asia/Seoul")
+    public void run() {
+        expiryBucketService.verify();
+    }
+}
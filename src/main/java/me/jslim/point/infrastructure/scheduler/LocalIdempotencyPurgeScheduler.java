@@ -0,0 +1,23 @@
+package me.jslim.point.infrastructure.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.jslim.point.application.support.IdempotencyStore;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalIdempotencyPurgeScheduler {
+    private final IdempotencyStore idempotencyStore;
+
+    // 매시 정각, 보관기간(point.idempotency.retention)이 지난 멱등키 결과 삭제
+    @Scheduled(cron = "0 0 * * * *", zone = "Asia/Seoul")
+    public void run() {
+        int deleted = idempotencyStore.purgeExpired();
+        if (deleted > 0) {
+            log.info("[IDEMPOTENCY] 보관기간이 지난 멱등키 {}건 삭제", deleted);
+        }
+    }
+}
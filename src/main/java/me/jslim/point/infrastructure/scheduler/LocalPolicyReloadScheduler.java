@@ -0,0 +1,20 @@
+package me.jslim.point.infrastructure.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import me.jslim.point.application.support.PointPolicy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.policy.store", havingValue = "db")
+public class LocalPolicyReloadScheduler {
+    private final PointPolicy pointPolicy;
+
+    // 다른 인스턴스에서 변경한 정책 반영 (최대 지연 = 확인 주기)
+    @Scheduled(fixedDelayString = "${point.policy.poll-interval-millis:1000}")
+    public void run() {
+        pointPolicy.reload();
+    }
+}
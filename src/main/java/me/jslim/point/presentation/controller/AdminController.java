@@ -0,0 +1,104 @@
+package me.jslim.point.presentation.controller;
+
+import lombok.RequiredArgsConstructor;
+import me.jslim.point.application.dto.BulkEarnResult;
+import me.jslim.point.application.dto.ExpireProgress;
+import me.jslim.point.application.dto.ExpiryBucketVerifyResult;
+import me.jslim.point.application.service.BulkEarnService;
+import me.jslim.point.application.service.ExpiryBucketService;
+import me.jslim.point.application.service.PointExpireService;
+import me.jslim.point.application.support.AllocationIndexStats;
+import me.jslim.point.application.support.EarnAllocationIndex;
+import me.jslim.point.application.support.PinningMonitor;
+import me.jslim.point.application.support.PinningStats;
+import me.jslim.point.application.support.UserLockRunner;
+import me.jslim.point.application.support.UserLockStats;
+import me.jslim.point.application.support.WalletCacheStats;
+import me.jslim.point.application.support.WalletKeyCache;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/admin")
+@RequiredArgsConstructor
+public class AdminController {
+    private final UserLockRunner userLockRunner;
+    private final PointExpireService pointExpireService;
+    private final WalletKeyCache walletKeyCache;
+    private final BulkEarnService bulkEarnService;
+    private final PinningMonitor pinningMonitor;
+    private final EarnAllocationIndex allocationIndex;
+    private final ExpiryBucketService expiryBucketService;
+
+    /**
+     * USER LOCK 경합 현황 (대기시간 분포, 대기열이 긴 락과 보유 사용자)
+     */
+    @GetMapping("/locks")
+    public ResponseEntity<UserLockStats> locks(@RequestParam(defaultValue = "20") int top) {
+        return ResponseEntity.ok(userLockRunner.stats(top));
+    }
+
+    /**
+     * 만료작업 진행 현황 (샤드별 처리량)
+     */
+    @GetMapping("/expire/progress")
+    public ResponseEntity<ExpireProgress> expireProgress() {
+        return ResponseEntity.ok(pointExpireService.progress());
+    }
+
+    /**
+     * 만료일 합계 검증 (point_earn 으로 다시 계산해 불일치 지갑/만료일 반환)
+     */
+    @PostMapping("/expiry-buckets/verify")
+    public ResponseEntity<ExpiryBucketVerifyResult> verifyExpiryBuckets() {
+        return ResponseEntity.ok(expiryBucketService.verify());
+    }
+
+    /**
+     * 지갑 키 캐시 현황 (적중률, LRU 제거 건수)
+     */
+    @GetMapping("/wallet-cache")
+    public ResponseEntity<WalletCacheStats> walletCache() {
+        return ResponseEntity.ok(walletKeyCache.stats());
+    }
+
+    /**
+     * 지갑별 적립 index 현황 (적재 지갑 수, index 계산/DB 계산 횟수)
+     */
+    @GetMapping("/allocation-index")
+    public ResponseEntity<AllocationIndexStats> allocationIndex() {
+        return ResponseEntity.ok(allocationIndex.stats());
+    }
+
+    /**
+     * 가상 스레드 pinning 현황 (발생 횟수, 위치별 건수)
+     */
+    @GetMapping("/virtual-threads/pinning")
+    public ResponseEntity<PinningStats> pinning(@RequestParam(defaultValue = "20") int top) {
+        return ResponseEntity.ok(pinningMonitor.stats(top));
+    }
+
+    /**
+     * 포인트 대량 적립 (CSV / NDJSON 업로드, 행별 실패는 결과에 포함)
+     */
+    @PostMapping(value = "/bulk-earn", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<BulkEarnResult> bulkEarn(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                   InputStream body) throws IOException {
+        BulkEarnService.Format format = contentType.isCompatibleWith(MediaType.parseMediaType("application/x-ndjson"))
+                ? BulkEarnService.Format.NDJSON
+                : BulkEarnService.Format.CSV;
+        LocalDate earnDate = LocalDate.now();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            return ResponseEntity.ok(bulkEarnService.earn(reader, format, earnDate));
+        }
+    }
+}
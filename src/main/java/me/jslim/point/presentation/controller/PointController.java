@@ -3,7 +3,7 @@ package me.jslim.point.presentation.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import me.jslim.point.application.dto.*;
-import me.jslim.point.application.service.PointCommandService;
+import me.jslim.point.application.support.PointCommandDispatcher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
 
 
 
@@ -18,31 +19,32 @@ import java.time.LocalDate;
 @RequestMapping("/api/v1/points")
 @RequiredArgsConstructor
 public class PointController {
-    private final PointCommandService pointCommandService;
+    // point.command.mode (direct | pipeline) 에 따라 바로 처리하거나 샤드 파이프라인에서 모아서 커밋
+    private final PointCommandDispatcher commandDispatcher;
     /**
      * 포인트 적립
      */
     @PostMapping("/earn")
-    public ResponseEntity<EarnResult> earnPoints(@Valid @RequestBody EarnCmd request) {
+    public CompletableFuture<ResponseEntity<EarnResult>> earnPoints(@Valid @RequestBody EarnCmd request) {
         LocalDate earnDate = LocalDate.now();
-        return ResponseEntity.ok(pointCommandService.earn(request, earnDate));
+        return commandDispatcher.earn(request, earnDate).thenApply(ResponseEntity::ok);
     }
 
     /**
      * 포인트 사용
      */
     @PostMapping("/use")
-    public ResponseEntity<UseResult> earnCancel(@Valid @RequestBody UseCmd request) {
+    public CompletableFuture<ResponseEntity<UseResult>> earnCancel(@Valid @RequestBody UseCmd request) {
         LocalDate useDate = LocalDate.now();
-        return  ResponseEntity.ok(pointCommandService.use(request, useDate));
+        return commandDispatcher.use(request, useDate).thenApply(ResponseEntity::ok);
     }
 
     /**
      * 포인트 적립 취소
      */
     @PostMapping("/earn/cancel")
-    public ResponseEntity<EarnCancelResult> earnCancel(@Valid @RequestBody EarnCancelCmd request) {
-        return ResponseEntity.ok(pointCommandService.cancelEarn(request));
+    public CompletableFuture<ResponseEntity<EarnCancelResult>> earnCancel(@Valid @RequestBody EarnCancelCmd request) {
+        return commandDispatcher.cancelEarn(request).thenApply(ResponseEntity::ok);
     }
 
 
@@ -50,7 +52,8 @@ public class PointController {
      * 포인트 사용 취소
      */
     @PostMapping("/use/cancel")
-    public ResponseEntity<UseCancelResult> useCancel(@Valid @RequestBody UseCancelCmd request) {
-        return ResponseEntity.ok(pointCommandService.cancelUse(request));
+    public CompletableFuture<ResponseEntity<UseCancelResult>> useCancel(@Valid @RequestBody UseCancelCmd request) {
+        LocalDate cancelDate = LocalDate.now();
+        return commandDispatcher.cancelUse(request, cancelDate).thenApply(ResponseEntity::ok);
     }
 }
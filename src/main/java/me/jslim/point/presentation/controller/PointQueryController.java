@@ -0,0 +1,48 @@
+package me.jslim.point.presentation.controller;
+
+import lombok.RequiredArgsConstructor;
+import me.jslim.point.application.dto.BalanceResult;
+import me.jslim.point.application.dto.ExpiringResult;
+import me.jslim.point.application.dto.HistoryQuery;
+import me.jslim.point.application.dto.HistoryResult;
+import me.jslim.point.application.service.PointQueryService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/points")
+@RequiredArgsConstructor
+public class PointQueryController {
+    private final PointQueryService pointQueryService;
+
+    /**
+     * 포인트 잔액 조회
+     */
+    @GetMapping("/balance")
+    public ResponseEntity<BalanceResult> balance(@RequestParam String userId) {
+        return ResponseEntity.ok(pointQueryService.balance(userId));
+    }
+
+    /**
+     * 만료예정 포인트 조회 (오늘 ~ days 일 후, 만료일별 합계)
+     */
+    @GetMapping("/expiring")
+    public ResponseEntity<ExpiringResult> expiring(@RequestParam String userId,
+                                                   @RequestParam(defaultValue = "30") int days) {
+        LocalDate today = LocalDate.now();
+        return ResponseEntity.ok(pointQueryService.expiring(userId, days, today));
+    }
+
+    /**
+     * 포인트 내역 조회 (최신순, nextCursor 로 다음 페이지)
+     */
+    @GetMapping("/history")
+    public ResponseEntity<HistoryResult> history(HistoryQuery query) {
+        return ResponseEntity.ok(pointQueryService.history(query));
+    }
+}
@@ -0,0 +1,4 @@
+-- 요청 내용 해시를 32bit 정수(Objects.hash)에서 SHA-256 hex 64자로 변경 (PointIdempotency.requestHash)
+-- 기존 행의 정수 해시는 문자열로 남기고, 보관기간 동안은 LocalIdempotencyStore 가 같은 방식으로 비교
+alter table point_idempotency alter column request_hash set data type varchar(64);
+comment on column point_idempotency.request_hash is '멱등키를 제외한 요청 내용의 SHA-256 (hex)';
@@ -0,0 +1,93 @@
+-- 최초 스키마 (data/pointdb 에 이미 있는 테이블)
+-- 기존 DB 는 spring.flyway.baseline-on-migrate 로 V1 을 적용된 것으로 보고 V2 부터 실행하므로, 빈 DB 에서만 실행됨
+
+create table point_wallet (
+    wallet_key     varchar(64) comment '포인트 지갑 아이디 (정렬가능한 pk)' not null,
+    user_id        varchar(64) comment '사용자 아이디',
+    balance_amount bigint comment '현재 잔액',
+    maximum_amount bigint comment '최대 적립 금액',
+    created_at     timestamp,
+    updated_at     timestamp,
+    constraint pk_point_wallet primary key (wallet_key)
+);
+comment on table point_wallet is '포인트 지갑';
+
+create table point (
+    point_key    varchar(64) comment '포인트 키' not null,
+    point_type   varchar(32) comment '포인트 타입(적립/사용/적립취소/사용취소)' not null,
+    point_amount bigint comment '포인트 금액',
+    wallet_key   varchar(64) comment '포인트 지갑 키',
+    created_at   timestamp,
+    updated_at   timestamp,
+    constraint pk_point primary key (point_key),
+    constraint ck_point_type check (point_type in ('EARN', 'USE', 'EARN_CANCEL', 'USE_CANCEL')),
+    constraint fk_point_wallet foreign key (wallet_key) references point_wallet (wallet_key)
+);
+comment on table point is '포인트 내역';
+
+create table point_use (
+    use_key      varchar(64) comment '사용 아이디' not null,
+    point_key    varchar(64) comment '포인트 키',
+    earn_key     varchar(64) comment '적립 키',
+    amount       bigint comment '사용 금액',
+    order_number varchar(64) comment '주문번호',
+    created_at   timestamp,
+    updated_at   timestamp,
+    constraint pk_point_use primary key (use_key),
+    constraint fk_use_point foreign key (point_key) references point (point_key)
+);
+comment on table point_use is '포인트 사용 상세';
+
+create table point_use_cancel (
+    use_cancel_key varchar(64) comment '사용 취소 아이디' not null,
+    point_key      varchar(64) comment '포인트 키',
+    use_key        varchar(64) comment '사용 아이디',
+    amount         bigint comment '사용 금액',
+    order_number   varchar(64) comment '주문번호',
+    created_at     timestamp,
+    updated_at     timestamp,
+    constraint pk_point_use_cancel primary key (use_cancel_key),
+    constraint fk_use_cancel_point foreign key (point_key) references point (point_key),
+    constraint fk_use_cancel_use foreign key (use_key) references point_use (use_key)
+);
+comment on table point_use_cancel is '포인트 사용취소 상세';
+
+create table point_earn (
+    earn_key            varchar(64) comment '적립 키' not null,
+    point_key           varchar(64) comment '포인트 키',
+    wallet_key          varchar(64),
+    ref_use_cancel_key  varchar(64) comment '사용 취소 키(사용취소로 인한 적립일 경우)',
+    earn_amount         bigint comment '적립 금액',
+    earn_balance_amount bigint comment '적립 잔액',
+    earn_status         varchar(32) comment '적립 상태(사용가능/사용불가능/적립취소됨)',
+    earn_type           varchar(32) comment '적립 타입(사용자 적립/관리자 적립/사용취소 적립)',
+    earn_date           date comment '적립일',
+    expire_date         date comment '만료일',
+    is_manual           boolean comment '관리자 수동 적립 여부',
+    created_at          timestamp,
+    updated_at          timestamp,
+    constraint pk_point_earn primary key (earn_key),
+    constraint ck_earn_status check (earn_status in ('AVAILABLE', 'UNAVAILABLE', 'EXPIRED', 'CANCELED')),
+    constraint ck_earn_type check (earn_type in ('EARN_GENERAL', 'EARN_MANUAL', 'EARN_AS_USE_CANCEL')),
+    constraint fk_earn_point foreign key (point_key) references point (point_key),
+    constraint fk_earn_wallet foreign key (wallet_key) references point_wallet (wallet_key),
+    constraint fk_earn_use_cancel foreign key (ref_use_cancel_key) references point_use_cancel (use_cancel_key)
+);
+comment on table point_earn is '포인트 적립';
+
+alter table point_use add constraint fk_use_earn foreign key (earn_key) references point_earn (earn_key);
+
+create table point_earn_cancel (
+    earn_cancel_key    varchar(64) comment '적립 취소 키' not null,
+    point_key          varchar(64) comment '포인트 키',
+    earn_key           varchar(64) comment '적립 키',
+    earn_cancel_type   varchar(32) comment '적립 취소 타입(사용자 적립취소/유효기간 만료 적립취소)',
+    earn_cancel_amount bigint comment '적립 취소 금액',
+    created_at         timestamp,
+    updated_at         timestamp,
+    constraint pk_point_earn_cancel primary key (earn_cancel_key),
+    constraint ck_earn_cancel_type check (earn_cancel_type in ('EARN_CANCEL_GENERAL', 'EARN_CANCEL_EXPIRED')),
+    constraint fk_earn_cancel_point foreign key (point_key) references point (point_key),
+    constraint fk_earn_cancel_earn foreign key (earn_key) references point_earn (earn_key)
+);
+comment on table point_earn_cancel is '포인트 적립 취소';
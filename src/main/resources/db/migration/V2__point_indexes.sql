@@ -0,0 +1,12 @@
+-- 사용가능 적립 조회 (PointEarnRepository.findAvailableEarns), 조건 + 정렬 순서와 동일
+create index idx_point_earn_alloc on point_earn (wallet_key, earn_status, is_manual desc, expire_date, earn_key);
+-- 포인트 키로 적립 조회 (적립취소)
+create index idx_point_earn_point_key on point_earn (point_key);
+-- 만료 대상 조회 (PointEarnRepository.findExpiredEarns)
+create index idx_point_earn_expire on point_earn (expire_date);
+-- 포인트 키로 사용상세 조회 (사용취소)
+create index idx_point_use_point_key on point_use (point_key);
+-- 사용 키로 사용취소 조회
+create index idx_point_use_cancel_use_key on point_use_cancel (use_key);
+-- 사용자 ID 로 지갑 조회, 사용자당 지갑 1개
+create unique index ux_point_wallet_user_id on point_wallet (user_id);
@@ -0,0 +1,16 @@
+-- 만료작업 진행 위치 (PointExpireService, 같은 기준일로 다시 실행하면 이어서 처리)
+create table point_expire_checkpoint (
+    job_name         varchar(64) comment '작업명' not null,
+    base_date        date comment '만료 기준일',
+    last_expire_date date comment '마지막으로 처리한 적립의 만료일',
+    last_earn_key    varchar(64) comment '마지막으로 처리한 적립 키',
+    processed_count  bigint comment '처리 건수' not null,
+    created_at       timestamp,
+    updated_at       timestamp,
+    constraint pk_point_expire_checkpoint primary key (job_name)
+);
+comment on table point_expire_checkpoint is '포인트 만료 작업 진행 위치';
+
+-- 만료 대상 조회 (PointEarnRepository.findExpiredEarns), 상태 조건 + (expire_date, earn_key) keyset 순서
+drop index idx_point_earn_expire;
+create index idx_point_earn_expire on point_earn (earn_status, expire_date, earn_key);
@@ -0,0 +1,47 @@
+-- 타입/상태 컬럼을 문자열에서 정수 코드로 변경 (CodedEnumConverter, 코드값은 각 enum 의 code())
+-- 기존 문자열 CHECK 제약을 먼저 지우고, 값을 코드로 바꾼 뒤 컬럼 타입 변경, 코드값 CHECK 제약을 다시 추가
+
+-- point.point_type : EARN(1), USE(2), EARN_CANCEL(3), USE_CANCEL(4)
+alter table point drop constraint ck_point_type;
+update point
+   set point_type = case point_type
+                        when 'EARN' then '1'
+                        when 'USE' then '2'
+                        when 'EARN_CANCEL' then '3'
+                        when 'USE_CANCEL' then '4'
+                    end;
+alter table point alter column point_type set data type integer;
+alter table point add constraint ck_point_type check (point_type in (1, 2, 3, 4));
+
+-- point_earn.earn_status : AVAILABLE(1), UNAVAILABLE(2), EXPIRED(3), CANCELED(4)
+alter table point_earn drop constraint ck_earn_status;
+update point_earn
+   set earn_status = case earn_status
+                         when 'AVAILABLE' then '1'
+                         when 'UNAVAILABLE' then '2'
+                         when 'EXPIRED' then '3'
+                         when 'CANCELED' then '4'
+                     end;
+alter table point_earn alter column earn_status set data type integer;
+alter table point_earn add constraint ck_earn_status check (earn_status in (1, 2, 3, 4));
+
+-- point_earn.earn_type : EARN_GENERAL(1), EARN_MANUAL(2), EARN_AS_USE_CANCEL(3)
+alter table point_earn drop constraint ck_earn_type;
+update point_earn
+   set earn_type = case earn_type
+                       when 'EARN_GENERAL' then '1'
+                       when 'EARN_MANUAL' then '2'
+                       when 'EARN_AS_USE_CANCEL' then '3'
+                   end;
+alter table point_earn alter column earn_type set data type integer;
+alter table point_earn add constraint ck_earn_type check (earn_type in (1, 2, 3));
+
+-- point_earn_cancel.earn_cancel_type : EARN_CANCEL_GENERAL(1), EARN_CANCEL_EXPIRED(2)
+alter table point_earn_cancel drop constraint ck_earn_cancel_type;
+update point_earn_cancel
+   set earn_cancel_type = case earn_cancel_type
+                              when 'EARN_CANCEL_GENERAL' then '1'
+                              when 'EARN_CANCEL_EXPIRED' then '2'
+                          end;
+alter table point_earn_cancel alter column earn_cancel_type set data type integer;
+alter table point_earn_cancel add constraint ck_earn_cancel_type check (earn_cancel_type in (1, 2));
@@ -0,0 +1,22 @@
+-- 정책 저장소 (point.policy.store=db, DbPointPolicy)
+create table point_policy (
+    policy_key   varchar(64) comment '정책 키' not null,
+    policy_value varchar(255) comment '정책 값',
+    created_at   timestamp,
+    updated_at   timestamp,
+    constraint pk_point_policy primary key (policy_key)
+);
+comment on table point_policy is '포인트 정책';
+
+create table point_policy_version (
+    name       varchar(64) comment '버전 이름' not null,
+    version    bigint comment '버전' not null,
+    created_at timestamp,
+    updated_at timestamp,
+    constraint pk_point_policy_version primary key (name)
+);
+comment on table point_policy_version is '포인트 정책 버전 (정책이 바뀔 때마다 증가, 인스턴스들이 주기적으로 확인)';
+
+-- 버전 행은 미리 넣어두고 정책 변경은 UPDATE 로만 증가 (여러 인스턴스가 처음 변경할 때 INSERT 가 겹치지 않도록)
+insert into point_policy_version (name, version, created_at, updated_at)
+values ('POINT_POLICY', 0, current_timestamp, current_timestamp);
@@ -0,0 +1,4 @@
+-- 지갑별 내역 조회 (PointRepository.findHistory), 최신순 cursor 페이징과 같은 순서
+create index idx_point_wallet_history on point (wallet_key, point_key desc);
+-- 사용취소 포인트 키로 사용취소 상세 조회 (내역 조회 상세)
+create index idx_point_use_cancel_point_key on point_use_cancel (point_key);
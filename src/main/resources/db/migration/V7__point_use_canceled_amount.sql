@@ -0,0 +1,7 @@
+-- 사용상세별 사용취소 금액 (PointUse.canceledAmount), 사용취소시 사용취소 상세를 다시 합산하지 않도록 누적
+alter table point_use add column canceled_amount bigint default 0 comment '사용취소된 금액 (사용취소 상세 금액 합계)' not null;
+
+-- 기존 사용취소 상세 금액을 사용 키별로 합산해서 채움
+update point_use u
+   set canceled_amount = coalesce((select sum(c.amount) from point_use_cancel c where c.use_key = u.use_key), 0)
+ where exists (select 1 from point_use_cancel c where c.use_key = u.use_key);
@@ -0,0 +1,13 @@
+-- 멱등키별 처리 결과 (PointIdempotency, 명령과 같은 트랜잭션으로 저장)
+create table point_idempotency (
+    idempotency_key varchar(160) comment '멱등키 (명령:사용자ID:요청 멱등키)' not null,
+    request_hash    integer comment '멱등키를 제외한 요청 내용 해시' not null,
+    response        varchar(500) comment '처리 결과 (JSON)' not null,
+    created_at      timestamp,
+    updated_at      timestamp,
+    constraint pk_point_idempotency primary key (idempotency_key)
+);
+comment on table point_idempotency is '멱등키별 처리 결과';
+
+-- 보관기간이 지난 결과 삭제 (created_at 기준)
+create index idx_point_idempotency_created_at on point_idempotency (created_at);
@@ -0,0 +1,17 @@
+-- 지갑별 만료일별 사용가능 적립 잔액 합계 (WalletExpiryBucket, 만료예정 조회는 point_earn 대신 이 테이블에서 읽음)
+create table wallet_expiry_bucket (
+    wallet_key  varchar(64) comment '지갑 키' not null,
+    expire_date date comment '만료일' not null,
+    amount      bigint comment '만료일의 사용가능 적립 잔액 합계' not null,
+    updated_at  timestamp comment '수정일시',
+    constraint pk_wallet_expiry_bucket primary key (wallet_key, expire_date)
+);
+comment on table wallet_expiry_bucket is '지갑별 만료일별 적립 잔액 합계';
+
+-- 기존 적립으로 합계를 채움 (사용가능(1) + 잔액이 있는 적립, 조회를 이 테이블로 바꾸기 전에 반영)
+insert into wallet_expiry_bucket (wallet_key, expire_date, amount, updated_at)
+select wallet_key, expire_date, sum(earn_balance_amount), current_timestamp
+  from point_earn
+ where earn_status = 1
+   and earn_balance_amount > 0
+ group by wallet_key, expire_date;
@@ -0,0 +1,205 @@
+package me.jslim.point;
+
+import me.jslim.point.application.dto.*;
+import me.jslim.point.application.service.PointCommandService;
+import me.jslim.point.application.service.PointExpireService;
+import me.jslim.point.application.support.AllocationIndexStats;
+import me.jslim.point.application.support.EarnAllocationIndex;
+import me.jslim.point.application.support.UserLockRunner;
+import me.jslim.point.domain.type.EarnStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "point.allocation-index.max-wallets=100",
+        "point.allocation-index.max-earns=5"
+})
+@DisplayName("지갑별 적립 index")
+public class AllocationIndexTest {
+    @Autowired
+    PointCommandService pointCommandService;
+
+    @Autowired
+    PointExpireService pointExpireService;
+
+    @Autowired
+    EarnAllocationIndex allocationIndex;
+
+    @Autowired
+    UserLockRunner userLockRunner;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @BeforeEach
+    void resetDb() {
+        jdbc.batchUpdate("""
+            SET REFERENTIAL_INTEGRITY FALSE;
+            TRUNCATE TABLE POINT;
+            TRUNCATE TABLE POINT_EARN;
+            TRUNCATE TABLE POINT_EARN_CANCEL;
+            TRUNCATE TABLE POINT_USE;
+            TRUNCATE TABLE POINT_USE_CANCEL;
+            TRUNCATE TABLE POINT_WALLET;
+            TRUNCATE TABLE POINT_EXPIRE_CHECKPOINT;
+            TRUNCATE TABLE POINT_IDEMPOTENCY;
+            SET REFERENTIAL_INTEGRITY TRUE;
+        """.split(";"));
+    }
+
+    @Test
+    @DisplayName("index 로 관리자 적립 우선, 만료일 순서대로 사용하고, 지갑은 처음 사용할 때 1번만 적재한다")
+    void allocation1() {
+        // given
+        String userId = "alloc-order";
+        LocalDate now = LocalDate.now();
+        String laterEarn = pointCommandService.earn(new EarnCmd(userId, 1_000L, null, date(now.plusDays(10))), now).pointKey();
+        String soonerEarn = pointCommandService.earn(new EarnCmd(userId, 1_000L, null, date(now.plusDays(5))), now).pointKey();
+        String manualEarn = pointCommandService.earn(new EarnCmd(userId, 1_000L, "EARN_MANUAL", date(now.plusDays(20))), now).pointKey();
+        AllocationIndexStats before = allocationIndex.stats();
+
+        // when
+        pointCommandService.use(new UseCmd(userId, 1_500L, "ORDER-1"), now);
+        pointCommandService.use(new UseCmd(userId, 700L, "ORDER-2"), now);
+
+        // then
+        assertEquals(0L, earnBalance(manualEarn));
+        assertEquals(0L, earnBalance(soonerEarn));
+        assertEquals(800L, earnBalance(laterEarn));
+
+        AllocationIndexStats after = allocationIndex.stats();
+        assertThat(after.enabled()).isTrue();
+        assertThat(after.hits() - before.hits()).isEqualTo(2);
+        assertThat(after.loads() - before.loads()).isEqualTo(1);
+        assertThat(after.fallbacks() - before.fallbacks()).isZero();
+    }
+
+    @Test
+    @DisplayName("사용취소로 돌아온 잔액과 적립취소는 index 에 반영되어, 다시 적재하지 않고 사용한다")
+    void allocation2() {
+        // given
+        String userId = "alloc-cancel";
+        LocalDate now = LocalDate.now();
+        String first = pointCommandService.earn(new EarnCmd(userId, 1_000L, null, date(now.plusDays(5))), now).pointKey();
+        String second = pointCommandService.earn(new EarnCmd(userId, 1_000L, null, date(now.plusDays(10))), now).pointKey();
+        UseResult use = pointCommandService.use(new UseCmd(userId, 1_000L, "ORDER-1"), now);
+        AllocationIndexStats before = allocationIndex.stats();
+
+        // when
+        pointCommandService.cancelUse(new UseCancelCmd(userId, use.pointKey(), 1_000L), now);
+        pointCommandService.cancelEarn(new EarnCancelCmd(userId, second));
+        UseResult result = pointCommandService.use(new UseCmd(userId, 600L, "ORDER-2"), now);
+
+        // then
+        assertEquals(400L, result.balanceAmount());
+        assertEquals(400L, earnBalance(first));
+        assertEquals(EarnStatus.CANCELED.code(), earnStatus(second));
+
+        AllocationIndexStats after = allocationIndex.stats();
+        assertThat(after.hits() - before.hits()).isEqualTo(1);
+        assertThat(after.loads() - before.loads()).isZero();
+        assertThat(after.fallbacks() - before.fallbacks()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료처리된 적립은 index 에서 제거된다")
+    void allocation3() {
+        // given
+        String userId = "alloc-expire";
+        LocalDate now = LocalDate.now();
+        String expiring = pointCommandService.earn(new EarnCmd(userId, 1_000L, null, date(now.plusDays(5))), now).pointKey();
+        String remaining = pointCommandService.earn(new EarnCmd(userId, 1_000L, null, null), now).pointKey();
+        pointCommandService.use(new UseCmd(userId, 100L, "ORDER-1"), now);
+
+        // when
+        pointExpireService.findActiveExpiring(now.plusDays(6));
+        AllocationIndexStats before = allocationIndex.stats();
+
+        // 만료일 이전 기준일로 사용해도 만료처리된 적립은 사용하지 않음
+        pointCommandService.use(new UseCmd(userId, 100L, "ORDER-2"), now);
+
+        // then
+        assertEquals(EarnStatus.EXPIRED.code(), earnStatus(expiring));
+        assertEquals(900L, earnBalance(remaining));
+
+        AllocationIndexStats after = allocationIndex.stats();
+        assertThat(after.hits() - before.hits()).isEqualTo(1);
+        assertThat(after.fallbacks() - before.fallbacks()).isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 index 에 반영했던 지갑은 제거되고, 다음 사용때 DB 에서 다시 적재한다")
+    void allocation4() {
+        // given
+        String userId = "alloc-rollback";
+        LocalDate now = LocalDate.now();
+        String earn = pointCommandService.earn(new EarnCmd(userId, 1_000L, null, null), now).pointKey();
+        pointCommandService.use(new UseCmd(userId, 100L, "ORDER-1"), now);
+
+        // when
+        userLockRunner.run(userId, () -> transactionTemplate.execute(status -> {
+            pointCommandService.applyUse(new UseCmd(userId, 500L, "ORDER-2"), now);
+            status.setRollbackOnly();
+            return null;
+        }));
+        AllocationIndexStats before = allocationIndex.stats();
+        UseResult result = pointCommandService.use(new UseCmd(userId, 300L, "ORDER-3"), now);
+
+        // then
+        assertEquals(600L, result.balanceAmount());
+        assertEquals(600L, earnBalance(earn));
+
+        AllocationIndexStats after = allocationIndex.stats();
+        assertThat(after.loads() - before.loads()).isEqualTo(1);
+        assertThat(after.fallbacks() - before.fallbacks()).isZero();
+    }
+
+    @Test
+    @DisplayName("적립건이 max-earns 를 넘는 지갑은 index 를 쓰지 않고 DB 로 사용할 적립을 찾는다")
+    void allocation5() {
+        // given
+        String userId = "alloc-wide";
+        LocalDate now = LocalDate.now();
+        for (int i = 0; i < 6; i++) {
+            pointCommandService.earn(new EarnCmd(userId, 100L, null, date(now.plusDays(5 + i))), now);
+        }
+        AllocationIndexStats before = allocationIndex.stats();
+
+        // when
+        UseResult result = pointCommandService.use(new UseCmd(userId, 250L, "ORDER-1"), now);
+
+        // then
+        assertEquals(350L, result.balanceAmount());
+        assertEquals(3, jdbc.queryForObject("SELECT COUNT(*) FROM POINT_USE", Integer.class));
+
+        AllocationIndexStats after = allocationIndex.stats();
+        assertThat(after.hits() - before.hits()).isZero();
+        assertThat(after.fallbacks() - before.fallbacks()).isEqualTo(1);
+    }
+
+    private static String date(LocalDate date) {
+        return date.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    private long earnBalance(String pointKey) {
+        return jdbc.queryForObject("SELECT EARN_BALANCE_AMOUNT FROM POINT_EARN WHERE POINT_KEY = ?", Long.class, pointKey);
+    }
+
+    private int earnStatus(String pointKey) {
+        return jdbc.queryForObject("SELECT EARN_STATUS FROM POINT_EARN WHERE POINT_KEY = ?", Integer.class, pointKey);
+    }
+}
@@ -0,0 +1,172 @@
+package me.jslim.point;
+
+import me.jslim.point.application.dto.BulkEarnResult;
+import me.jslim.point.application.dto.EarnCmd;
+import me.jslim.point.application.service.BulkEarnService;
+import me.jslim.point.application.service.PointCommandService;
+import me.jslim.point.application.service.PointQueryService;
+import me.jslim.point.application.support.WalletKeyCache;
+import me.jslim.point.global.vo.ResultCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "point.bulk-earn.chunk-size=4",
+        "point.bulk-earn.batch-size=2",
+        "point.bulk-earn.partitions=3",
+        "point.bulk-earn.workers=2"
+})
+@DisplayName("포인트 대량 적립")
+public class BulkEarnTest {
+    @Autowired
+    BulkEarnService bulkEarnService;
+
+    @Autowired
+    PointCommandService pointCommandService;
+
+    @Autowired
+    PointQueryService pointQueryService;
+
+    @Autowired
+    WalletKeyCache walletKeyCache;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @BeforeEach
+    void resetDb() {
+        jdbc.batchUpdate("""
+            SET REFERENTIAL_INTEGRITY FALSE;
+            TRUNCATE TABLE POINT;
+            TRUNCATE TABLE POINT_EARN;
+            TRUNCATE TABLE POINT_EARN_CANCEL;
+            TRUNCATE TABLE POINT_USE;
+            TRUNCATE TABLE POINT_USE_CANCEL;
+            TRUNCATE TABLE POINT_WALLET;
+            SET REFERENTIAL_INTEGRITY TRUE;
+        """.split(";"));
+    }
+
+    @Test
+    @DisplayName("CSV 의 행을 사용자별로 모두 적립하고, 같은 사용자의 여러 행은 합산된다")
+    void bulk1() {
+        // given
+        String csv = """
+                userId,pointAmount,earnType,expireDate
+                bulk-a,1000
+                bulk-b,2000,EARN_MANUAL
+                bulk-a,500
+                bulk-c,300,,%s
+                bulk-a,200
+                """.formatted(LocalDate.now().plusDays(10).format(java.time.format.DateTimeFormatter.BASIC_ISO_DATE));
+
+        // when
+        BulkEarnResult result = earn(csv, BulkEarnService.Format.CSV);
+
+        // then
+        assertEquals(5, result.totalCount());
+        assertEquals(5, result.earnedCount());
+        assertEquals(0, result.failedCount());
+        assertEquals(1_700L, balance("bulk-a"));
+        assertEquals(2_000L, balance("bulk-b"));
+        assertEquals(300L, balance("bulk-c"));
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM POINT_WALLET", Long.class)).isEqualTo(3);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM POINT_EARN", Long.class)).isEqualTo(5);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM POINT_EARN WHERE IS_MANUAL", Long.class)).isEqualTo(1);
+        assertThat(walletKeyCache.get("bulk-a")).isPresent();
+    }
+
+    @Test
+    @DisplayName("잘못된 행은 실패로 기록하고 나머지 행은 계속 적립한다")
+    void bulk2() {
+        // given
+        String csv = """
+                bulk-d,1000
+                bulk-d,abc
+                ,100
+                bulk-e,200000
+                bulk-e,100,,2020-01-01
+                bulk-e,100
+                bulk-f,0
+                """;
+
+        // when
+        BulkEarnResult result = earn(csv, BulkEarnService.Format.CSV);
+
+        // then
+        assertEquals(7, result.totalCount());
+        assertEquals(2, result.earnedCount());
+        assertEquals(5, result.failedCount());
+        assertThat(result.failures()).extracting(BulkEarnResult.Failure::rowNo).containsExactly(2L, 3L, 4L, 5L, 7L);
+        assertThat(result.failures()).extracting(BulkEarnResult.Failure::resultCode).containsExactly(
+                ResultCode.VALIDATION_ERROR,
+                ResultCode.VALIDATION_ERROR,
+                ResultCode.POINT_AMOUNT_ERR,
+                ResultCode.EARN_EXPIRE_DATE_ERROR,
+                ResultCode.POINT_AMOUNT_ERR);
+        assertEquals(1_000L, balance("bulk-d"));
+        assertEquals(100L, balance("bulk-e"));
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM POINT_WALLET WHERE USER_ID = 'bulk-f'", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("NDJSON 으로 기존 지갑에 적립하면 조회 캐시의 잔액도 갱신된다")
+    void bulk3() {
+        // given
+        pointCommandService.earn(new EarnCmd("bulk-g", 1_000L, null, null), LocalDate.now());
+        assertEquals(1_000L, balance("bulk-g"));
+        String ndjson = """
+                {"userId":"bulk-g","pointAmount":500}
+                {"userId":"bulk-h","pointAmount":700,"earnType":"EARN_GENERAL"}
+                {"userId":"bulk-g","pointAmount":
+                """;
+
+        // when
+        BulkEarnResult result = earn(ndjson, BulkEarnService.Format.NDJSON);
+
+        // then
+        assertEquals(2, result.earnedCount());
+        assertThat(result.failures()).extracting(BulkEarnResult.Failure::rowNo).containsExactly(3L);
+        assertEquals(1_500L, balance("bulk-g"));
+        assertEquals(700L, balance("bulk-h"));
+    }
+
+    @Test
+    @DisplayName("여러 chunk 에 걸친 많은 사용자를 병렬로 적립해도 합계가 맞는다")
+    void bulk4() {
+        // given (사용자 50명 x 4행)
+        String csv = IntStream.range(0, 200)
+                .mapToObj(i -> "bulk-many" + (i % 50) + ",10")
+                .collect(Collectors.joining("\n"));
+
+        // when
+        BulkEarnResult result = earn(csv, BulkEarnService.Format.CSV);
+
+        // then
+        assertEquals(200, result.earnedCount());
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM POINT_WALLET", Long.class)).isEqualTo(50);
+        assertThat(jdbc.queryForObject("SELECT SUM(BALANCE_AMOUNT) FROM POINT_WALLET", Long.class)).isEqualTo(2_000);
+        assertEquals(40L, balance("bulk-many7"));
+    }
+
+    private BulkEarnResult earn(String content, BulkEarnService.Format format) {
+        return bulkEarnService.earn(new BufferedReader(new StringReader(content)), format, LocalDate.now());
+    }
+
+    private long balance(String userId) {
+        return pointQueryService.balance(userId).balanceAmount();
+    }
+}
@@ -3,6 +3,8 @@ package me.jslim.point;
 import me.jslim.point.application.dto.*;
 import me.jslim.point.application.service.PointCommandService;
 import me.jslim.point.application.service.PointExpireService;
+import me.jslim.point.global.exception.BusinessException;
+import me.jslim.point.global.vo.ResultCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +16,7 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest
 @DisplayName("사용취소")
@@ -106,12 +109,12 @@ public class CancelUseTest {
         pointExpireService.findActiveExpiring(now.plusDays(6)); // 적립을 만료시키기 위해 6일 이 지난 걸로 설정
         UseCancelResult useCancelResult = pointCommandService.cancelUse(
                 new UseCancelCmd(userId, useResult1.pointKey(), 500L
-        ));
+        ), now.plusDays(6));
 
         // then
         assertThat(earnResult.balanceAmount()).isEqualTo(10_000L);
         assertThat(useResult1.balanceAmount()).isEqualTo(9_000L);
-        assertThat(useCancelResult.balanceAmount()).isEqualTo(9_500L);
+        assertThat(useCancelResult.balanceAmount()).isEqualTo(500L); // 남은 9,000 은 만료시 지갑에서 차감
 
         // 사용 취소로 인한 적립건 확인
         String newEarnPointKey = jdbc.queryForObject("""
@@ -123,4 +126,37 @@ public class CancelUseTest {
         // 만료된 적립과는 다른건
         assertThat(newEarnPointKey).isNotEqualTo(earnResult.pointKey());
     }
+
+    @Test
+    @DisplayName("여러번 나누어 사용취소하면 사용 상세별로 남은 금액에서 이어서 취소한다")
+    void useCancel4() {
+        // given (1,000원 적립 3건에서 2,500원 사용 : 1,000 / 1,000 / 500)
+        String userId = "jslim";
+        LocalDate now = LocalDate.now();
+        for (int i = 0; i < 3; i++) {
+            pointCommandService.earn(new EarnCmd(userId, 1_000L, null, null), now);
+        }
+        UseResult useResult = pointCommandService.use(new UseCmd(userId, 2_500L, "ABC123"), now);
+
+        // when
+        UseCancelResult cancel1 = pointCommandService.cancelUse(new UseCancelCmd(userId, useResult.pointKey(), 1_200L), now);
+        UseCancelResult cancel2 = pointCommandService.cancelUse(new UseCancelCmd(userId, useResult.pointKey(), 1_300L), now);
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> pointCommandService.cancelUse(new UseCancelCmd(userId, useResult.pointKey(), 1L), now));
+
+        // then
+        assertThat(cancel1.balanceAmount()).isEqualTo(1_700L);
+        assertThat(cancel2.balanceAmount()).isEqualTo(3_000L);
+        assertThat(exception.getResultCode()).isEqualTo(ResultCode.USE_CANCEL_FAIL);
+
+        // 적립 잔액은 모두 원래대로, 사용 상세의 취소금액은 사용금액과 같음
+        assertThat(jdbc.queryForList("SELECT EARN_BALANCE_AMOUNT FROM POINT_EARN", Long.class))
+                .containsOnly(1_000L);
+        assertThat(jdbc.queryForObject(
+                "SELECT COUNT(*) FROM POINT_USE WHERE POINT_KEY = ? AND CANCELED_AMOUNT = AMOUNT",
+                Long.class, useResult.pointKey())).isEqualTo(3);
+        assertThat(jdbc.queryForObject(
+                "SELECT SUM(AMOUNT) FROM POINT_USE_CANCEL WHERE POINT_KEY = ?",
+                Long.class, cancel2.pointKey())).isEqualTo(1_300L);
+    }
 }
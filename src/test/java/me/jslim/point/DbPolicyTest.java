@@ -0,0 +1,101 @@
+package me.jslim.point;
+
+import me.jslim.point.application.support.PointPolicy;
+import me.jslim.point.application.support.PolicySnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "point.policy.store=db",
+        "point.policy.poll-interval-millis=3600000"
+})
+@DisplayName("DB 정책")
+public class DbPolicyTest {
+    @Autowired
+    PointPolicy pointPolicy;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @BeforeEach
+    void resetDb() {
+        jdbc.batchUpdate("""
+            TRUNCATE TABLE POINT_POLICY;
+            TRUNCATE TABLE POINT_POLICY_VERSION;
+        """.split(";"));
+        pointPolicy.reload();
+    }
+
+    @Test
+    @DisplayName("정책 변경은 테이블에 저장되고 버전이 증가한다")
+    void dbPolicy1() {
+        // when
+        pointPolicy.update(PolicySnapshot.MAXIMUM_POINT, "110000");
+        pointPolicy.update(PolicySnapshot.DEF_EXPIRE_DAYS, "30");
+
+        // then
+        assertThat(pointPolicy.snapshot().maximumPoint()).isEqualTo(110_000L);
+        assertThat(pointPolicy.snapshot().defExpireDays()).isEqualTo(30);
+        assertThat(jdbc.queryForObject("SELECT POLICY_VALUE FROM POINT_POLICY WHERE POLICY_KEY = 'MAXIMUM_POINT'", String.class))
+                .isEqualTo("110000");
+        assertThat(jdbc.queryForObject("SELECT VERSION FROM POINT_POLICY_VERSION", Long.class)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 변경한 정책은 버전이 바뀌었을 때만 reload 로 반영된다")
+    void dbPolicy2() {
+        // given
+        pointPolicy.update(PolicySnapshot.MAXIMUM_POINT, "110000");
+        PolicySnapshot before = pointPolicy.snapshot();
+
+        // 버전 변경 없이 값만 바뀐 경우 다시 읽지 않음
+        jdbc.update("UPDATE POINT_POLICY SET POLICY_VALUE = '120000' WHERE POLICY_KEY = 'MAXIMUM_POINT'");
+        pointPolicy.reload();
+        assertThat(pointPolicy.snapshot()).isSameAs(before);
+
+        // when (다른 인스턴스의 변경 = 값 변경 + 버전 증가)
+        jdbc.update("UPDATE POINT_POLICY_VERSION SET VERSION = VERSION + 1");
+        pointPolicy.reload();
+
+        // then
+        assertThat(pointPolicy.snapshot().maximumPoint()).isEqualTo(120_000L);
+    }
+
+    @Test
+    @DisplayName("버전 행이 있으면 여러 요청이 동시에 처음 변경해도 INSERT 충돌 없이 버전이 증가한다")
+    void dbPolicy3() {
+        // given (migration 이 넣어둔 버전 행)
+        jdbc.update("INSERT INTO POINT_POLICY_VERSION (NAME, VERSION) VALUES ('POINT_POLICY', 0)");
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            String key = "KEY_" + i;
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                pointPolicy.update(key, "1");
+            }));
+        }
+        start.countDown();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // then
+        assertThat(jdbc.queryForObject("SELECT VERSION FROM POINT_POLICY_VERSION", Long.class)).isEqualTo(8L);
+    }
+}
@@ -4,6 +4,9 @@ import lombok.extern.slf4j.Slf4j;
 import me.jslim.point.application.dto.*;
 import me.jslim.point.application.service.PointCommandService;
 import me.jslim.point.application.service.PointExpireService;
+import me.jslim.point.domain.type.EarnStatus;
+import me.jslim.point.domain.type.EarnType;
+import me.jslim.point.domain.type.PointType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -139,7 +142,7 @@ class ExampleTest {
         UseCancelCmd cancelCmd = new UseCancelCmd(userId, cancelPointKey, 1100L);
 
         // when
-        UseCancelResult useCancelResult = pointCommandService.cancelUse(cancelCmd);
+        UseCancelResult useCancelResult = pointCommandService.cancelUse(cancelCmd, date.plusDays(6)); // 만료처리한 기준일과 동일
 
         // then
         assertThat(useCancelResult.balanceAmount()).isEqualTo(1400);
@@ -150,23 +153,24 @@ class ExampleTest {
         List<Map<String, Object>> rows = jdbc.queryForList("""
             SELECT P.POINT_KEY AS A
                  , (CASE
-                     WHEN P.POINT_TYPE = 'EARN' THEN '[  적립  ]'
-                     WHEN P.POINT_TYPE = 'EARN_CANCEL' THEN '[적립 취소]'
-                     WHEN P.POINT_TYPE = 'USE' THEN '[  사용  ]'
+                     WHEN P.POINT_TYPE = ? THEN '[  적립  ]'
+                     WHEN P.POINT_TYPE = ? THEN '[적립 취소]'
+                     WHEN P.POINT_TYPE = ? THEN '[  사용  ]'
                      ELSE '[사용 취소]'
                    END) AS B
                  , P.POINT_AMOUNT AS C
                  , (CASE
-                     WHEN E.EARN_STATUS = 'EXPIRED' THEN '(만료됨)'
+                     WHEN E.EARN_STATUS = ? THEN '(만료됨)'
                      ELSE ''
                    END) AS D
                  , (CASE
-                     WHEN E.EARN_TYPE = 'EARN_AS_USE_CANCEL' THEN '(사용취소로 인한 적립)'
+                     WHEN E.EARN_TYPE = ? THEN '(사용취소로 인한 적립)'
                      ELSE ''
                    END) AS E
               FROM POINT P
               LEFT JOIN POINT_EARN AS E ON P.POINT_KEY = E.POINT_KEY
-        """);
+        """, PointType.EARN.code(), PointType.EARN_CANCEL.code(), PointType.USE.code(),
+                EarnStatus.EXPIRED.code(), EarnType.EARN_AS_USE_CANCEL.code());
 
         log.info("포인트내역");
         log.info("---------------------------------------------------------------");
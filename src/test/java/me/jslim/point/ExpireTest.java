@@ -0,0 +1,222 @@
+package me.jslim.point;
+
+import me.jslim.point.application.dto.EarnCmd;
+import me.jslim.point.application.dto.ExpireProgress;
+import me.jslim.point.application.dto.ExpireResult;
+import me.jslim.point.application.dto.UseCmd;
+import me.jslim.point.application.service.PointCommandService;
+import me.jslim.point.application.service.PointExpireService;
+import me.jslim.point.application.support.UserLockRunner;
+import me.jslim.point.domain.type.EarnCancelType;
+import me.jslim.point.domain.type.EarnStatus;
+import me.jslim.point.domain.type.PointType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "point.expire.chunk-size=2",
+        "point.expire.shards=4",
+        "point.expire.workers=2",
+        "point.lock.wait-timeout=200ms"
+})
+@DisplayName("만료")
+public class ExpireTest {
+    @Autowired
+    PointCommandService pointCommandService;
+
+    @Autowired
+    PointExpireService pointExpireService;
+
+    @Autowired
+    UserLockRunner userLockRunner;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @BeforeEach
+    void resetDb() {
+        jdbc.batchUpdate("""
+            SET REFERENTIAL_INTEGRITY FALSE;
+            TRUNCATE TABLE POINT;
+            TRUNCATE TABLE POINT_EARN;
+            TRUNCATE TABLE POINT_EARN_CANCEL;
+            TRUNCATE TABLE POINT_USE;
+            TRUNCATE TABLE POINT_USE_CANCEL;
+            TRUNCATE TABLE POINT_WALLET;
+            TRUNCATE TABLE WALLET_EXPIRY_BUCKET;
+            TRUNCATE TABLE POINT_EXPIRE_CHECKPOINT;
+            SET REFERENTIAL_INTEGRITY TRUE;
+        """.split(";"));
+    }
+
+    @Test
+    @DisplayName("잔액이 남은 사용가능 적립만 chunk 단위로 만료처리 한다")
+    void expire1() {
+        // given
+        String userId = "jslim";
+        LocalDate now = LocalDate.now();
+        String expireDate = now.plusDays(5).format(DateTimeFormatter.BASIC_ISO_DATE);
+        for (int i = 0; i < 5; i++) {
+            pointCommandService.earn(new EarnCmd(userId, 1_000L, null, expireDate), now);
+        }
+        pointCommandService.use(new UseCmd(userId, 1_000L, "ABC123"), now); // 1건은 전액 사용
+
+        // when
+        ExpireResult result = pointExpireService.findActiveExpiring(now.plusDays(6));
+
+        // then
+        assertThat(result.expiredCount()).isEqualTo(4);
+        assertThat(countByStatus(EarnStatus.EXPIRED)).isEqualTo(4);
+        assertThat(countByStatus(EarnStatus.UNAVAILABLE)).isEqualTo(1); // 전액 사용된 적립은 그대로
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM POINT_EXPIRE_CHECKPOINT", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("중단된 만료작업은 같은 기준일로 다시 실행하면 checkpoint 다음 적립부터 이어서 처리한다")
+    void expire2() {
+        // given
+        String userId = "jslim";
+        LocalDate now = LocalDate.now();
+        LocalDate baseDate = now.plusDays(6);
+        pointCommandService.earn(new EarnCmd(userId, 1_000L, null, now.plusDays(3).format(DateTimeFormatter.BASIC_ISO_DATE)), now);
+        pointCommandService.earn(new EarnCmd(userId, 1_000L, null, now.plusDays(4).format(DateTimeFormatter.BASIC_ISO_DATE)), now);
+        pointCommandService.earn(new EarnCmd(userId, 1_000L, null, now.plusDays(5).format(DateTimeFormatter.BASIC_ISO_DATE)), now);
+
+        // 만료일 4일 뒤 적립까지 처리하고 중단된 상태
+        // 3일 뒤 적립은 checkpoint 앞에 있지만 사용가능으로 남겨둠 (처음부터 다시 조회하면 만료됨)
+        jdbc.update("UPDATE POINT_EARN SET EARN_STATUS = ? WHERE EXPIRE_DATE = ?", EarnStatus.EXPIRED.code(), now.plusDays(4));
+        String lastEarnKey = jdbc.queryForObject("SELECT EARN_KEY FROM POINT_EARN WHERE EXPIRE_DATE = ?", String.class, now.plusDays(4));
+        jdbc.update("""
+            INSERT INTO POINT_EXPIRE_CHECKPOINT (JOB_NAME, BASE_DATE, LAST_EXPIRE_DATE, LAST_EARN_KEY, PROCESSED_COUNT)
+            VALUES ('POINT_EXPIRE', ?, ?, ?, 1)
+        """, baseDate, now.plusDays(4), lastEarnKey);
+
+        // when
+        ExpireResult result = pointExpireService.findActiveExpiring(baseDate);
+
+        // then
+        assertThat(result.expiredCount()).isEqualTo(1);
+        assertThat(statusByExpireDate(now.plusDays(3))).isEqualTo(EarnStatus.AVAILABLE.code()); // checkpoint 앞은 건너뜀
+        assertThat(statusByExpireDate(now.plusDays(5))).isEqualTo(EarnStatus.EXPIRED.code());   // checkpoint 다음은 처리
+    }
+
+    @Test
+    @DisplayName("만료된 잔액만큼 지갑에서 차감하고 지갑별 적립취소 내역과 적립건별 만료취소 내역을 남긴다")
+    void expire3() {
+        // given
+        String userId = "jslim";
+        LocalDate now = LocalDate.now();
+        String expireDate = now.plusDays(5).format(DateTimeFormatter.BASIC_ISO_DATE);
+        pointCommandService.earn(new EarnCmd(userId, 1_000L, null, expireDate), now);
+        pointCommandService.earn(new EarnCmd(userId, 2_000L, null, expireDate), now);
+        pointCommandService.earn(new EarnCmd(userId, 3_000L, null, null), now); // 만료 대상 아님
+        pointCommandService.use(new UseCmd(userId, 500L, "ABC123"), now);
+
+        // when
+        ExpireResult result = pointExpireService.findActiveExpiring(now.plusDays(6));
+
+        // then
+        assertThat(result.expiredCount()).isEqualTo(2);
+        assertThat(jdbc.queryForObject("SELECT BALANCE_AMOUNT FROM POINT_WALLET WHERE USER_ID = ?", Long.class, userId))
+                .isEqualTo(3_000L);
+
+        // 지갑별 적립취소 1건 (chunk 크기 2 이므로 chunk 1개)
+        assertThat(jdbc.queryForList("SELECT POINT_AMOUNT FROM POINT WHERE POINT_TYPE = ?", Long.class, PointType.EARN_CANCEL.code()))
+                .containsExactly(-2_500L);
+
+        // 적립건별 만료취소
+        assertThat(jdbc.queryForList("""
+            SELECT C.EARN_CANCEL_AMOUNT
+              FROM POINT_EARN_CANCEL C
+              JOIN POINT P ON P.POINT_KEY = C.POINT_KEY
+             WHERE C.EARN_CANCEL_TYPE = ?
+               AND P.POINT_TYPE = ?
+        """, Long.class, EarnCancelType.EARN_CANCEL_EXPIRED.code(), PointType.EARN_CANCEL.code())).containsExactlyInAnyOrder(500L, 2_000L);
+    }
+
+    @Test
+    @DisplayName("여러 지갑을 샤드로 나누어 처리하고 샤드별 진행 현황을 남긴다")
+    void expire4() {
+        // given
+        LocalDate now = LocalDate.now();
+        String expireDate = now.plusDays(5).format(DateTimeFormatter.BASIC_ISO_DATE);
+        for (int i = 0; i < 10; i++) {
+            pointCommandService.earn(new EarnCmd("user" + i, 1_000L, null, expireDate), now);
+            pointCommandService.earn(new EarnCmd("user" + i, 2_000L, null, expireDate), now);
+        }
+
+        // when
+        ExpireResult result = pointExpireService.findActiveExpiring(now.plusDays(6));
+        ExpireProgress progress = pointExpireService.progress();
+
+        // then
+        assertThat(result.expiredCount()).isEqualTo(20);
+        assertThat(jdbc.queryForObject("SELECT SUM(BALANCE_AMOUNT) FROM POINT_WALLET", Long.class)).isZero();
+
+        assertThat(progress.running()).isFalse();
+        assertThat(progress.scannedCount()).isEqualTo(20);
+        assertThat(progress.shards()).hasSize(4);
+        assertThat(progress.shards().stream().mapToLong(ExpireProgress.Shard::expiredCount).sum()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("처리중인 요청이 USER LOCK 을 잡고 있는 지갑은 기다리지 않고 건너뛴다")
+    void expire5() throws Exception {
+        // given
+        LocalDate now = LocalDate.now();
+        String expireDate = now.plusDays(5).format(DateTimeFormatter.BASIC_ISO_DATE);
+        pointCommandService.earn(new EarnCmd("busy", 1_000L, null, expireDate), now);
+        pointCommandService.earn(new EarnCmd("idle", 1_000L, null, expireDate), now);
+
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> request = CompletableFuture.runAsync(() -> userLockRunner.run("busy", () -> {
+            held.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        held.await();
+
+        // when
+        ExpireResult result;
+        try {
+            result = pointExpireService.findActiveExpiring(now.plusDays(6));
+        } finally {
+            release.countDown();
+            request.get();
+        }
+
+        // then
+        assertThat(result.expiredCount()).isEqualTo(1);
+        assertThat(pointExpireService.progress().skippedWallets()).isEqualTo(1);
+        assertThat(jdbc.queryForObject("""
+            SELECT E.EARN_STATUS
+              FROM POINT_EARN E
+              JOIN POINT_WALLET W ON W.WALLET_KEY = E.WALLET_KEY
+             WHERE W.USER_ID = 'busy'
+        """, Integer.class)).isEqualTo(EarnStatus.AVAILABLE.code());
+    }
+
+    private long countByStatus(EarnStatus status) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM POINT_EARN WHERE EARN_STATUS = ?", Long.class, status.code());
+    }
+
+    private Integer statusByExpireDate(LocalDate expireDate) {
+        return jdbc.queryForObject("SELECT EARN_STATUS FROM POINT_EARN WHERE EXPIRE_DATE = ?", Integer.class, expireDate);
+    }
+}
@@ -0,0 +1,201 @@
+package me.jslim.point;
+
+import me.jslim.point.application.dto.*;
+import me.jslim.point.application.service.ExpiryBucketService;
+import me.jslim.point.application.service.PointCommandService;
+import me.jslim.point.application.service.PointExpireService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "point.expiry-bucket.verify.chunk-size=2",
+        "point.expiry-bucket.verify.workers=2"
+})
+@DisplayName("만료일 합계")
+public class ExpiryBucketTest {
+    @Autowired
+    PointCommandService pointCommandService;
+
+    @Autowired
+    PointExpireService pointExpireService;
+
+    @Autowired
+    ExpiryBucketService expiryBucketService;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @BeforeEach
+    void resetDb() {
+        jdbc.batchUpdate("""
+            SET REFERENTIAL_INTEGRITY FALSE;
+            TRUNCATE TABLE POINT;
+            TRUNCATE TABLE POINT_EARN;
+            TRUNCATE TABLE POINT_EARN_CANCEL;
+            TRUNCATE TABLE POINT_USE;
+            TRUNCATE TABLE POINT_USE_CANCEL;
+            TRUNCATE TABLE POINT_WALLET;
+            TRUNCATE TABLE POINT_EXPIRE_CHECKPOINT;
+            TRUNCATE TABLE POINT_IDEMPOTENCY;
+            TRUNCATE TABLE WALLET_EXPIRY_BUCKET;
+            SET REFERENTIAL_INTEGRITY TRUE;
+        """.split(";"));
+    }
+
+    @Test
+    @DisplayName("적립/사용/사용취소/적립취소 후 만료일 합계는 사용가능 적립 잔액의 만료일별 합계와 같다")
+    void bucket1() {
+        // given
+        String userId = "bucket-user1";
+        LocalDate now = LocalDate.now();
+        LocalDate sooner = now.plusDays(5);
+        LocalDate later = now.plusDays(20);
+        pointCommandService.earn(new EarnCmd(userId, 1_000L, null, date(sooner)), now);
+        pointCommandService.earn(new EarnCmd(userId, 500L, null, date(sooner)), now);
+        pointCommandService.earn(new EarnCmd(userId, 2_000L, null, date(later)), now);
+        String canceled = pointCommandService.earn(new EarnCmd(userId, 700L, null, date(later)), now).pointKey();
+
+        // when
+        UseResult use = pointCommandService.use(new UseCmd(userId, 1_800L, "ORDER-1"), now);
+        pointCommandService.cancelUse(new UseCancelCmd(userId, use.pointKey(), 600L), now);
+        pointCommandService.cancelEarn(new EarnCancelCmd(userId, canceled));
+
+        // then
+        Map<LocalDate, Long> buckets = buckets(userId);
+        assertThat(buckets).isEqualTo(earnSums(userId));
+        assertThat(buckets.values().stream().mapToLong(Long::longValue).sum()).isEqualTo(1_500L + 2_000L - 1_800L + 600L);
+        assertThat(expiryBucketService.verify().driftWallets()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료된 적립의 사용취소는 새 적립의 만료일 합계에 더해진다")
+    void bucket2() {
+        // given
+        String userId = "bucket-user2";
+        LocalDate earnDate = LocalDate.now().minusDays(10);
+        LocalDate expired = earnDate.plusDays(1);
+        pointCommandService.earn(new EarnCmd(userId, 1_000L, null, date(expired)), earnDate);
+        UseResult use = pointCommandService.use(new UseCmd(userId, 400L, "ORDER-1"), earnDate);
+
+        // when
+        pointCommandService.cancelUse(new UseCancelCmd(userId, use.pointKey(), 400L), LocalDate.now());
+
+        // then
+        Map<LocalDate, Long> buckets = buckets(userId);
+        assertThat(buckets).isEqualTo(earnSums(userId));
+        assertThat(buckets).containsEntry(expired, 600L);
+        assertThat(buckets.values()).containsExactlyInAnyOrder(600L, 400L);
+    }
+
+    @Test
+    @DisplayName("만료작업은 만료된 잔액을 만료일 합계에서 차감하고, 0 이 된 만료일은 삭제한다")
+    void bucket3() {
+        // given
+        String userId = "bucket-user3";
+        LocalDate now = LocalDate.now();
+        LocalDate expiring = now.plusDays(5);
+        pointCommandService.earn(new EarnCmd(userId, 1_000L, null, date(expiring)), now);
+        pointCommandService.earn(new EarnCmd(userId, 2_000L, null, date(expiring)), now);
+        pointCommandService.earn(new EarnCmd(userId, 3_000L, null, date(now.plusDays(30))), now);
+        pointCommandService.use(new UseCmd(userId, 500L, "ORDER-1"), now);
+
+        // when
+        pointExpireService.findActiveExpiring(now.plusDays(6));
+
+        // then
+        assertThat(buckets(userId)).containsExactly(Map.entry(now.plusDays(30), 3_000L));
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM WALLET_EXPIRY_BUCKET WHERE EXPIRE_DATE = ?", Long.class, expiring))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("검증은 모든 지갑을 나누어 point_earn 과 비교하고, 다른 지갑/만료일만 보고한다")
+    void bucket4() {
+        // given
+        LocalDate now = LocalDate.now();
+        LocalDate expireDate = now.plusDays(10);
+        for (int i = 0; i < 5; i++) {
+            pointCommandService.earn(new EarnCmd("bucket-verify" + i, 1_000L, null, date(expireDate)), now);
+        }
+        String walletKey = jdbc.queryForObject("SELECT WALLET_KEY FROM POINT_WALLET WHERE USER_ID = ?", String.class, "bucket-verify3");
+        jdbc.update("UPDATE WALLET_EXPIRY_BUCKET SET AMOUNT = 900 WHERE WALLET_KEY = ?", walletKey);
+
+        // when
+        ExpiryBucketVerifyResult result = expiryBucketService.verify();
+
+        // then
+        assertThat(result.checkedWallets()).isEqualTo(5);
+        assertThat(result.driftWallets()).isEqualTo(1);
+        assertThat(result.drifts()).containsExactly(
+                new ExpiryBucketVerifyResult.Drift(walletKey, expireDate, 900L, 1_000L));
+    }
+
+    @Test
+    @DisplayName("여러 지갑/만료일의 증감은 한번에 반영되고, 있는 만료일은 더하고 없는 만료일은 만들며 0 은 건너뛴다")
+    void bucket5() {
+        // given
+        LocalDate now = LocalDate.now();
+        pointCommandService.earn(new EarnCmd("bucket-batch1", 1_000L, null, date(now.plusDays(10))), now);
+        pointCommandService.earn(new EarnCmd("bucket-batch2", 2_000L, null, date(now.plusDays(10))), now);
+        String walletKey1 = jdbc.queryForObject("SELECT WALLET_KEY FROM POINT_WALLET WHERE USER_ID = ?", String.class, "bucket-batch1");
+        String walletKey2 = jdbc.queryForObject("SELECT WALLET_KEY FROM POINT_WALLET WHERE USER_ID = ?", String.class, "bucket-batch2");
+
+        // when
+        expiryBucketService.addAll(Map.of(
+                walletKey1, Map.of(now.plusDays(10), 500L, now.plusDays(20), 300L),
+                walletKey2, Map.of(now.plusDays(10), 0L, now.plusDays(15), 200L)));
+
+        // then
+        assertThat(buckets("bucket-batch1")).containsExactly(
+                Map.entry(now.plusDays(10), 1_500L), Map.entry(now.plusDays(20), 300L));
+        assertThat(buckets("bucket-batch2")).containsExactly(
+                Map.entry(now.plusDays(10), 2_000L), Map.entry(now.plusDays(15), 200L));
+    }
+
+    private static String date(LocalDate date) {
+        return date.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    /** 만료일 합계 테이블 (0 제외) **/
+    private Map<LocalDate, Long> buckets(String userId) {
+        Map<LocalDate, Long> buckets = new TreeMap<>();
+        jdbc.query("""
+            SELECT B.EXPIRE_DATE, B.AMOUNT
+              FROM WALLET_EXPIRY_BUCKET B
+              JOIN POINT_WALLET W ON W.WALLET_KEY = B.WALLET_KEY
+             WHERE W.USER_ID = ?
+               AND B.AMOUNT <> 0
+        """, rs -> {
+            buckets.put(rs.getObject(1, LocalDate.class), rs.getLong(2));
+        }, userId);
+        return buckets;
+    }
+
+    /** 사용가능 적립 잔액의 만료일별 합계 **/
+    private Map<LocalDate, Long> earnSums(String userId) {
+        Map<LocalDate, Long> sums = new TreeMap<>();
+        jdbc.query("""
+            SELECT E.EXPIRE_DATE, SUM(E.EARN_BALANCE_AMOUNT)
+              FROM POINT_EARN E
+              JOIN POINT_WALLET W ON W.WALLET_KEY = E.WALLET_KEY
+             WHERE W.USER_ID = ?
+               AND E.EARN_STATUS = 1
+               AND E.EARN_BALANCE_AMOUNT > 0
+             GROUP BY E.EXPIRE_DATE
+        """, rs -> {
+            sums.put(rs.getObject(1, LocalDate.class), rs.getLong(2));
+        }, userId);
+        return sums;
+    }
+}
@@ -0,0 +1,156 @@
+package me.jslim.point;
+
+import me.jslim.point.application.dto.*;
+import me.jslim.point.application.service.PointCommandService;
+import me.jslim.point.application.service.PointQueryService;
+import me.jslim.point.global.exception.BusinessException;
+import me.jslim.point.global.vo.ResultCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@DisplayName("포인트 내역 조회")
+public class HistoryTest {
+    @Autowired
+    PointCommandService pointCommandService;
+
+    @Autowired
+    PointQueryService pointQueryService;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @BeforeEach
+    void resetDb() {
+        jdbc.batchUpdate("""
+            SET REFERENTIAL_INTEGRITY FALSE;
+            TRUNCATE TABLE POINT;
+            TRUNCATE TABLE POINT_EARN;
+            TRUNCATE TABLE POINT_EARN_CANCEL;
+            TRUNCATE TABLE POINT_USE;
+            TRUNCATE TABLE POINT_USE_CANCEL;
+            TRUNCATE TABLE POINT_WALLET;
+            SET REFERENTIAL_INTEGRITY TRUE;
+        """.split(";"));
+    }
+
+    @Test
+    @DisplayName("cursor 로 끝까지 조회하면 모든 내역을 최신순으로 중복없이 읽는다")
+    void history1() {
+        // given
+        String userId = "history-user1";
+        LocalDate now = LocalDate.now();
+        List<String> pointKeys = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            pointKeys.add(pointCommandService.earn(new EarnCmd(userId, 100L, null, null), now).pointKey());
+        }
+
+        // when
+        List<String> read = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            HistoryResult page = pointQueryService.history(new HistoryQuery(userId, null, null, null, cursor, 3));
+            page.items().forEach(item -> read.add(item.pointKey()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // then
+        assertEquals(3, pages);
+        assertThat(read).containsExactlyElementsOf(pointKeys.reversed());
+    }
+
+    @Test
+    @DisplayName("타입으로 필터하고, 사용/사용취소 상세를 함께 반환한다")
+    void history2() {
+        // given
+        String userId = "history-user2";
+        LocalDate now = LocalDate.now();
+        pointCommandService.earn(new EarnCmd(userId, 1_000L, null, null), now);
+        pointCommandService.earn(new EarnCmd(userId, 500L, null, null), now);
+        UseResult use = pointCommandService.use(new UseCmd(userId, 1_200L, "A1234"), now);
+        UseCancelResult useCancel = pointCommandService.cancelUse(new UseCancelCmd(userId, use.pointKey(), 1_100L), now);
+
+        // when
+        HistoryResult all = pointQueryService.history(new HistoryQuery(userId, null, null, null, null, null));
+        HistoryResult uses = pointQueryService.history(new HistoryQuery(userId, "use", null, null, null, null));
+
+        // then
+        assertThat(all.items()).extracting(HistoryResult.Item::pointType)
+                .containsExactly("USE_CANCEL", "USE", "EARN", "EARN");
+        assertNull(all.nextCursor());
+
+        HistoryResult.Item cancelItem = all.items().getFirst();
+        assertEquals(useCancel.pointKey(), cancelItem.pointKey());
+        assertEquals(1_100L, cancelItem.details().stream().mapToLong(HistoryResult.Detail::amount).sum());
+
+        assertThat(uses.items()).hasSize(1);
+        HistoryResult.Item useItem = uses.items().getFirst();
+        assertEquals(-1_200L, useItem.pointAmount());
+        assertThat(useItem.details()).hasSize(2)
+                .allSatisfy(detail -> assertEquals("A1234", detail.orderNumber()));
+        assertEquals(1_200L, useItem.details().stream().mapToLong(HistoryResult.Detail::amount).sum());
+        assertThat(all.items().get(2).details()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기간으로 필터한다 (종료일 포함)")
+    void history3() {
+        // given
+        String userId = "history-user3";
+        LocalDate now = LocalDate.now();
+        pointCommandService.earn(new EarnCmd(userId, 100L, null, null), now);
+        String today = now.format(DateTimeFormatter.BASIC_ISO_DATE);
+        String tomorrow = now.plusDays(1).format(DateTimeFormatter.BASIC_ISO_DATE);
+
+        // when
+        HistoryResult inRange = pointQueryService.history(new HistoryQuery(userId, null, today, today, null, null));
+        HistoryResult outOfRange = pointQueryService.history(new HistoryQuery(userId, null, tomorrow, null, null, null));
+
+        // then
+        assertThat(inRange.items()).hasSize(1);
+        assertThat(outOfRange.items()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("페이지 크기, 타입, 날짜가 잘못되었거나 지갑이 없으면 오류")
+    void history4() {
+        // given
+        String userId = "history-user4";
+        pointCommandService.earn(new EarnCmd(userId, 100L, null, null), LocalDate.now());
+
+        // when
+        BusinessException size = assertThrows(BusinessException.class,
+                () -> pointQueryService.history(new HistoryQuery(userId, null, null, null, null, 101)));
+        BusinessException type = assertThrows(BusinessException.class,
+                () -> pointQueryService.history(new HistoryQuery(userId, "GIFT", null, null, null, null)));
+        BusinessException from = assertThrows(BusinessException.class,
+                () -> pointQueryService.history(new HistoryQuery(userId, null, "2024-01-01", null, null, null)));
+        BusinessException to = assertThrows(BusinessException.class,
+                () -> pointQueryService.history(new HistoryQuery(userId, null, null, "20241301", null, null)));
+        BusinessException wallet = assertThrows(BusinessException.class,
+                () -> pointQueryService.history(new HistoryQuery("history-unknown", null, null, null, null, null)));
+
+        // then
+        assertEquals(ResultCode.QUERY_SIZE_ERROR, size.getResultCode());
+        assertEquals(ResultCode.QUERY_TYPE_ERROR, type.getResultCode());
+        assertEquals(ResultCode.QUERY_DATE_ERROR, from.getResultCode());
+        assertEquals(ResultCode.QUERY_DATE_ERROR, to.getResultCode());
+        assertEquals(ResultCode.WALLET_NOT_FOUND, wallet.getResultCode());
+    }
+}
@@ -0,0 +1,280 @@
+package me.jslim.point;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.jslim.point.application.dto.*;
+import me.jslim.point.application.service.PointCommandService;
+import me.jslim.point.application.service.PointQueryService;
+import me.jslim.point.application.support.UserLockRunner;
+import me.jslim.point.domain.repository.PointIdempotencyRepository;
+import me.jslim.point.global.exception.BusinessException;
+import me.jslim.point.global.vo.ResultCode;
+import me.jslim.point.infrastructure.cache.LocalIdempotencyStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@DisplayName("멱등키")
+public class IdempotencyTest {
+    @Autowired
+    PointCommandService pointCommandService;
+
+    @Autowired
+    PointQueryService pointQueryService;
+
+    @Autowired
+    UserLockRunner userLockRunner;
+
+    @Autowired
+    PointIdempotencyRepository idempotencyRepo;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @BeforeEach
+    void resetDb() {
+        jdbc.batchUpdate("""
+            SET REFERENTIAL_INTEGRITY FALSE;
+            TRUNCATE TABLE POINT;
+            TRUNCATE TABLE POINT_EARN;
+            TRUNCATE TABLE POINT_EARN_CANCEL;
+            TRUNCATE TABLE POINT_USE;
+            TRUNCATE TABLE POINT_USE_CANCEL;
+            TRUNCATE TABLE POINT_WALLET;
+            TRUNCATE TABLE POINT_IDEMPOTENCY;
+            SET REFERENTIAL_INTEGRITY TRUE;
+        """.split(";"));
+    }
+
+    @Test
+    @DisplayName("같은 멱등키로 재요청하면 다시 적립하지 않고 처음 결과를 돌려준다")
+    void idempotency1() {
+        // given
+        LocalDate now = LocalDate.now();
+        EarnCmd earnCmd = new EarnCmd("idem-user", 1000L, null, null, "earn-1");
+
+        // when
+        EarnResult first = pointCommandService.earn(earnCmd, now);
+        EarnResult retry = pointCommandService.earn(earnCmd, now);
+
+        // then
+        assertThat(retry).isEqualTo(first);
+        assertEquals(1000, pointQueryService.balance("idem-user").balanceAmount());
+        assertEquals(1, jdbc.queryForObject("select count(*) from point_earn", Integer.class));
+        assertEquals(1, jdbc.queryForObject("select count(*) from point_idempotency", Integer.class));
+    }
+
+    @Test
+    @DisplayName("재요청은 USER LOCK 을 잡지 않는다 (다른 요청이 락을 잡고 있어도 바로 응답)")
+    void idempotency2() throws Exception {
+        // given
+        LocalDate now = LocalDate.now();
+        pointCommandService.earn(new EarnCmd("idem-lock", 1000L, null, null), now);
+        UseCmd useCmd = new UseCmd("idem-lock", 300L, "A1", "use-1");
+        UseResult first = pointCommandService.use(useCmd, now);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> userLockRunner.run("idem-lock", () -> {
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        holder.start();
+        locked.await();
+
+        // when
+        UseResult retry;
+        try {
+            retry = CompletableFuture.supplyAsync(() -> pointCommandService.use(useCmd, now))
+                    .get(1, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+
+        // then
+        assertThat(retry).isEqualTo(first);
+        assertEquals(700, pointQueryService.balance("idem-lock").balanceAmount());
+    }
+
+    @Test
+    @DisplayName("같은 멱등키로 내용이 다른 요청은 거절하고, 다른 사용자의 같은 멱등키는 별개로 처리한다")
+    void idempotency3() {
+        // given
+        LocalDate now = LocalDate.now();
+        pointCommandService.earn(new EarnCmd("idem-a", 1000L, null, null, "same-key"), now);
+
+        // when
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> pointCommandService.earn(new EarnCmd("idem-a", 2000L, null, null, "same-key"), now));
+        EarnResult other = pointCommandService.earn(new EarnCmd("idem-b", 2000L, null, null, "same-key"), now);
+
+        // then
+        assertEquals(ResultCode.IDEMPOTENCY_KEY_REUSED, exception.getResultCode());
+        assertEquals(2000, other.balanceAmount());
+        assertEquals(1000, pointQueryService.balance("idem-a").balanceAmount());
+    }
+
+    @Test
+    @DisplayName("같은 멱등키의 사용 요청이 동시에 들어와도 한번만 차감된다")
+    void idempotency4() throws Exception {
+        // given
+        LocalDate now = LocalDate.now();
+        pointCommandService.earn(new EarnCmd("idem-race", 1000L, null, null), now);
+        UseCmd useCmd = new UseCmd("idem-race", 100L, "A1", "use-race");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<UseResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            futures.add(executor.submit(() -> pointCommandService.use(useCmd, now)));
+        }
+        List<UseResult> results = new ArrayList<>();
+        for (Future<UseResult> future : futures) {
+            results.add(future.get());
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(results).allSatisfy(result -> assertThat(result).isEqualTo(results.getFirst()));
+        assertEquals(900, pointQueryService.balance("idem-race").balanceAmount());
+        assertEquals(1, jdbc.queryForObject("select count(*) from point where point_type = 2", Integer.class));
+    }
+
+    @Test
+    @DisplayName("실패한 명령의 결과는 저장하지 않아, 같은 멱등키로 다시 요청하면 처리된다")
+    void idempotency5() {
+        // given
+        LocalDate now = LocalDate.now();
+        UseCmd useCmd = new UseCmd("idem-fail", 500L, "A1", "use-after-earn");
+        pointCommandService.earn(new EarnCmd("idem-fail", 100L, null, null), now);
+        assertThrows(BusinessException.class, () -> pointCommandService.use(useCmd, now));
+
+        // when
+        pointCommandService.earn(new EarnCmd("idem-fail", 1000L, null, null), now);
+        UseResult retry = pointCommandService.use(useCmd, now);
+
+        // then
+        assertEquals(600, retry.balanceAmount());
+        assertEquals(1, jdbc.queryForObject("select count(*) from point_idempotency", Integer.class));
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 결과는 시작할 때 적재한 Bloom filter 로 확인하고 DB 에서 읽는다 (재시작 후 재요청)")
+    void idempotency6() {
+        // given
+        LocalDate now = LocalDate.now();
+        EarnCmd earnCmd = new EarnCmd("idem-restart", 1000L, null, null, "earn-restart");
+        EarnResult first = pointCommandService.earn(earnCmd, now);
+
+        LocalIdempotencyStore restarted = new LocalIdempotencyStore(idempotencyRepo, objectMapper, transactionTemplate,
+                Duration.ofHours(24), 100, 1, 1000, 0.01);
+        restarted.loadBloomFilter();
+
+        // when
+        EarnResult stored = restarted.find(earnCmd, EarnResult.class).orElseThrow();
+
+        // then
+        assertThat(stored).isEqualTo(first);
+        assertThat(restarted.find(new EarnCmd("idem-restart", 1000L, null, null, "never-sent"), EarnResult.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Bloom filter 는 보관기간마다 교체되고, 이전 filter 는 다음 교체 때 비워진다")
+    void idempotency7() {
+        // given
+        LocalDate now = LocalDate.now();
+        EarnCmd earnCmd = new EarnCmd("idem-rotate", 1000L, null, null, "earn-rotate");
+        pointCommandService.earn(earnCmd, now);
+        // 행은 삭제되지 않게 두고 filter 교체만 확인
+        jdbc.update("update point_idempotency set created_at = ?", LocalDateTime.now().plusDays(1));
+
+        // 보관기간 0: 만료 삭제를 실행할 때마다 filter 교체
+        LocalIdempotencyStore store = new LocalIdempotencyStore(idempotencyRepo, objectMapper, transactionTemplate,
+                Duration.ZERO, 100, 1, 1000, 0.01);
+        store.loadBloomFilter();
+        assertThat(findWithoutCache(store, earnCmd)).isPresent(); // 시작할 때 이전 filter 에 적재
+
+        // when
+        store.purgeExpired();
+
+        // then (이전 filter 를 비웠으므로 행이 남아있어도 DB 를 조회하지 않음)
+        assertThat(findWithoutCache(store, earnCmd)).isEmpty();
+        assertEquals(1, jdbc.queryForObject("select count(*) from point_idempotency", Integer.class));
+    }
+
+    @Test
+    @DisplayName("32bit 해시가 같아도 내용이 다른 요청은 같은 멱등키로 오면 거절한다 (SHA-256 비교)")
+    void idempotency8() {
+        // given ("Aa" 와 "BB" 는 String.hashCode 가 같음)
+        LocalDate now = LocalDate.now();
+        pointCommandService.earn(new EarnCmd("idem-collision", 1000L, null, null), now);
+        pointCommandService.use(new UseCmd("idem-collision", 100L, "Aa", "use-collision"), now);
+        assertEquals(Objects.hash("idem-collision", 100L, "Aa"), Objects.hash("idem-collision", 100L, "BB"));
+
+        // when
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> pointCommandService.use(new UseCmd("idem-collision", 100L, "BB", "use-collision"), now));
+
+        // then
+        assertEquals(ResultCode.IDEMPOTENCY_KEY_REUSED, exception.getResultCode());
+        assertEquals(900, pointQueryService.balance("idem-collision").balanceAmount());
+        assertThat(jdbc.queryForObject("select request_hash from point_idempotency", String.class)).matches("[0-9a-f]{64}");
+    }
+
+    @Test
+    @DisplayName("정수 해시로 저장된 기존 결과도 같은 요청이면 돌려주고, 내용이 다르면 거절한다")
+    void idempotency9() {
+        // given (V10 이전에 저장된 행: Objects.hash 를 문자열로 변환한 값)
+        LocalDate now = LocalDate.now();
+        EarnCmd earnCmd = new EarnCmd("idem-legacy", 1000L, null, null, "earn-legacy");
+        EarnResult first = pointCommandService.earn(earnCmd, now);
+        jdbc.update("update point_idempotency set request_hash = ?", String.valueOf(Objects.hash("idem-legacy", 1000L, null, null)));
+
+        LocalIdempotencyStore restarted = new LocalIdempotencyStore(idempotencyRepo, objectMapper, transactionTemplate,
+                Duration.ofHours(24), 100, 1, 1000, 0.01);
+        restarted.loadBloomFilter();
+
+        // when
+        EarnResult stored = restarted.find(earnCmd, EarnResult.class).orElseThrow();
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> restarted.find(new EarnCmd("idem-legacy", 2000L, null, null, "earn-legacy"), EarnResult.class));
+
+        // then
+        assertThat(stored).isEqualTo(first);
+        assertEquals(ResultCode.IDEMPOTENCY_KEY_REUSED, exception.getResultCode());
+    }
+
+    /** 트랜잭션 안의 조회는 LRU 에 넣지 않으므로 매번 Bloom filter 를 확인 **/
+    private Optional<EarnResult> findWithoutCache(LocalIdempotencyStore store, EarnCmd earnCmd) {
+        return transactionTemplate.execute(status -> store.find(earnCmd, EarnResult.class));
+    }
+}
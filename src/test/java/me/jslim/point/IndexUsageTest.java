@@ -0,0 +1,207 @@
+package me.jslim.point;
+
+import me.jslim.point.application.dto.EarnCmd;
+import me.jslim.point.application.dto.UseCmd;
+import me.jslim.point.application.service.PointCommandService;
+import me.jslim.point.domain.repository.PointEarnRepository;
+import me.jslim.point.domain.repository.PointRepository;
+import me.jslim.point.domain.repository.PointUseCancelRepository;
+import me.jslim.point.domain.repository.PointUseRepository;
+import me.jslim.point.domain.repository.PointWalletRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 메서드가 실제로 실행하는 SQL(Hibernate 가 만든 SQL)을 가로채 EXPLAIN 으로 인덱스 사용을 확인
+ * (리포지토리 조회가 없는 인덱스는 그 인덱스를 쓰는 마이그레이션 SQL 을 스크립트에서 읽어 확인)
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=me.jslim.point.IndexUsageTest$SqlCapture"
+})
+@DisplayName("인덱스 사용")
+public class IndexUsageTest {
+    @Autowired
+    PointCommandService pointCommandService;
+
+    @Autowired
+    PointEarnRepository pointEarnRepository;
+
+    @Autowired
+    PointRepository pointRepository;
+
+    @Autowired
+    PointUseRepository pointUseRepository;
+
+    @Autowired
+    PointUseCancelRepository pointUseCancelRepository;
+
+    @Autowired
+    PointWalletRepository pointWalletRepository;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @BeforeEach
+    void resetDb() {
+        jdbc.batchUpdate("""
+            SET REFERENTIAL_INTEGRITY FALSE;
+            TRUNCATE TABLE POINT;
+            TRUNCATE TABLE POINT_EARN;
+            TRUNCATE TABLE POINT_EARN_CANCEL;
+            TRUNCATE TABLE POINT_USE;
+            TRUNCATE TABLE POINT_USE_CANCEL;
+            TRUNCATE TABLE POINT_WALLET;
+            SET REFERENTIAL_INTEGRITY TRUE;
+        """.split(";"));
+
+        // 실행계획이 빈 테이블 기준으로 잡히지 않도록 데이터 적재
+        LocalDate now = LocalDate.now();
+        for (int i = 0; i < 20; i++) {
+            String userId = "user" + i;
+            pointCommandService.earn(new EarnCmd(userId, 1_000L, null, null), now);
+            pointCommandService.use(new UseCmd(userId, 100L, "ORDER" + i), now);
+        }
+    }
+
+    @Test
+    @DisplayName("사용가능 적립 조회는 적립 조회용 인덱스를 사용한다")
+    void index1() {
+        // keyset 조건(OR / row value 비교)까지 포함된 다음 페이지 조회
+        LocalDate now = LocalDate.now();
+        String plan = explain(() -> pointEarnRepository.findAvailableEarns("W", now, true, now, "E", 50));
+
+        assertThat(plan).containsIgnoringCase("IDX_POINT_EARN_ALLOC");
+    }
+
+    @Test
+    @DisplayName("포인트 키로 적립 조회시 인덱스를 사용한다")
+    void index2() {
+        String plan = explain(() -> pointEarnRepository.findByPointKey("P"));
+
+        assertThat(plan).containsIgnoringCase("IDX_POINT_EARN_POINT_KEY");
+    }
+
+    @Test
+    @DisplayName("포인트 키로 사용상세 조회시 인덱스를 사용한다")
+    void index3() {
+        String plan = explain(() -> pointUseRepository.findAllByPointKey("P"));
+
+        assertThat(plan).containsIgnoringCase("IDX_POINT_USE_POINT_KEY");
+    }
+
+    @Test
+    @DisplayName("사용취소 금액 이관(V7)은 사용 키로 사용취소 상세를 합산할 때 인덱스를 사용한다")
+    void index4() {
+        String plan = explain(migrationStatement("db/migration/V7__point_use_canceled_amount.sql", "update"));
+
+        assertThat(plan).containsIgnoringCase("IDX_POINT_USE_CANCEL_USE_KEY");
+    }
+
+    @Test
+    @DisplayName("사용자 ID로 지갑 조회시 인덱스를 사용한다")
+    void index5() {
+        String plan = explain(() -> pointWalletRepository.findByUserId("U"));
+
+        assertThat(plan).containsIgnoringCase("UX_POINT_WALLET_USER_ID");
+    }
+
+    @Test
+    @DisplayName("만료 대상 조회는 만료 조회용 인덱스를 사용한다")
+    void index6() {
+        // keyset 조건까지 포함된 다음 페이지 조회
+        LocalDate now = LocalDate.now();
+        String plan = explain(() -> pointEarnRepository.findExpireTargets(now, now.minusDays(1), "E", PageRequest.of(0, 1000)));
+
+        assertThat(plan).containsIgnoringCase("IDX_POINT_EARN_EXPIRE");
+    }
+
+    @Test
+    @DisplayName("지갑별 내역 조회는 cursor 순서와 같은 인덱스를 사용한다")
+    void index7() {
+        String plan = explain(() -> pointRepository.findHistory("W", null, null, null, "P", 21));
+
+        assertThat(plan).containsIgnoringCase("IDX_POINT_WALLET_HISTORY");
+    }
+
+    @Test
+    @DisplayName("사용취소 포인트 키로 사용취소 상세 조회시 인덱스를 사용한다")
+    void index8() {
+        String plan = explain(() -> pointUseCancelRepository.findAllByPointKeyIn(List.of("P1", "P2")));
+
+        assertThat(plan).containsIgnoringCase("IDX_POINT_USE_CANCEL_POINT_KEY");
+    }
+
+    /** 리포지토리 호출이 마지막으로 실행한 SQL 의 실행계획 (바인딩 파라미터는 NULL, 실행계획은 값과 무관) **/
+    private String explain(Runnable query) {
+        SqlCapture.statements.clear();
+        query.run();
+        String sql = SqlCapture.statements.getLast();
+        return jdbc.execute((ConnectionCallback<String>) con -> {
+            try (PreparedStatement ps = con.prepareStatement("EXPLAIN " + sql)) {
+                int count = ps.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= count; i++) {
+                    ps.setNull(i, Types.NULL);
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                    return rs.getString(1);
+                }
+            }
+        });
+    }
+
+    private String explain(String sql) {
+        return jdbc.queryForObject("EXPLAIN " + sql, String.class);
+    }
+
+    /** 마이그레이션 스크립트에서 prefix 로 시작하는 SQL 문 (주석 제외) **/
+    private String migrationStatement(String location, String prefix) {
+        try (InputStream in = new ClassPathResource(location).getInputStream()) {
+            String script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            return Arrays.stream(script.split(";"))
+                    .map(statement -> statement.lines()
+                            .filter(line -> !line.trim().startsWith("--"))
+                            .collect(Collectors.joining("\n"))
+                            .trim())
+                    .filter(statement -> statement.toLowerCase().startsWith(prefix))
+                    .findFirst()
+                    .orElseThrow();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Hibernate 가 실행하는 SQL 을 기록 **/
+    public static class SqlCapture implements StatementInspector {
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+}
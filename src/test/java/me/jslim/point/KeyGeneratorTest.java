@@ -0,0 +1,121 @@
+package me.jslim.point;
+
+import me.jslim.point.infrastructure.keygen.SnowflakePointKeyGenerator;
+import me.jslim.point.infrastructure.keygen.TimeOrderedPointKeyGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("키 생성")
+public class KeyGeneratorTest {
+    private final TimeOrderedPointKeyGenerator keyGenerator = new TimeOrderedPointKeyGenerator();
+
+    @Test
+    @DisplayName("하이픈 없는 32자리 소문자 hex 이며 UUID v7 형식이다")
+    void keygen1() {
+        // when
+        String key = keyGenerator.newPointKey();
+
+        // then
+        assertThat(key).matches("[0-9a-f]{32}");
+        UUID uuid = UUID.fromString(key.replaceFirst("(.{8})(.{4})(.{4})(.{4})(.{12})", "$1-$2-$3-$4-$5"));
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isCloseTo(System.currentTimeMillis(), within(1_000L));
+    }
+
+    @Test
+    @DisplayName("같은 스레드에서 생성한 키는 정렬순서가 생성순서와 같다")
+    void keygen2() {
+        // given
+        List<String> keys = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            keys.add(keyGenerator.newEarnKey());
+        }
+
+        // then
+        assertThat(keys).isSorted();
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 중복되지 않는다")
+    void keygen3() throws Exception {
+        // given
+        int threads = 8;
+        int perThread = 100_000;
+        Set<String> keys = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        keys.add(keyGenerator.newUseKey());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // then
+        assertThat(keys).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("Snowflake 키는 13자리이며 여러 스레드에서 동시에 생성해도 중복되지 않고, 한 스레드 안에서는 정렬순서가 생성순서와 같다")
+    void keygen4() throws Exception {
+        // given
+        SnowflakePointKeyGenerator snowflake = new SnowflakePointKeyGenerator(7);
+        int threads = 8;
+        int perThread = 100_000;
+        Set<String> keys = ConcurrentHashMap.newKeySet();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    List<String> generated = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        generated.add(snowflake.newEarnKey());
+                    }
+                    return generated;
+                }));
+            }
+
+            // then
+            for (Future<List<String>> future : futures) {
+                List<String> generated = future.get();
+                assertThat(generated).isSorted();
+                keys.addAll(generated);
+            }
+        }
+        assertThat(keys).hasSize(threads * perThread);
+        assertThat(keys).allMatch(key -> key.matches("[0-9a-hjkmnp-tv-z]{13}"));
+    }
+
+    @Test
+    @DisplayName("Snowflake 노드 ID 는 0 ~ 1023 만 허용한다")
+    void keygen5() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakePointKeyGenerator(1024));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakePointKeyGenerator(-1));
+    }
+}
@@ -0,0 +1,163 @@
+package me.jslim.point;
+
+import me.jslim.point.application.dto.*;
+import me.jslim.point.application.service.PointQueryService;
+import me.jslim.point.application.support.PointCommandDispatcher;
+import me.jslim.point.application.support.PointReadCache;
+import me.jslim.point.global.exception.BusinessException;
+import me.jslim.point.global.vo.ResultCode;
+import me.jslim.point.infrastructure.pipeline.ShardedPointCommandPipeline;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+
+@SpringBootTest(properties = {
+        "point.command.mode=pipeline",
+        "point.pipeline.shards=2",
+        "point.pipeline.batch-size=8"
+})
+@DisplayName("명령 파이프라인 (group commit)")
+public class PipelineTest {
+    @Autowired
+    PointCommandDispatcher commandDispatcher;
+
+    @Autowired
+    PointQueryService pointQueryService;
+
+    @SpyBean
+    PointReadCache readCache;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @BeforeEach
+    void resetDb() {
+        jdbc.batchUpdate("""
+            SET REFERENTIAL_INTEGRITY FALSE;
+            TRUNCATE TABLE POINT;
+            TRUNCATE TABLE POINT_EARN;
+            TRUNCATE TABLE POINT_EARN_CANCEL;
+            TRUNCATE TABLE POINT_USE;
+            TRUNCATE TABLE POINT_USE_CANCEL;
+            TRUNCATE TABLE POINT_WALLET;
+            SET REFERENTIAL_INTEGRITY TRUE;
+        """.split(";"));
+    }
+
+    @Test
+    @DisplayName("pipeline 모드에서는 샤드 파이프라인이 명령을 처리한다")
+    void pipeline1() {
+        assertThat(commandDispatcher).isInstanceOf(ShardedPointCommandPipeline.class);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 넣은 명령이 모두 커밋되고, 사용자별 잔액이 맞는다")
+    void pipeline2() throws InterruptedException {
+        // given
+        LocalDate today = LocalDate.now();
+        List<CompletableFuture<EarnResult>> futures = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            String userId = "pipe-" + (i % 4);
+            executor.submit(() -> {
+                CompletableFuture<EarnResult> future = commandDispatcher.earn(new EarnCmd(userId, 10L, null, null), today);
+                synchronized (futures) { futures.add(future); }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // then
+        assertThat(futures).hasSize(200);
+        assertThat(futures).allSatisfy(future -> assertEquals(ResultCode.SUCCESS, future.join().resultCode()));
+        for (int u = 0; u < 4; u++) {
+            assertEquals(500, pointQueryService.balance("pipe-" + u).balanceAmount());
+            assertEquals(500L, jdbc.queryForObject(
+                    "select balance_amount from point_wallet where user_id = ?", Long.class, "pipe-" + u));
+        }
+        assertEquals(200, jdbc.queryForObject("select count(*) from point", Integer.class));
+    }
+
+    @Test
+    @DisplayName("같은 batch 의 명령이 실패해도 다른 명령은 순서대로 반영되고, 실패한 명령만 예외로 완료된다")
+    void pipeline3() {
+        // given
+        LocalDate today = LocalDate.now();
+        commandDispatcher.earn(new EarnCmd("pipe-fail", 1000L, null, null), today).join();
+
+        // when
+        CompletableFuture<UseResult> use1 = commandDispatcher.use(new UseCmd("pipe-fail", 600L, "order-1"), today);
+        CompletableFuture<UseResult> use2 = commandDispatcher.use(new UseCmd("pipe-fail", 600L, "order-2"), today);
+        CompletableFuture<UseResult> use3 = commandDispatcher.use(new UseCmd("pipe-fail", 300L, "order-3"), today);
+
+        // then
+        assertEquals(400, use1.join().balanceAmount());
+        CompletionException failed = assertThrows(CompletionException.class, use2::join);
+        assertThat(failed.getCause()).isInstanceOf(BusinessException.class);
+        assertEquals(ResultCode.WALLET_AMOUNT_ERR, ((BusinessException) failed.getCause()).getResultCode());
+        assertEquals(100, use3.join().balanceAmount());
+        assertEquals(100, pointQueryService.balance("pipe-fail").balanceAmount());
+    }
+
+    @Test
+    @DisplayName("지갑을 변경한 뒤 실패한 명령의 변경은 롤백되고, 같은 batch 의 다른 명령은 커밋된다")
+    void pipeline4() {
+        // given
+        LocalDate today = LocalDate.now();
+        commandDispatcher.earn(new EarnCmd("pipe-rollback", 1000L, null, null), today).join();
+
+        // when (사용취소는 지갑 잔액을 먼저 늘린 뒤 포인트 키를 찾지 못해 실패)
+        CompletableFuture<UseCancelResult> cancel = commandDispatcher.cancelUse(
+                new UseCancelCmd("pipe-rollback", "unknown-point-key", 500L), today);
+        CompletableFuture<EarnResult> earn = commandDispatcher.earn(new EarnCmd("pipe-rollback", 100L, null, null), today);
+
+        // then
+        CompletionException failed = assertThrows(CompletionException.class, cancel::join);
+        assertEquals(ResultCode.UNKNOW_POINT_KEY, ((BusinessException) failed.getCause()).getResultCode());
+        assertEquals(1100, earn.join().balanceAmount());
+        assertEquals(1100L, jdbc.queryForObject(
+                "select balance_amount from point_wallet where user_id = ?", Long.class, "pipe-rollback"));
+        assertEquals(0, jdbc.queryForObject("select count(*) from point_use_cancel", Integer.class));
+    }
+
+    @Test
+    @DisplayName("커밋 후 콜백이 실패해도 이미 커밋된 batch 는 다시 실행하지 않고 커밋된 결과로 완료된다")
+    void pipeline5() {
+        // given (조회 캐시 갱신은 커밋 후 콜백에서 실행)
+        LocalDate today = LocalDate.now();
+        doThrow(new IllegalStateException("조회 캐시 갱신 실패")).when(readCache).refresh(eq("pipe-after-commit"), anyLong());
+
+        // when
+        CompletableFuture<EarnResult> earn = commandDispatcher.earn(new EarnCmd("pipe-after-commit", 100L, null, null), today);
+
+        // then
+        assertEquals(ResultCode.SUCCESS, earn.join().resultCode());
+        assertEquals(100, earn.join().balanceAmount());
+        assertEquals(1, jdbc.queryForObject("select count(*) from point", Integer.class));
+        assertEquals(100L, jdbc.queryForObject(
+                "select balance_amount from point_wallet where user_id = ?", Long.class, "pipe-after-commit"));
+    }
+}
@@ -0,0 +1,49 @@
+package me.jslim.point;
+
+import me.jslim.point.application.support.PolicySnapshot;
+import me.jslim.point.infrastructure.cache.LocalPointPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("정책")
+public class PolicyTest {
+
+    @Test
+    @DisplayName("변경된 정책은 새 스냅샷으로 교체되고, 이전에 읽은 스냅샷은 그대로 유지된다")
+    void policy1() {
+        // given
+        LocalPointPolicy policy = new LocalPointPolicy();
+        PolicySnapshot before = policy.snapshot();
+
+        // when
+        policy.update(PolicySnapshot.MAXIMUM_POINT, "110000");
+
+        // then
+        assertThat(before).isEqualTo(PolicySnapshot.DEFAULT);
+        assertThat(policy.snapshot().maximumPoint()).isEqualTo(110_000L);
+        assertThat(policy.snapshot().defExpireDays()).isEqualTo(PolicySnapshot.DEFAULT.defExpireDays());
+    }
+
+    @Test
+    @DisplayName("숫자가 아닌 정책값은 기본값을 사용한다")
+    void policy2() {
+        // given
+        LocalPointPolicy policy = new LocalPointPolicy();
+
+        // when
+        policy.update(PolicySnapshot.DEF_EXPIRE_DAYS, "ABC");
+
+        // then
+        assertThat(policy.snapshot().defExpireDays()).isEqualTo(365);
+    }
+
+    @Test
+    @DisplayName("정책이 바뀌지 않으면 같은 스냅샷 객체를 반환한다")
+    void policy3() {
+        LocalPointPolicy policy = new LocalPointPolicy();
+
+        assertThat(policy.snapshot()).isSameAs(policy.snapshot());
+    }
+}
@@ -0,0 +1,166 @@
+package me.jslim.point;
+
+import me.jslim.point.application.dto.*;
+import me.jslim.point.application.service.PointCommandService;
+import me.jslim.point.application.service.PointExpireService;
+import me.jslim.point.application.service.PointQueryService;
+import me.jslim.point.application.support.PointReadCache;
+import me.jslim.point.global.exception.BusinessException;
+import me.jslim.point.global.vo.ResultCode;
+import me.jslim.point.infrastructure.cache.LocalPointReadCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@DisplayName("포인트 조회")
+public class QueryTest {
+    @Autowired
+    PointCommandService pointCommandService;
+
+    @Autowired
+    PointQueryService pointQueryService;
+
+    @Autowired
+    PointExpireService pointExpireService;
+
+    @Autowired
+    PointReadCache readCache;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @BeforeEach
+    void resetDb() {
+        jdbc.batchUpdate("""
+            SET REFERENTIAL_INTEGRITY FALSE;
+            TRUNCATE TABLE POINT;
+            TRUNCATE TABLE POINT_EARN;
+            TRUNCATE TABLE POINT_EARN_CANCEL;
+            TRUNCATE TABLE POINT_USE;
+            TRUNCATE TABLE POINT_USE_CANCEL;
+            TRUNCATE TABLE POINT_WALLET;
+            TRUNCATE TABLE WALLET_EXPIRY_BUCKET;
+            TRUNCATE TABLE POINT_EXPIRE_CHECKPOINT;
+            SET REFERENTIAL_INTEGRITY TRUE;
+        """.split(";"));
+    }
+
+    @Test
+    @DisplayName("명령이 커밋되면 조회 캐시의 잔액이 갱신된다")
+    void query1() {
+        // given
+        String userId = "query-user1";
+        LocalDate now = LocalDate.now();
+        pointCommandService.earn(new EarnCmd(userId, 1_000L, null, null), now);
+
+        // when
+        BalanceResult afterEarn = pointQueryService.balance(userId);
+        pointCommandService.use(new UseCmd(userId, 300L, "ABC123"), now);
+        BalanceResult afterUse = pointQueryService.balance(userId);
+
+        // then
+        assertEquals(1_000L, afterEarn.balanceAmount());
+        assertEquals(700L, afterUse.balanceAmount());
+        assertThat(readCache.balance(userId)).contains(afterUse);
+    }
+
+    @Test
+    @DisplayName("캐시에 없으면 DB 에서 읽어 캐시하고, 지갑이 없으면 오류")
+    void query2() {
+        // given
+        String userId = "query-user2";
+        pointCommandService.earn(new EarnCmd(userId, 1_000L, null, null), LocalDate.now());
+        readCache.evict(userId);
+
+        // when
+        BalanceResult balance = pointQueryService.balance(userId);
+
+        // then
+        assertEquals(1_000L, balance.balanceAmount());
+        assertThat(readCache.balance(userId)).contains(balance);
+        BusinessException e = assertThrows(BusinessException.class, () -> pointQueryService.balance("query-unknown"));
+        assertEquals(ResultCode.WALLET_NOT_FOUND, e.getResultCode());
+    }
+
+    @Test
+    @DisplayName("만료예정 포인트는 기간내 사용가능 잔액을 만료일별로 합산하고, 명령 후 다시 계산한다")
+    void query3() {
+        // given
+        String userId = "query-user3";
+        LocalDate now = LocalDate.now();
+        String in5 = now.plusDays(5).format(DateTimeFormatter.BASIC_ISO_DATE);
+        String in20 = now.plusDays(20).format(DateTimeFormatter.BASIC_ISO_DATE);
+        pointCommandService.earn(new EarnCmd(userId, 1_000L, null, in5), now);
+        pointCommandService.earn(new EarnCmd(userId, 500L, null, in5), now);
+        pointCommandService.earn(new EarnCmd(userId, 2_000L, null, in20), now);
+        pointCommandService.earn(new EarnCmd(userId, 3_000L, null, null), now);
+
+        // when
+        ExpiringResult in10Days = pointQueryService.expiring(userId, 10, now);
+        ExpiringResult in30Days = pointQueryService.expiring(userId, 30, now);
+        pointCommandService.use(new UseCmd(userId, 1_200L, "ABC123"), now);
+        ExpiringResult afterUse = pointQueryService.expiring(userId, 30, now);
+
+        // then
+        assertEquals(1_500L, in10Days.totalAmount());
+        assertThat(in10Days.buckets()).containsExactly(new ExpiringResult.Bucket(now.plusDays(5), 1_500L));
+        assertEquals(3_500L, in30Days.totalAmount());
+        assertThat(afterUse.buckets()).containsExactly(
+                new ExpiringResult.Bucket(now.plusDays(5), 300L),
+                new ExpiringResult.Bucket(now.plusDays(20), 2_000L));
+        BusinessException e = assertThrows(BusinessException.class, () -> pointQueryService.expiring(userId, 0, now));
+        assertEquals(ResultCode.QUERY_DAYS_ERROR, e.getResultCode());
+    }
+
+    @Test
+    @DisplayName("만료작업이 커밋되면 조회 캐시를 비워 만료된 잔액을 보여주지 않는다")
+    void query4() {
+        // given
+        String userId = "query-user4";
+        LocalDate earnDate = LocalDate.now().minusDays(10);
+        String expire = earnDate.plusDays(1).format(DateTimeFormatter.BASIC_ISO_DATE);
+        pointCommandService.earn(new EarnCmd(userId, 1_000L, null, expire), earnDate);
+        pointCommandService.earn(new EarnCmd(userId, 500L, null, null), earnDate);
+        assertEquals(1_500L, pointQueryService.balance(userId).balanceAmount());
+
+        // when
+        pointExpireService.findActiveExpiring(LocalDate.now());
+
+        // then
+        assertEquals(500L, pointQueryService.balance(userId).balanceAmount());
+    }
+
+    @Test
+    @DisplayName("DB 조회중 명령이 커밋되었다면 조회 결과로 캐시를 덮어쓰지 않는다")
+    void query5() {
+        // given
+        LocalPointReadCache cache = new LocalPointReadCache(2, 1);
+        long before = cache.generation("a");
+
+        // when (조회중 명령 커밋)
+        cache.refresh("a", 700L);
+        cache.fillBalance("a", before, new BalanceResult("a", 1_000L));
+
+        // then
+        assertThat(cache.balance("a")).contains(new BalanceResult("a", 700L));
+
+        // LRU 로 제거된 뒤에도 제거 전에 읽은 세대로는 채우지 못함
+        long stale = cache.generation("b");
+        cache.evict("b");
+        cache.refresh("c", 1L);
+        cache.refresh("d", 1L);
+        cache.fillBalance("b", stale, new BalanceResult("b", 1_000L));
+        assertThat(cache.balance("b")).isEmpty();
+    }
+}
@@ -0,0 +1,137 @@
+package me.jslim.point;
+
+import jakarta.persistence.EntityManagerFactory;
+import me.jslim.point.application.dto.EarnCmd;
+import me.jslim.point.application.dto.UseCancelCmd;
+import me.jslim.point.application.dto.UseCmd;
+import me.jslim.point.application.dto.UseResult;
+import me.jslim.point.application.service.PointCommandService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn"
+})
+@DisplayName("SQL 실행 횟수")
+public class StatementCountTest {
+    @Autowired
+    PointCommandService pointCommandService;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void resetDb() {
+        jdbc.batchUpdate("""
+            SET REFERENTIAL_INTEGRITY FALSE;
+            TRUNCATE TABLE POINT;
+            TRUNCATE TABLE POINT_EARN;
+            TRUNCATE TABLE POINT_EARN_CANCEL;
+            TRUNCATE TABLE POINT_USE;
+            TRUNCATE TABLE POINT_USE_CANCEL;
+            TRUNCATE TABLE POINT_WALLET;
+            TRUNCATE TABLE POINT_IDEMPOTENCY;
+            SET REFERENTIAL_INTEGRITY TRUE;
+        """.split(";"));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("신규 엔티티 저장시 INSERT 전에 SELECT 하지 않는다")
+    void statement1() {
+        // given
+        LocalDate now = LocalDate.now();
+        pointCommandService.earn(new EarnCmd("jslim", 1_000L, null, null), now);
+        statistics.clear();
+
+        // when
+        pointCommandService.earn(new EarnCmd("jslim", 1_000L, null, null), now);
+
+        // then
+        // 지갑 조회, 지갑 UPDATE, POINT INSERT, POINT_EARN INSERT, 만료일 합계 MERGE (INSERT 전 SELECT 없음)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("사용시 차감되는 적립건 수와 관계없이 실행되는 SQL 수는 일정하다")
+    void statement2() {
+        // when
+        long oneEarn = useStatementCount("user1", 1);
+        long manyEarns = useStatementCount("user40", 40);
+
+        // then
+        assertThat(manyEarns).isEqualTo(oneEarn);
+    }
+
+    @Test
+    @DisplayName("사용취소시 사용한 적립건 수와 관계없이 실행되는 SQL 수는 일정하다")
+    void statement3() {
+        // when
+        long oneEarn = useCancelStatementCount("user1", 1);
+        long manyEarns = useCancelStatementCount("user40", 40);
+
+        // then
+        assertThat(manyEarns).isEqualTo(oneEarn);
+    }
+
+    @Test
+    @DisplayName("멱등키 재요청은 SQL 을 실행하지 않고 처음 결과로 응답한다")
+    void statement4() {
+        // given
+        LocalDate now = LocalDate.now();
+        pointCommandService.earn(new EarnCmd("jslim", 1_000L, null, null), now);
+        UseCmd useCmd = new UseCmd("jslim", 300L, "ABC123", "retry-statement-4");
+        UseResult first = pointCommandService.use(useCmd, now);
+        statistics.clear();
+
+        // when
+        UseResult retry = pointCommandService.use(useCmd, now);
+
+        // then
+        assertThat(retry).isEqualTo(first);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    /** earnCount 건의 적립을 모두 차감하는 사용 1건의 PreparedStatement 수 */
+    private long useStatementCount(String userId, int earnCount) {
+        LocalDate now = LocalDate.now();
+        for (int i = 0; i < earnCount; i++) {
+            pointCommandService.earn(new EarnCmd(userId, 1_000L, null, null), now);
+        }
+        statistics.clear();
+
+        pointCommandService.use(new UseCmd(userId, earnCount * 1_000L - 500L, "ABC123"), now);
+        return statistics.getPrepareStatementCount();
+    }
+
+    /** earnCount 건의 적립을 사용한 사용 1건을 전액 사용취소하는 PreparedStatement 수 */
+    private long useCancelStatementCount(String userId, int earnCount) {
+        LocalDate now = LocalDate.now();
+        for (int i = 0; i < earnCount; i++) {
+            pointCommandService.earn(new EarnCmd(userId, 1_000L, null, null), now);
+        }
+        long useAmount = earnCount * 1_000L - 500L;
+        UseResult useResult = pointCommandService.use(new UseCmd(userId, useAmount, "ABC123"), now);
+        statistics.clear();
+
+        pointCommandService.cancelUse(new UseCancelCmd(userId, useResult.pointKey(), useAmount), now);
+        return statistics.getPrepareStatementCount();
+    }
+}
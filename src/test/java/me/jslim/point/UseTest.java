@@ -5,7 +5,9 @@ import me.jslim.point.application.dto.EarnResult;
 import me.jslim.point.application.dto.UseCmd;
 import me.jslim.point.application.dto.UseResult;
 import me.jslim.point.application.service.PointCommandService;
+import me.jslim.point.domain.entity.PointEarn;
 import me.jslim.point.domain.entity.PointUse;
+import me.jslim.point.domain.repository.PointEarnRepository;
 import me.jslim.point.domain.repository.PointUseRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +17,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,6 +32,9 @@ public class UseTest {
     @Autowired
     PointUseRepository useRepo;
 
+    @Autowired
+    PointEarnRepository earnRepo;
+
     @Autowired
     JdbcTemplate jdbc;
 
@@ -114,4 +121,59 @@ public class UseTest {
         assertThat(pointUseList2.getFirst().getAmount()).isEqualTo(9_000);
         assertThat(pointUseList2.get(1).getAmount()).isEqualTo(11_000L);
     }
+
+    @Test
+    @DisplayName("사용할 금액을 채우는 적립건만 조회하여 사용 순서대로 차감한다")
+    void use3() {
+        // given (100원 적립 60건)
+        String userId = "jslim";
+        LocalDate now = LocalDate.now();
+        for (int i = 0; i < 60; i++) {
+            pointCommandService.earn(new EarnCmd(userId, 100L, null, null), now);
+        }
+        String walletKey = jdbc.queryForObject("SELECT WALLET_KEY FROM POINT_WALLET WHERE USER_ID = ?", String.class, userId);
+
+        // when
+        List<PointEarn> toCover = earnRepo.findEarnsToCover(walletKey, now, 5_050L);
+        UseResult useResult = pointCommandService.use(new UseCmd(userId, 5_050L, "ABC123"), now);
+
+        // then (50건 전액 + 51번째 적립 50원)
+        assertThat(toCover).hasSize(51);
+        assertThat(useResult.balanceAmount()).isEqualTo(950L);
+        List<PointUse> uses = useRepo.findAllByPointKey(useResult.pointKey());
+        assertThat(uses).hasSize(51);
+        assertThat(uses.stream().mapToLong(PointUse::getAmount).sum()).isEqualTo(5_050L);
+        assertThat(earnRepo.findEarnsToCover(walletKey, now, 1L)).hasSize(1)
+                .allSatisfy(earn -> assertThat(earn.getEranBalanceAmount()).isEqualTo(50L));
+    }
+
+    @Test
+    @DisplayName("사용가능 적립 keyset 페이징은 관리자 적립과 일반 적립 경계를 넘어 순서대로 이어서 조회한다")
+    void use4() {
+        // given
+        String userId = "jslim";
+        LocalDate now = LocalDate.now();
+        for (int i = 1; i <= 3; i++) {
+            String expire = now.plusDays(10 - i).format(DateTimeFormatter.BASIC_ISO_DATE);
+            pointCommandService.earn(new EarnCmd(userId, 100L, null, expire), now);
+            pointCommandService.earn(new EarnCmd(userId, 100L, "EARN_MANUAL", expire), now);
+        }
+        String walletKey = jdbc.queryForObject("SELECT WALLET_KEY FROM POINT_WALLET WHERE USER_ID = ?", String.class, userId);
+
+        // when (2건씩)
+        List<PointEarn> paged = new ArrayList<>();
+        List<PointEarn> page = earnRepo.findAvailableEarns(walletKey, now, null, null, null, 2);
+        while (!page.isEmpty()) {
+            paged.addAll(page);
+            PointEarn last = page.getLast();
+            page = earnRepo.findAvailableEarns(walletKey, now, last.isManual(), last.getExpireDate(), last.getEarnKey(), 2);
+        }
+
+        // then
+        List<String> expected = earnRepo.findEarnsToCover(walletKey, now, Long.MAX_VALUE).stream()
+                .map(PointEarn::getEarnKey).toList();
+        assertThat(paged).extracting(PointEarn::getEarnKey).containsExactlyElementsOf(expected);
+        assertThat(paged).extracting(PointEarn::isManual).containsExactly(true, true, true, false, false, false);
+        assertThat(paged.get(0).getExpireDate()).isBefore(paged.get(1).getExpireDate());
+    }
 }
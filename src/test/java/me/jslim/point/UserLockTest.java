@@ -0,0 +1,233 @@
+package me.jslim.point;
+
+import me.jslim.point.global.exception.BusinessException;
+import me.jslim.point.global.vo.ResultCode;
+import me.jslim.point.infrastructure.lock.LocalUserLockRunner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("유저 락")
+public class UserLockTest {
+
+    @Test
+    @DisplayName("stripe 개수는 설정값 이상의 2의 제곱수로 고정된다")
+    void lock1() {
+        assertThat(new LocalUserLockRunner(1, Duration.ZERO).stripeCount()).isEqualTo(1);
+        assertThat(new LocalUserLockRunner(1000, Duration.ZERO).stripeCount()).isEqualTo(1024);
+        assertThat(new LocalUserLockRunner(4096, Duration.ZERO).stripeCount()).isEqualTo(4096);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 요청은 순차적으로 실행된다")
+    void lock2() throws InterruptedException {
+        // given
+        LocalUserLockRunner runner = new LocalUserLockRunner(16, Duration.ZERO);
+        int[] counter = {0};
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            executor.submit(() -> runner.run("jslim", () -> counter[0]++));
+        }
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+
+        // then
+        assertThat(counter[0]).isEqualTo(10_000);
+    }
+
+    @Test
+    @Tag("stress")
+    @DisplayName("천만명의 서로 다른 사용자가 락을 사용해도 힙 사용량이 늘어나지 않는다")
+    void lock3() {
+        // given
+        LocalUserLockRunner runner = new LocalUserLockRunner(4096, Duration.ZERO);
+        for (int i = 0; i < 100_000; i++) {
+            runner.run("warmup-" + i, () -> null);
+        }
+        long before = usedHeapAfterGc();
+
+        // when
+        for (int i = 0; i < 10_000_000; i++) {
+            runner.run("user-" + i, () -> null);
+        }
+        long after = usedHeapAfterGc();
+
+        // then
+        assertThat(runner.stripeCount()).isEqualTo(4096);
+        assertThat(after - before).isLessThan(32L * 1024 * 1024); // 사용자당 락을 유지한다면 수백MB 이상 증가
+    }
+
+    @Test
+    @DisplayName("락 대기시간을 초과하면 USER_LOCK_TIMEOUT 으로 실패하고, 경합 지표에 기록된다")
+    void lock4() throws InterruptedException {
+        // given
+        LocalUserLockRunner runner = new LocalUserLockRunner(16, Duration.ofMillis(50));
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> runner.run("jslim", () -> {
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        holder.start();
+        locked.await();
+
+        // when
+        BusinessException exception = assertThrows(BusinessException.class, () -> runner.run("jslim", () -> null));
+        var stats = runner.stats(10);
+        release.countDown();
+        holder.join();
+
+        // then
+        assertThat(exception.getResultCode()).isEqualTo(ResultCode.USER_LOCK_TIMEOUT);
+        assertThat(stats.timeouts()).isEqualTo(1);
+        assertThat(stats.hotLocks()).hasSize(1);
+        assertThat(stats.hotLocks().getFirst().holderUserId()).isEqualTo("jslim");
+        assertThat(stats.hotUsers()).hasSize(1);
+        assertThat(stats.hotUsers().getFirst().userId()).isEqualTo("jslim");
+        assertThat(stats.hotUsers().getFirst().timeouts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("경합 없는 획득도 대기시간 분포에 기록되고, 대기 중 인터럽트는 타임아웃과 따로 집계된다")
+    void lock5() throws InterruptedException {
+        // given
+        LocalUserLockRunner runner = new LocalUserLockRunner(16, Duration.ZERO);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> runner.run("jslim", () -> {
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        holder.start();
+        locked.await();
+
+        ResultCode[] resultCode = new ResultCode[1];
+        Thread waiter = new Thread(() -> {
+            try {
+                runner.run("jslim", () -> null);
+            } catch (BusinessException e) {
+                resultCode[0] = e.getResultCode();
+            }
+        });
+
+        // when
+        waiter.start();
+        while (runner.stats(10).hotLocks().isEmpty()) {
+            Thread.onSpinWait();
+        }
+        waiter.interrupt();
+        waiter.join();
+        release.countDown();
+        holder.join();
+        var stats = runner.stats(10);
+
+        // then
+        assertThat(resultCode[0]).isEqualTo(ResultCode.USER_LOCK_INTERRUPTED);
+        assertThat(stats.interrupts()).isEqualTo(1);
+        assertThat(stats.timeouts()).isZero();
+        assertThat(stats.acquired()).isEqualTo(1);
+        assertThat(stats.waitTimeHistogram().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(2);
+        assertThat(stats.hotUsers().getFirst().userId()).isEqualTo("jslim");
+        assertThat(stats.hotUsers().getFirst().waits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("runAll 은 모든 사용자의 락을 잡은 뒤 실행하고, 끝나면 모두 해제한다")
+    void lock6() throws InterruptedException {
+        // given
+        LocalUserLockRunner runner = new LocalUserLockRunner(4096, Duration.ofMillis(50));
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> runner.runAll(List.of("user-a", "user-b", "user-c"), () -> {
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        holder.start();
+        locked.await();
+
+        // when
+        BusinessException exception = assertThrows(BusinessException.class, () -> runner.run("user-b", () -> null));
+        release.countDown();
+        holder.join();
+
+        // then
+        assertThat(exception.getResultCode()).isEqualTo(ResultCode.USER_LOCK_TIMEOUT);
+        assertThat(runner.run("user-a", () -> "free")).isEqualTo("free");
+        assertThat(runner.run("user-c", () -> "free")).isEqualTo("free");
+    }
+
+    @Test
+    @DisplayName("겹치는 사용자를 다른 순서로 runAll 해도 교착되지 않는다")
+    void lock7() throws InterruptedException {
+        // given
+        LocalUserLockRunner runner = new LocalUserLockRunner(16, Duration.ZERO);
+        int[] counter = {0};
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            List<String> users = i % 2 == 0 ? List.of("a", "b", "c") : List.of("c", "b", "a");
+            executor.submit(() -> runner.runAll(users, () -> counter[0]++));
+            executor.submit(() -> runner.run("b", () -> counter[0]++));
+        }
+        executor.shutdown();
+        boolean finished = executor.awaitTermination(30, TimeUnit.SECONDS);
+
+        // then
+        assertThat(finished).isTrue();
+        assertThat(counter[0]).isEqualTo(20_000);
+    }
+
+    @Test
+    @DisplayName("서로 다른 사용자가 늘어나도 stripe 개수는 그대로이고, 모든 사용자는 그 안의 stripe 를 사용한다")
+    void lock8() {
+        // given
+        LocalUserLockRunner runner = new LocalUserLockRunner(64, Duration.ZERO);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            String userId = "user-" + i;
+            runner.run(userId, () -> null);
+            assertThat(runner.stripeOf(userId)).isBetween(0, 63);
+        }
+
+        // then
+        assertThat(runner.stripeCount()).isEqualTo(64);
+        assertThat(runner.stats(10).acquired()).isEqualTo(10_000);
+    }
+
+    private long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
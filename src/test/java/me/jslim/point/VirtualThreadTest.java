@@ -0,0 +1,117 @@
+package me.jslim.point;
+
+import me.jslim.point.application.support.PinningStats;
+import me.jslim.point.infrastructure.lock.LocalUserLockRunner;
+import me.jslim.point.infrastructure.monitor.JfrPinningMonitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("가상 스레드")
+public class VirtualThreadTest {
+    private static final Object MONITOR = new Object();
+
+    JfrPinningMonitor pinningMonitor;
+
+    @BeforeEach
+    void startMonitor() {
+        pinningMonitor = new JfrPinningMonitor(true, Duration.ofMillis(10));
+        pinningMonitor.start();
+    }
+
+    @AfterEach
+    void stopMonitor() {
+        pinningMonitor.stop();
+    }
+
+    @Test
+    @DisplayName("synchronized 안에서 대기한 가상 스레드는 pinning 으로 집계되고, 발생 위치가 기록된다")
+    void virtual1() throws InterruptedException {
+        // when
+        Thread.ofVirtual().start(VirtualThreadTest::pinCarrier).join();
+        PinningStats stats = awaitPinned(1);
+
+        // then
+        assertThat(stats.monitoring()).isTrue();
+        assertThat(stats.pinnedEvents()).isEqualTo(1);
+        assertThat(stats.maxPinnedMillis()).isGreaterThanOrEqualTo(10);
+        assertThat(stats.hotSites()).hasSize(1);
+        assertThat(stats.hotSites().getFirst().appFrame()).contains("VirtualThreadTest.pinCarrier");
+    }
+
+    @Test
+    @DisplayName("만명의 가상 스레드가 USER LOCK 을 기다려도 carrier 스레드를 점유하지 않는다")
+    void virtual2() throws InterruptedException {
+        // given
+        LocalUserLockRunner runner = new LocalUserLockRunner(4096, Duration.ZERO);
+        AtomicLongArray counters = new AtomicLongArray(1000);
+
+        // when (사용자 1천명에게 10,000개 요청, 락 안에서 DB I/O 대신 sleep)
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10_000; i++) {
+                int user = i % 1000;
+                executor.submit(() -> runner.run("user-" + user, () -> {
+                    sleep(20);
+                    return counters.incrementAndGet(user);
+                }));
+            }
+        }
+        // 이벤트 전달 확인용으로 pinning 1건 발생
+        Thread.ofVirtual().start(VirtualThreadTest::pinCarrier).join();
+        PinningStats stats = awaitPinned(1);
+
+        // then
+        for (int user = 0; user < 1000; user++) {
+            assertThat(counters.get(user)).isEqualTo(10);
+        }
+        assertThat(stats.pinnedEvents()).isEqualTo(1);
+        assertThat(stats.hotSites()).allSatisfy(site -> assertThat(site.appFrame()).doesNotContain("LocalUserLockRunner"));
+    }
+
+    @Test
+    @DisplayName("가상 스레드 모드가 아니면 pinning 을 수집하지 않는다")
+    void virtual3() {
+        JfrPinningMonitor disabled = new JfrPinningMonitor(false, Duration.ofMillis(10));
+        disabled.start();
+
+        PinningStats stats = disabled.stats(10);
+
+        assertThat(stats.virtualThreads()).isFalse();
+        assertThat(stats.monitoring()).isFalse();
+        disabled.stop();
+    }
+
+    private static void pinCarrier() {
+        synchronized (MONITOR) {
+            sleep(50);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** JFR 이벤트는 비동기로 전달되므로 최대 10초 대기 **/
+    private PinningStats awaitPinned(long events) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        PinningStats stats = pinningMonitor.stats(10);
+        while (stats.pinnedEvents() < events && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+            stats = pinningMonitor.stats(10);
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,143 @@
+package me.jslim.point;
+
+import me.jslim.point.application.dto.*;
+import me.jslim.point.application.service.PointCommandService;
+import me.jslim.point.application.support.WalletCacheStats;
+import me.jslim.point.application.support.WalletKeyCache;
+import me.jslim.point.global.exception.BusinessException;
+import me.jslim.point.infrastructure.cache.LocalWalletKeyCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@DisplayName("지갑 키 캐시")
+public class WalletCacheTest {
+    @Autowired
+    PointCommandService pointCommandService;
+
+    @Autowired
+    WalletKeyCache walletKeyCache;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @BeforeEach
+    void resetDb() {
+        jdbc.batchUpdate("""
+            SET REFERENTIAL_INTEGRITY FALSE;
+            TRUNCATE TABLE POINT;
+            TRUNCATE TABLE POINT_EARN;
+            TRUNCATE TABLE POINT_EARN_CANCEL;
+            TRUNCATE TABLE POINT_USE;
+            TRUNCATE TABLE POINT_USE_CANCEL;
+            TRUNCATE TABLE POINT_WALLET;
+            SET REFERENTIAL_INTEGRITY TRUE;
+        """.split(";"));
+    }
+
+    @Test
+    @DisplayName("커밋된 지갑은 캐시되고, 이후 명령은 캐시된 지갑 키로 최신 잔액을 읽는다")
+    void cache1() {
+        // given
+        String userId = "cache-user1";
+        LocalDate now = LocalDate.now();
+        pointCommandService.earn(new EarnCmd(userId, 1_000L, null, null), now);
+        long hits = walletKeyCache.stats().hits();
+
+        // when
+        EarnResult earnResult = pointCommandService.earn(new EarnCmd(userId, 2_000L, null, null), now);
+        UseResult useResult = pointCommandService.use(new UseCmd(userId, 500L, "ABC123"), now);
+
+        // then
+        assertThat(walletKeyCache.get(userId)).isPresent();
+        assertThat(walletKeyCache.stats().hits()).isGreaterThanOrEqualTo(hits + 2);
+        assertThat(earnResult.balanceAmount()).isEqualTo(3_000L);
+        assertThat(useResult.balanceAmount()).isEqualTo(2_500L);
+    }
+
+    @Test
+    @DisplayName("지갑 생성이 롤백되면 캐시하지 않는다")
+    void cache2() {
+        // given
+        String userId = "cache-user2";
+        LocalDate now = LocalDate.now();
+
+        // when
+        assertThrows(BusinessException.class, () -> pointCommandService.earn(new EarnCmd(userId, 0L, null, null), now));
+
+        // then
+        assertThat(walletKeyCache.get(userId)).isEmpty();
+        EarnResult earnResult = pointCommandService.earn(new EarnCmd(userId, 1_000L, null, null), now);
+        assertThat(earnResult.balanceAmount()).isEqualTo(1_000L);
+    }
+
+    @Test
+    @DisplayName("잔액 변경 후 롤백된 명령의 잔액은 다음 명령에 남지 않는다")
+    void cache3() {
+        // given
+        String userId = "cache-user3";
+        LocalDate now = LocalDate.now();
+        pointCommandService.earn(new EarnCmd(userId, 1_000L, null, null), now);
+        UseResult useResult = pointCommandService.use(new UseCmd(userId, 500L, "ABC123"), now);
+
+        // when (지갑 잔액 반영 후 포인트 키를 찾지 못해 롤백)
+        assertThrows(BusinessException.class,
+                () -> pointCommandService.cancelUse(new UseCancelCmd(userId, "UNKNOWN", 300L), now));
+        UseResult next = pointCommandService.use(new UseCmd(userId, 100L, "ABC124"), now);
+
+        // then
+        assertThat(useResult.balanceAmount()).isEqualTo(500L);
+        assertThat(next.balanceAmount()).isEqualTo(400L);
+    }
+
+    @Test
+    @DisplayName("캐시된 지갑이 없어졌다면 사용자 ID 로 다시 조회한다")
+    void cache4() {
+        // given
+        String userId = "cache-user4";
+        LocalDate now = LocalDate.now();
+        pointCommandService.earn(new EarnCmd(userId, 1_000L, null, null), now);
+        String cachedKey = walletKeyCache.get(userId).orElseThrow();
+        resetDb();
+
+        // when
+        EarnResult earnResult = pointCommandService.earn(new EarnCmd(userId, 2_000L, null, null), now);
+
+        // then
+        assertThat(earnResult.balanceAmount()).isEqualTo(2_000L);
+        assertThat(walletKeyCache.get(userId)).isPresent().get().isNotEqualTo(cachedKey);
+    }
+
+    @Test
+    @DisplayName("최대 건수를 넘으면 가장 오래 사용하지 않은 항목을 제거한다")
+    void cache5() {
+        // given
+        LocalWalletKeyCache cache = new LocalWalletKeyCache(2, 1);
+        cache.put("a", "W-a");
+        cache.put("b", "W-b");
+        cache.get("a");
+
+        // when
+        cache.put("c", "W-c");
+
+        // then
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("a")).contains("W-a");
+        assertThat(cache.get("c")).contains("W-c");
+
+        WalletCacheStats stats = cache.stats();
+        assertThat(stats.size()).isEqualTo(2);
+        assertThat(stats.evictions()).isEqualTo(1);
+        assertThat(stats.hits()).isEqualTo(3);
+        assertThat(stats.misses()).isEqualTo(1);
+    }
+}